@@ -0,0 +1,23 @@
+package com.sssukho.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * WebFlux + R2DBC 진입점
+ * - JPA 어댑터(com.sssukho.infra)는 classpath 에 없고 R2DBC 어댑터만 스캔
+ */
+@SpringBootApplication(
+	scanBasePackages = {"com.sssukho.reactive", "com.sssukho.infra.r2dbc"}
+)
+@ConfigurationPropertiesScan(basePackages = {"com.sssukho.reactive", "com.sssukho.infra.r2dbc"})
+@EnableScheduling
+public class ReactiveApiApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveApiApplication.class, args);
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.sssukho.reactive.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.common.dto.common.ErrorResponseMessage;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.reactive.security.JwtAuthenticationWebFilter;
+import com.sssukho.reactive.security.JwtTokenProvider;
+import com.sssukho.reactive.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .logout(ServerHttpSecurity.LogoutSpec::disable)
+            // 세션 없이 요청마다 토큰으로 인증
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            .authorizeExchange(auth -> auth
+                .pathMatchers("/auth/signout").authenticated()
+                .pathMatchers("/auth/**").permitAll()
+                .anyExchange().authenticated()
+            )
+            .exceptionHandling(exception -> exception
+                .authenticationEntryPoint(new CustomAuthenticationEntryPoint())
+            )
+            .addFilterAt(new JwtAuthenticationWebFilter(tokenProvider, tokenRevocationList),
+                SecurityWebFiltersOrder.AUTHENTICATION)
+            .build();
+    }
+
+    static class CustomAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+        private final static ObjectMapper objectMapper = new ObjectMapper();
+
+        @Override
+        public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException ex) {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+            ErrorResponseMessage responseBody = ErrorResponseMessage.create(ErrorCode.UNAUTHORIZED);
+
+            try {
+                DataBuffer buffer = response.bufferFactory()
+                    .wrap(objectMapper.writeValueAsBytes(responseBody));
+                return response.writeWith(Mono.just(buffer));
+            } catch (JsonProcessingException e) {
+                return Mono.error(e);
+            }
+        }
+    }
+
+}
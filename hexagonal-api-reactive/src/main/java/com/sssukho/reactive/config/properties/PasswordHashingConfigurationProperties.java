@@ -0,0 +1,14 @@
+package com.sssukho.reactive.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "password-hashing")
+public record PasswordHashingConfigurationProperties(
+    int threads,
+    int queueCapacity,
+    Duration timeout,
+    int strength
+) {
+
+}
@@ -0,0 +1,69 @@
+package com.sssukho.reactive.controller;
+
+import com.sssukho.common.dto.auth.RefreshTokenRequest;
+import com.sssukho.common.dto.auth.SignInRequest;
+import com.sssukho.common.dto.auth.SignInResponse;
+import com.sssukho.common.dto.auth.SignUpRequest;
+import com.sssukho.common.dto.auth.SignupResponse;
+import com.sssukho.common.dto.common.ResponseMessage;
+import com.sssukho.reactive.service.AuthService;
+import jakarta.validation.Valid;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthService authService;
+
+    @PostMapping("/signup")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseMessage<SignupResponse>> signUp(@Valid @RequestBody SignUpRequest request) {
+        return authService.signUp(request).map(ResponseMessage::create);
+    }
+
+    @PostMapping("/signin")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseMessage<SignInResponse>> signIn(@Valid @RequestBody SignInRequest request) {
+        return authService.signIn(request).map(ResponseMessage::create);
+    }
+
+    @PostMapping("/refresh")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<ResponseMessage<SignInResponse>> refreshToken(
+        @Valid @RequestBody RefreshTokenRequest request) {
+
+        return authService.refreshToken(request).map(ResponseMessage::create);
+    }
+
+    /**
+     * 로그아웃
+     * - 요청에 사용한 액세스 토큰을 폐기하고, 본문에 refresh token 이 있으면 함께 폐기
+     */
+    @PostMapping("/signout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> signOut(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+        @RequestBody(required = false) Mono<RefreshTokenRequest> request) {
+
+        String accessToken = authorization.startsWith(BEARER_PREFIX)
+            ? authorization.substring(BEARER_PREFIX.length()) : authorization;
+        return request.mapNotNull(RefreshTokenRequest::refreshToken)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .flatMap(refreshToken -> authService.signOut(accessToken, refreshToken.orElse(null)));
+    }
+
+}
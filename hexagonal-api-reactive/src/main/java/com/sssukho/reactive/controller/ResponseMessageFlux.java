@@ -0,0 +1,49 @@
+package com.sssukho.reactive.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 목록 응답을 항목을 받는 대로 ResponseMessage 형식 ({"data":[...]}) 으로 쓰는 본문
+ * - 목록을 만들지 않으므로 항목 수와 관계없이 메모리 사용량이 일정
+ * - 시작 부분은 첫 항목과 함께 쓰므로 첫 항목 전에 실패하면 일반 오류 응답으로 처리됨
+ */
+final class ResponseMessageFlux {
+
+    private static final byte[] LIST_PREFIX = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LIST_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EMPTY_LIST = "{\"data\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    private ResponseMessageFlux() {
+    }
+
+    static <T> Flux<DataBuffer> json(ObjectMapper objectMapper, Flux<T> items) {
+        ObjectWriter itemWriter = objectMapper.writer();
+        AtomicBoolean written = new AtomicBoolean(false);
+
+        Flux<DataBuffer> body = items.handle((item, sink) -> {
+            byte[] json;
+            try {
+                json = itemWriter.writeValueAsBytes(item);
+            } catch (JsonProcessingException e) {
+                sink.error(new EncodingException("Failed to encode item", e));
+                return;
+            }
+            byte[] separator = written.getAndSet(true) ? new byte[]{','} : LIST_PREFIX;
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(
+                separator.length + json.length);
+            sink.next(buffer.write(separator).write(json));
+        });
+
+        return body.concatWith(Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance
+            .wrap(written.get() ? LIST_SUFFIX : EMPTY_LIST)));
+    }
+}
@@ -0,0 +1,166 @@
+package com.sssukho.reactive.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.common.dto.common.ResponseMessage;
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomCursor;
+import com.sssukho.common.dto.room.RoomRegistrationRequest;
+import com.sssukho.common.dto.room.RoomResponse;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.common.dto.room.RoomUpdateRequest;
+import com.sssukho.reactive.service.RoomService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * blocking API 의 RoomController 와 같은 경로/파라미터
+ * - 일괄 등록, 가져오기/내보내기, ETag, CBOR/Smile 은 blocking API 에서만 제공
+ */
+@RestController
+@RequestMapping("/rooms")
+@RequiredArgsConstructor
+public class RoomController {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final RoomService roomService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내방 등록
+     */
+    @PostMapping
+    @ResponseStatus(code = HttpStatus.OK)
+    public Mono<ResponseMessage<RoomResponse>> registerRoom(
+        @Valid @RequestBody RoomRegistrationRequest request) {
+
+        return roomService.register(request).map(ResponseMessage::create);
+    }
+
+    /**
+     * 내방 삭제
+     */
+    @DeleteMapping("/{id}")
+    @ResponseStatus(code = HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteRoom(@PathVariable("id") @NotNull Long id) {
+        return roomService.deleteMyRoom(id);
+    }
+
+    /**
+     * 내방 수정 (PATCH)
+     * - 변경이 필요한 데이터만 있음
+     */
+    @PatchMapping("/{id}")
+    @ResponseStatus(code = HttpStatus.OK)
+    public Mono<ResponseMessage<RoomResponse>> updateRoom(
+        @PathVariable("id") @NotNull Long id,
+        @Valid @RequestBody RoomUpdateRequest request) {
+
+        return roomService.updateMyRoom(id, request).map(ResponseMessage::create);
+    }
+
+    /**
+     * 내방 단건 조회
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseMessage<RoomResponse>> findMyRoom(@PathVariable("id") @NotNull Long id) {
+        return roomService.findMyRoom(id).map(ResponseMessage::create);
+    }
+
+    /**
+     * 내방 여러 건 조회 (최대 100건)
+     * - 없거나 내 방이 아닌 id 는 결과에서 제외하고 요청한 순서대로 반환
+     */
+    @GetMapping(params = "ids")
+    public Mono<ResponseMessage<List<RoomResponse>>> findMyRoomsByIds(
+        @RequestParam(name = "ids") @Size(max = 100) List<Long> ids) {
+
+        return roomService.findMyRoomsByIds(ids).map(ResponseMessage::create);
+    }
+
+    /**
+     * 내방 전체 목록 조회 (cursor, size 가 모두 없는 경우, 기존 클라이언트 호환)
+     * - 목록 크기에 제한이 없으므로 DB 에서 읽는 대로 응답에 씀 (목록을 메모리에 만들지 않음)
+     */
+    @GetMapping(value = "/my", params = {"!cursor", "!size"})
+    public ResponseEntity<Flux<DataBuffer>> findAllMyRooms() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+            .body(ResponseMessageFlux.json(objectMapper, roomService.findAllMyRooms()));
+    }
+
+    /**
+     * 내방 목록 조회 (cursor 방식)
+     */
+    @GetMapping("/my")
+    public Mono<ResponseMessage<List<RoomResponse>>> findMyRooms(
+        @RequestParam(required = false, name = "cursor") String cursor,
+        @RequestParam(required = false, name = "size") @Min(0) @Max(100) Integer size) {
+
+        RoomCursor roomCursor = cursor != null ? RoomCursor.decode(cursor) : null;
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        return roomService.findMyRooms(roomCursor, pageSize).map(ResponseMessage::createPage);
+    }
+
+    /**
+     * 전체방 목록 조회
+     * - cursor 가 있으면 page 는 무시하고 keyset 방식으로 조회
+     */
+    @GetMapping(params = "!ids")
+    public Mono<ResponseMessage<List<RoomResponse>>> searchRooms(
+        @RequestParam(required = false, name = "roomTypes") List<String> roomTypes,
+        @RequestParam(required = false, name = "dealTypes") List<String> dealTypes,
+        @RequestParam(required = false, name = "minDeposit") @DecimalMin(value = "0") BigDecimal minDeposit,
+        @RequestParam(required = false, name = "maxDeposit") @DecimalMin(value = "0") BigDecimal maxDeposit,
+        @RequestParam(required = false, name = "minMonthlyRent") @DecimalMin(value = "0") BigDecimal minMonthlyRent,
+        @RequestParam(required = false, name = "maxMonthlyRent") @DecimalMin(value = "0") BigDecimal maxMonthlyRent,
+        @RequestParam(defaultValue = "0", name = "page") @Min(0) int page,
+        @RequestParam(defaultValue = "20", name = "size") @Min(0) @Max(100) int size,
+        @RequestParam(required = false, name = "cursor") String cursor) {
+
+        RoomCursor roomCursor = cursor != null ? RoomCursor.decode(cursor) : null;
+
+        RoomSearchRequest request = new RoomSearchRequest(toRoomTypeDtos(roomTypes),
+            toDealTypeDtos(dealTypes), minDeposit, maxDeposit, minMonthlyRent, maxMonthlyRent,
+            page, size, roomCursor);
+
+        return roomService.search(request).map(ResponseMessage::createPage);
+    }
+
+    private static List<RoomTypeDto> toRoomTypeDtos(List<String> roomTypes) {
+        if (roomTypes == null || roomTypes.isEmpty()) {
+            return null;
+        }
+        return roomTypes.stream().map(RoomTypeDto::from).toList();
+    }
+
+    private static List<DealTypeDto> toDealTypeDtos(List<String> dealTypes) {
+        if (dealTypes == null || dealTypes.isEmpty()) {
+            return null;
+        }
+        return dealTypes.stream().map(DealTypeDto::from).toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sssukho.reactive.security;
+
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.common.security.MemberPrincipal;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+
+/**
+ * 현재 요청의 인증 사용자 (Reactor Context 의 SecurityContext 에서 꺼냄)
+ */
+public final class CurrentMember {
+
+    private CurrentMember() {
+    }
+
+    public static Mono<MemberPrincipal> get() {
+        return ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .filter(authentication -> authentication.getPrincipal() instanceof MemberPrincipal)
+            .map(authentication -> (MemberPrincipal) authentication.getPrincipal())
+            .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.UNAUTHORIZED)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.sssukho.reactive.security;
+
+import com.sssukho.common.security.MemberPrincipal;
+import com.sssukho.common.security.TokenClaims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bearer 토큰을 검증해서 SecurityContext 를 Reactor Context 에 넣음
+ * - 빈으로 등록하면 WebFlux 가 보안 필터 체인 밖에서도 한번 더 실행하므로 SecurityConfig 에서 직접 생성
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String jwt = extractJwtFromRequest(exchange.getRequest());
+
+        TokenClaims claims = StringUtils.hasText(jwt) ? tokenProvider.verify(jwt) : null;
+        if (claims != null && tokenRevocationList.isRevoked(claims.tokenId())) {
+            claims = null;
+        }
+
+        // access token 이 아니거나 memberId / roles 클레임이 없는 토큰은 인증하지 않음
+        MemberPrincipal principal = claims == null ? null : claims.toPrincipal();
+        if (principal == null) {
+            return chain.filter(exchange);
+        }
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+            principal, null, principal.authorities());
+        return chain.filter(exchange)
+            .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    private static String extractJwtFromRequest(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+}
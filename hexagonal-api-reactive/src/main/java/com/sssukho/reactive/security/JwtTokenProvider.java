@@ -0,0 +1,65 @@
+package com.sssukho.reactive.security;
+
+import com.sssukho.common.security.JwtTokenCodec;
+import com.sssukho.common.security.TokenClaims;
+import com.sssukho.domain.member.Member;
+import com.sssukho.reactive.config.properties.SecurityConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * blocking API 와 같은 JwtTokenCodec / secret 으로 토큰을 발급하고 검증
+ * - 어느 API 에서 발급한 토큰이든 양쪽에서 모두 사용할 수 있음
+ * - 서명 검증은 CPU 만 사용하므로 event loop 에서 바로 수행
+ */
+@Component
+public class JwtTokenProvider {
+
+    private final JwtTokenCodec codec;
+    private final long accessTokenExpirationInMs;
+    private final long refreshTokenExpirationInMs;
+
+    public JwtTokenProvider(SecurityConfigurationProperties properties) {
+        this.codec = new JwtTokenCodec(properties.jwt().secret());
+        this.accessTokenExpirationInMs = properties.jwt().accessTokenExpirationMs();
+        this.refreshTokenExpirationInMs = properties.jwt().refreshTokenExpirationMs();
+    }
+
+    public String generateAccessToken(Member member) {
+        return codec.generateAccessToken(member.getId(), member.getEmail(),
+            accessTokenExpirationInMs);
+    }
+
+    public String generateRefreshToken(Member member) {
+        return codec.generateRefreshToken(member.getId(), member.getEmail(),
+            refreshTokenExpirationInMs);
+    }
+
+    /**
+     * access token 검증
+     * - 유효하지 않거나 access token 이 아니면 (refresh token, typ 클레임이 없는 토큰) null
+     */
+    public TokenClaims verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        TokenClaims claims = codec.parse(token);
+        return claims != null && claims.isAccessToken() ? claims : null;
+    }
+
+    /**
+     * refresh token 검증
+     * - access token 으로는 갱신할 수 없음
+     */
+    public TokenClaims verifyRefreshToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        TokenClaims claims = codec.parse(token);
+        return claims != null && claims.type() != TokenClaims.Type.ACCESS ? claims : null;
+    }
+
+    public long getRefreshTokenExpirationInMs() {
+        return refreshTokenExpirationInMs;
+    }
+}
@@ -0,0 +1,59 @@
+package com.sssukho.reactive.security;
+
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.reactive.config.properties.PasswordHashingConfigurationProperties;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * BCrypt 를 event loop 밖의 전용 스케줄러에서 실행
+ * - BCrypt 한번이 수십~수백 ms 이므로 event loop 에서 실행하면 같은 loop 의 모든 연결이 멈춤
+ * - 동시 실행 수는 threads 로 제한하고, 대기열(queueCapacity)이 가득 차면 즉시 429, timeout 안에 끝나지 않으면 503
+ */
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private static final String SCHEDULER_NAME = "password-hashing";
+
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler scheduler;
+    private final Duration timeout;
+
+    public PasswordHasher(PasswordHashingConfigurationProperties properties) {
+        this.passwordEncoder = new BCryptPasswordEncoder(properties.strength());
+        this.scheduler = Schedulers.newBoundedElastic(properties.threads(),
+            properties.queueCapacity(), SCHEDULER_NAME);
+        this.timeout = properties.timeout();
+    }
+
+    public Mono<String> encode(String rawPassword) {
+        return hash(Mono.fromCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return hash(Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    private <T> Mono<T> hash(Mono<T> hashing) {
+        return hashing.subscribeOn(scheduler)
+            .timeout(timeout)
+            .onErrorMap(RejectedExecutionException.class,
+                e -> new CustomException(ErrorCode.TOO_MANY_REQUESTS))
+            .onErrorMap(TimeoutException.class,
+                e -> new CustomException(ErrorCode.SERVICE_UNAVAILABLE));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,96 @@
+package com.sssukho.reactive.security;
+
+import com.sssukho.domain.token.ReactiveRevokedTokenRepository;
+import com.sssukho.domain.token.RevokedToken;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰(jti) 목록
+ * - blocking API 와 같은 revoked_token 테이블을 syncInterval 마다 읽어서 메모리 목록을 갱신
+ * - 요청 처리 중에는 메모리 목록만 확인하므로 DB 를 기다리지 않음
+ * - 만료된 행 정리는 blocking API 가 수행하고, 여기서는 메모리의 만료 항목만 지움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList {
+
+    /**
+     * 노드 간 시계 차이와 커밋 지연으로 누락되지 않도록 동기화 구간을 겹쳐서 조회
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final ReactiveRevokedTokenRepository revokedTokenRepository;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSyncedAt = LocalDateTime.now();
+
+    /**
+     * jti 가 없는 이전 토큰은 개별 폐기 대상이 아니므로 false
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Instant expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    public Mono<Void> revoke(String tokenId, Instant expiresAt) {
+        return revokedTokenRepository.save(
+                RevokedToken.of(tokenId, toLocalDateTime(expiresAt), LocalDateTime.now()))
+            .doOnSuccess(ignored -> revoked.put(tokenId, expiresAt));
+    }
+
+    /**
+     * 기동 시 만료되지 않은 폐기 내역을 모두 읽음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public Mono<Void> load() {
+        LocalDateTime now = LocalDateTime.now();
+        return revokedTokenRepository.findAllNotExpired(now)
+            .doOnNext(this::add)
+            .count()
+            .doOnNext(count -> log.debug("폐기된 토큰 목록 적재 - {}건", count))
+            .then();
+    }
+
+    /**
+     * 다른 노드에서 폐기한 토큰을 가져오고 만료된 항목을 지움
+     */
+    @Scheduled(fixedDelayString = "${token-revocation.sync-interval-ms}")
+    public Mono<Void> sync() {
+        LocalDateTime now = LocalDateTime.now();
+        return revokedTokenRepository.findAllRevokedSince(lastSyncedAt.minus(SYNC_OVERLAP), now)
+            .doOnNext(this::add)
+            .then(Mono.fromRunnable(() -> {
+                lastSyncedAt = now;
+                Instant current = Instant.now();
+                revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(current));
+            }));
+    }
+
+    private void add(RevokedToken revokedToken) {
+        revoked.put(revokedToken.getTokenId(), toInstant(revokedToken.getExpiresAt()));
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private static Instant toInstant(LocalDateTime localDateTime) {
+        return localDateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,93 @@
+package com.sssukho.reactive.service;
+
+import com.sssukho.common.dto.auth.RefreshTokenRequest;
+import com.sssukho.common.dto.auth.SignInRequest;
+import com.sssukho.common.dto.auth.SignInResponse;
+import com.sssukho.common.dto.auth.SignUpRequest;
+import com.sssukho.common.dto.auth.SignupResponse;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.common.security.TokenClaims;
+import com.sssukho.domain.member.Member;
+import com.sssukho.reactive.security.JwtTokenProvider;
+import com.sssukho.reactive.security.PasswordHasher;
+import com.sssukho.reactive.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+
+    public static final String JWT_GRANT_TYPE = "Bearer";
+    private final MemberService memberService;
+    private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final PasswordHasher passwordHasher; // BCrypt 는 전용 스케줄러에서 실행
+
+    /**
+     * 회원 가입
+     */
+    public Mono<SignupResponse> signUp(SignUpRequest request) {
+        return passwordHasher.encode(request.password())
+            .map(hashedPassword -> Member.createMemberToRegisterWithoutId(request.email(),
+                hashedPassword, request.name()))
+            .flatMap(memberService::register)
+            .map(registeredMember -> new SignupResponse(registeredMember.getId(),
+                registeredMember.getEmail(), registeredMember.getName()));
+    }
+
+    /**
+     * 로그인
+     */
+    public Mono<SignInResponse> signIn(SignInRequest request) {
+        return memberService.findByEmail(request.email())
+            .flatMap(member -> passwordHasher.matches(request.password(),
+                    member.getHashedPassword())
+                .flatMap(matched -> matched
+                    ? issueTokens(member)
+                    : Mono.error(new CustomException(ErrorCode.UNAUTHORIZED))));
+    }
+
+    /**
+     * 토큰 갱신
+     * - 사용한 refresh token 은 폐기하고 새 refresh token 을 함께 발급
+     */
+    public Mono<SignInResponse> refreshToken(RefreshTokenRequest request) {
+        TokenClaims claims = tokenProvider.verifyRefreshToken(request.refreshToken());
+        if (claims == null || claims.memberId() == null) {
+            return Mono.error(new CustomException(ErrorCode.UNAUTHORIZED));
+        }
+
+        return memberService.findById(claims.memberId())
+            .onErrorMap(CustomException.class, e -> new CustomException(ErrorCode.UNAUTHORIZED))
+            .flatMap(member -> refreshTokenService.rotate(request.refreshToken(), member)
+                .map(newRefreshToken -> new SignInResponse(
+                    tokenProvider.generateAccessToken(member), newRefreshToken,
+                    JWT_GRANT_TYPE)));
+    }
+
+    /**
+     * 로그아웃
+     * - 액세스 토큰은 만료 시각까지 폐기 목록에 두고, refresh token 은 저장소에서 삭제
+     */
+    public Mono<Void> signOut(String accessToken, String refreshToken) {
+        TokenClaims claims = tokenProvider.verify(accessToken);
+        Mono<Void> revokeAccessToken = claims != null && claims.tokenId() != null
+            ? tokenRevocationList.revoke(claims.tokenId(), claims.expiresAt())
+            : Mono.empty();
+        Mono<Void> revokeRefreshToken = StringUtils.hasText(refreshToken)
+            ? refreshTokenService.revoke(refreshToken)
+            : Mono.empty();
+        return revokeAccessToken.then(revokeRefreshToken);
+    }
+
+    private Mono<SignInResponse> issueTokens(Member member) {
+        return refreshTokenService.issue(member)
+            .map(refreshToken -> new SignInResponse(tokenProvider.generateAccessToken(member),
+                refreshToken, JWT_GRANT_TYPE));
+    }
+}
@@ -0,0 +1,36 @@
+package com.sssukho.reactive.service;
+
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.domain.member.Member;
+import com.sssukho.domain.member.ReactiveMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class MemberService {
+
+    private final ReactiveMemberRepository memberRepository;
+
+    public Mono<Member> findByEmail(String email) {
+        return memberRepository.findByEmail(email)
+            .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER)));
+    }
+
+    public Mono<Member> findById(Long id) {
+        return memberRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER)));
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<Member> register(Member memberToRegister) {
+        return memberRepository.existsByEmail(memberToRegister.getEmail())
+            .flatMap(exists -> exists
+                ? Mono.error(new CustomException(ErrorCode.INVALID_REQUEST,
+                    "이미 존재하는 회원(이메일) 입니다."))
+                : memberRepository.save(memberToRegister));
+    }
+}
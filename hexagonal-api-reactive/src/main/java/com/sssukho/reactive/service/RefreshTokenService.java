@@ -0,0 +1,79 @@
+package com.sssukho.reactive.service;
+
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.domain.member.Member;
+import com.sssukho.domain.token.ReactiveRefreshTokenRepository;
+import com.sssukho.domain.token.RefreshToken;
+import com.sssukho.reactive.security.JwtTokenProvider;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * refresh token 발급/교체 (blocking API 와 같은 해시/rotation 규칙)
+ * - 갱신 시에는 사용한 토큰을 폐기하고 새 토큰을 발급 (rotation)
+ * - 이미 교체된 토큰이 다시 사용되면 탈취로 보고 해당 회원의 모든 세션을 폐기
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private final ReactiveRefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider tokenProvider;
+
+    public Mono<String> issue(Member member) {
+        return Mono.defer(() -> {
+            String refreshToken = tokenProvider.generateRefreshToken(member);
+            return refreshTokenRepository.save(toRefreshToken(refreshToken, member.getId()))
+                .thenReturn(refreshToken);
+        });
+    }
+
+    public Mono<String> rotate(String refreshTokenToReplace, Member member) {
+        return Mono.defer(() -> {
+            String newRefreshToken = tokenProvider.generateRefreshToken(member);
+            return refreshTokenRepository.rotate(hash(refreshTokenToReplace),
+                    toRefreshToken(newRefreshToken, member.getId()), LocalDateTime.now())
+                .flatMap(rotated -> rotated
+                    ? Mono.just(newRefreshToken)
+                    : revokeAllSessions(member));
+        });
+    }
+
+    public Mono<Void> revoke(String refreshToken) {
+        return refreshTokenRepository.delete(hash(refreshToken));
+    }
+
+    private Mono<String> revokeAllSessions(Member member) {
+        return refreshTokenRepository.deleteAllByMemberId(member.getId())
+            .doOnNext(revoked -> log.warn(
+                "폐기되었거나 이미 사용된 refresh token 재사용 - member({}) 세션 {}개 폐기",
+                member.getId(), revoked))
+            .then(Mono.error(new CustomException(ErrorCode.UNAUTHORIZED)));
+    }
+
+    private RefreshToken toRefreshToken(String refreshToken, Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        return RefreshToken.of(hash(refreshToken), memberId,
+            now.plus(Duration.ofMillis(tokenProvider.getRefreshTokenExpirationInMs())), now);
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
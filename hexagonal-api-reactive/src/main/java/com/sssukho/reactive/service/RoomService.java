@@ -0,0 +1,219 @@
+package com.sssukho.reactive.service;
+
+import com.sssukho.common.dto.common.CursorPage;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.dto.room.RoomCursor;
+import com.sssukho.common.dto.room.RoomRegistrationRequest;
+import com.sssukho.common.dto.room.RoomResponse;
+import com.sssukho.common.dto.room.RoomResponse.DealResponse;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import com.sssukho.common.dto.room.RoomUpdateRequest;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.deal.DealChanges;
+import com.sssukho.domain.deal.ReactiveDealRepository;
+import com.sssukho.domain.room.ReactiveRoomRepository;
+import com.sssukho.domain.room.Room;
+import com.sssukho.reactive.security.CurrentMember;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * blocking API 의 RoomService 와 같은 규칙 (소유자 확인, 거래 변경분 반영, 커서 생성)
+ * - 방/거래 조회는 R2DBC 로 읽는 대로 방 단위로 전달
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoomService {
+
+    private final ReactiveRoomRepository roomRepository;
+    private final ReactiveDealRepository dealRepository;
+
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<RoomResponse> register(RoomRegistrationRequest request) {
+        return CurrentMember.get()
+            .flatMap(principal -> roomRepository.save(toRoom(request, principal.memberId())))
+            .flatMap(registeredRoom -> dealRepository.saveAll(
+                    toDealsFromRegistrationRequests(request, registeredRoom.getId()))
+                .map(registeredDeals -> withDeals(registeredRoom, registeredDeals)))
+            .map(this::toRoomResponse);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<Void> deleteMyRoom(Long roomIdToDelete) {
+        // room 에 속한 deal 도 모두 삭제해야함
+        return findOwnedRoom(roomIdToDelete)
+            .flatMap(foundRoom -> dealRepository.deleteAllByRoomId(foundRoom.getId())
+                .then(roomRepository.deleteById(foundRoom.getId())));
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<RoomResponse> updateMyRoom(Long roomIdToUpdate, RoomUpdateRequest request) {
+        if (request.isEmpty()) {
+            log.debug("All members are null in RoomUpdateRequest");
+            return Mono.error(new CustomException(ErrorCode.INVALID_REQUEST));
+        }
+
+        return findOwnedRoom(roomIdToUpdate)
+            .flatMap(foundRoom -> {
+                Room previousRoom = foundRoom.copy();
+                foundRoom.change(request);
+                return roomRepository.update(foundRoom)
+                    .flatMap(updatedRoom -> replaceDeals(previousRoom, request)
+                        .map(deals -> withDeals(updatedRoom, deals)));
+            })
+            .map(this::toRoomResponse);
+    }
+
+    /**
+     * 내방 단건 조회
+     * - 내 방이 아니면 존재 여부를 드러내지 않도록 NOT_FOUND_ROOM
+     */
+    public Mono<RoomResponse> findMyRoom(Long roomIdToFind) {
+        return CurrentMember.get()
+            .flatMap(principal -> roomRepository.findByIdWithDeals(roomIdToFind)
+                .filter(room -> room.getOwnerId().equals(principal.memberId())))
+            .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.NOT_FOUND_ROOM)))
+            .map(this::toRoomResponse);
+    }
+
+    /**
+     * 내방 여러 건 조회 (요청한 id 순서, 중복 id 는 한 번만)
+     * - 없거나 내 방이 아닌 방은 결과에서 제외
+     */
+    public Mono<List<RoomResponse>> findMyRoomsByIds(List<Long> roomIdsToFind) {
+        List<Long> distinctRoomIds = roomIdsToFind.stream().distinct().toList();
+
+        return CurrentMember.get()
+            .flatMap(principal -> roomRepository.findAllByIds(distinctRoomIds)
+                .filter(room -> room.getOwnerId().equals(principal.memberId()))
+                .collect(Collectors.toMap(Room::getId, Function.identity())))
+            .map(foundMyRoomsById -> distinctRoomIds.stream()
+                .map(foundMyRoomsById::get)
+                .filter(Objects::nonNull)
+                .map(this::toRoomResponse)
+                .toList());
+    }
+
+    /**
+     * 내방 전체 목록을 DB 에서 읽는 대로 하나씩 전달
+     * - 목록을 만들지 않으므로 방 수와 관계없이 메모리 사용량이 일정함
+     */
+    public Flux<RoomResponse> findAllMyRooms() {
+        return CurrentMember.get()
+            .flatMapMany(principal -> roomRepository.findAllByOwnerId(principal.memberId()))
+            .map(this::toRoomResponse);
+    }
+
+    public Mono<CursorPage<RoomResponse>> findMyRooms(RoomCursor cursor, int size) {
+        return CurrentMember.get()
+            .flatMap(principal -> roomRepository.findAllByOwnerId(principal.memberId(), cursor,
+                size).collectList())
+            .map(foundMyRooms -> toPage(foundMyRooms, size));
+    }
+
+    public Mono<CursorPage<RoomResponse>> search(RoomSearchRequest request) {
+        return roomRepository.searchRooms(request)
+            .collectList()
+            .map(foundRooms -> toPage(foundRooms, request.size()));
+    }
+
+    private Mono<Room> findOwnedRoom(Long roomId) {
+        return CurrentMember.get()
+            .flatMap(principal -> roomRepository.findByIdWithDeals(roomId)
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.NOT_FOUND_ROOM)))
+                .flatMap(foundRoom -> validateOwner(principal.memberId(), foundRoom)));
+    }
+
+    /**
+     * 저장된 deal 과 비교해서 바뀐 deal 만 추가/수정/삭제
+     */
+    private Mono<List<Deal>> replaceDeals(Room previousRoom, RoomUpdateRequest request) {
+        if (request.deals() == null || request.deals().isEmpty()) {
+            return Mono.just(previousRoom.getDeals());
+        }
+
+        List<Deal> requestedDeals = request.deals().stream()
+            .map(deal -> Deal.of(deal.dealType(), deal.deposit(), deal.monthlyRent(),
+                previousRoom.getId()))
+            .toList();
+        DealChanges changes = DealChanges.diff(previousRoom.getDeals(), requestedDeals);
+        if (changes.isEmpty()) {
+            return Mono.just(previousRoom.getDeals());
+        }
+
+        return dealRepository.deleteAllByIds(changes.idsToDelete())
+            .then(dealRepository.updateAll(changes.dealsToUpdate()))
+            .then(dealRepository.saveAll(changes.dealsToInsert()))
+            .map(insertedDeals -> {
+                List<Deal> replacedDeals = new ArrayList<>(changes.unchangedDeals());
+                replacedDeals.addAll(changes.dealsToUpdate());
+                replacedDeals.addAll(insertedDeals);
+                replacedDeals.sort(Comparator.comparing(Deal::getId));
+                return replacedDeals;
+            });
+    }
+
+    private static Mono<Room> validateOwner(Long currentMemberId, Room foundRoom) {
+        if (!currentMemberId.equals(foundRoom.getOwnerId())) {
+            return Mono.error(new CustomException(ErrorCode.FORBIDDEN, "방을 삭제할 권한이 없습니다."));
+        }
+        return Mono.just(foundRoom);
+    }
+
+    private static Room toRoom(RoomRegistrationRequest request, Long ownerId) {
+        return Room.of(null, request.title(), request.description(), request.address(),
+            request.area(), request.roomType(), ownerId, null, null);
+    }
+
+    private static List<Deal> toDealsFromRegistrationRequests(RoomRegistrationRequest request,
+        Long roomId) {
+        if (request.deals() == null) {
+            return List.of();
+        }
+        return request.deals().stream()
+            .map(deal -> Deal.of(deal.dealType(), deal.deposit(), deal.monthlyRent(), roomId))
+            .toList();
+    }
+
+    private static Room withDeals(Room room, List<Deal> deals) {
+        room.setDeals(deals);
+        return room;
+    }
+
+    private CursorPage<RoomResponse> toPage(List<Room> foundRooms, int size) {
+        return CursorPage.of(foundRooms.stream().map(this::toRoomResponse).toList(),
+            createNextCursor(foundRooms, size));
+    }
+
+    private RoomResponse toRoomResponse(Room room) {
+        List<DealResponse> dealResponses = room.getDeals().stream().map(
+            dealDomain -> new DealResponse(dealDomain.getDealTypeDto(), dealDomain.getDeposit(),
+                dealDomain.getMonthlyRent())).toList();
+
+        return new RoomResponse(room.getId(), room.getTitle(), room.getDescription(),
+            room.getAddress(), room.getArea(), room.getRoomTypeDto(), dealResponses);
+    }
+
+    /**
+     * 조회 결과가 요청한 size 만큼 채워졌을 때만 다음 페이지 커서를 생성
+     */
+    private static String createNextCursor(List<Room> foundRooms, int size) {
+        if (size == 0 || foundRooms.size() < size) {
+            return null;
+        }
+        Room lastRoom = foundRooms.get(foundRooms.size() - 1);
+        return new RoomCursor(lastRoom.getCreatedAt(), lastRoom.getId()).encode();
+    }
+}
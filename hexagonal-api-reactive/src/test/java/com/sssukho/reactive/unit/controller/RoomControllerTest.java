@@ -0,0 +1,62 @@
+package com.sssukho.reactive.unit.controller;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.common.dto.room.RoomResponse;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.reactive.controller.RoomController;
+import com.sssukho.reactive.service.RoomService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+class RoomControllerTest {
+
+    private RoomService roomService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        roomService = mock(RoomService.class);
+        webTestClient = WebTestClient.bindToController(
+            new RoomController(roomService, new ObjectMapper())).build();
+    }
+
+    @DisplayName("내방 전체 목록은 ResponseMessage 형식으로 스트리밍한다.")
+    @Test
+    void testStreamAllMyRooms() {
+        // given
+        when(roomService.findAllMyRooms()).thenReturn(Flux.just(room(1L), room(2L)));
+
+        // when & then
+        webTestClient.get().uri("/rooms/my").exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.data.length()").isEqualTo(2)
+            .jsonPath("$.data[0].id").isEqualTo(1)
+            .jsonPath("$.data[1].id").isEqualTo(2);
+    }
+
+    @DisplayName("내방이 없으면 빈 목록을 반환한다.")
+    @Test
+    void testStreamEmptyMyRooms() {
+        // given
+        when(roomService.findAllMyRooms()).thenReturn(Flux.empty());
+
+        // when & then
+        webTestClient.get().uri("/rooms/my").exchange()
+            .expectStatus().isOk()
+            .expectBody().json("{\"data\":[]}");
+    }
+
+    private static RoomResponse room(Long id) {
+        return new RoomResponse(id, "방 제목", "방 설명", "주소", 33.5, RoomTypeDto.ONE_ROOM,
+            List.of());
+    }
+}
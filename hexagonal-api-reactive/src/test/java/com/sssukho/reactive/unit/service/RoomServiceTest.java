@@ -0,0 +1,141 @@
+package com.sssukho.reactive.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomRegistrationRequest;
+import com.sssukho.common.dto.room.RoomRegistrationRequest.DealRegistrationRequest;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.common.security.MemberPrincipal;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.deal.ReactiveDealRepository;
+import com.sssukho.domain.room.ReactiveRoomRepository;
+import com.sssukho.domain.room.Room;
+import com.sssukho.reactive.service.RoomService;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+@ExtendWith(MockitoExtension.class)
+class RoomServiceTest {
+
+    private static final long MEMBER_ID = 1L;
+
+    @InjectMocks
+    private RoomService roomService;
+
+    @Mock
+    private ReactiveRoomRepository roomRepository;
+
+    @Mock
+    private ReactiveDealRepository dealRepository;
+
+    @DisplayName("내방 등록 시 방과 거래를 저장하고 응답으로 변환한다.")
+    @Test
+    void testRegisterMyRoomSucceed() {
+        // given
+        RoomRegistrationRequest request = new RoomRegistrationRequest("방 제목", "방 설명", "주소",
+            33.5, RoomTypeDto.ONE_ROOM, List.of(new DealRegistrationRequest(
+            DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(2000), BigDecimal.valueOf(50))));
+        Room savedRoom = room(10L, MEMBER_ID);
+        Deal savedDeal = Deal.of(100L, DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(2000),
+            BigDecimal.valueOf(50), 10L);
+
+        when(roomRepository.save(any())).thenReturn(Mono.just(savedRoom));
+        when(dealRepository.saveAll(anyList())).thenReturn(Mono.just(List.of(savedDeal)));
+
+        // when & then
+        StepVerifier.create(roomService.register(request).contextWrite(authenticated()))
+            .assertNext(response -> {
+                assertEquals(10L, response.id());
+                assertEquals(1, response.deals().size());
+                assertEquals(DealTypeDto.MONTHLY_RENT, response.deals().get(0).dealType());
+            })
+            .verifyComplete();
+    }
+
+    @DisplayName("내 방이 아닌 방을 단건 조회하면 NOT_FOUND_ROOM 으로 실패한다.")
+    @Test
+    void testFindOthersRoomFails() {
+        // given
+        when(roomRepository.findByIdWithDeals(10L)).thenReturn(Mono.just(room(10L, 2L)));
+
+        // when & then
+        StepVerifier.create(roomService.findMyRoom(10L).contextWrite(authenticated()))
+            .expectErrorSatisfies(error -> assertEquals(ErrorCode.NOT_FOUND_ROOM,
+                ((CustomException) error).getErrorCode()))
+            .verify();
+    }
+
+    @DisplayName("내 방이 아닌 방을 삭제하면 FORBIDDEN 으로 실패하고 아무것도 삭제하지 않는다.")
+    @Test
+    void testDeleteOthersRoomFails() {
+        // given
+        when(roomRepository.findByIdWithDeals(10L)).thenReturn(Mono.just(room(10L, 2L)));
+
+        // when & then
+        StepVerifier.create(roomService.deleteMyRoom(10L).contextWrite(authenticated()))
+            .expectErrorSatisfies(error -> assertEquals(ErrorCode.FORBIDDEN,
+                ((CustomException) error).getErrorCode()))
+            .verify();
+        verify(dealRepository, never()).deleteAllByRoomId(any());
+        verify(roomRepository, never()).deleteById(any());
+    }
+
+    @DisplayName("여러 건 조회는 요청한 id 순서대로 내 방만 반환한다.")
+    @Test
+    void testFindMyRoomsByIdsKeepsRequestedOrder() {
+        // given
+        when(roomRepository.findAllByIds(List.of(3L, 1L, 2L))).thenReturn(
+            Flux.just(room(1L, MEMBER_ID), room(2L, 2L), room(3L, MEMBER_ID)));
+
+        // when & then
+        StepVerifier.create(roomService.findMyRoomsByIds(List.of(3L, 1L, 3L, 2L))
+                .contextWrite(authenticated()))
+            .assertNext(responses -> assertEquals(List.of(3L, 1L),
+                responses.stream().map(response -> response.id()).toList()))
+            .verifyComplete();
+    }
+
+    @DisplayName("인증 정보가 없으면 UNAUTHORIZED 로 실패한다.")
+    @Test
+    void testFailWithoutAuthentication() {
+        // when & then
+        StepVerifier.create(roomService.findAllMyRooms())
+            .expectErrorSatisfies(error -> assertEquals(ErrorCode.UNAUTHORIZED,
+                ((CustomException) error).getErrorCode()))
+            .verify();
+    }
+
+    private static Context authenticated() {
+        MemberPrincipal principal = MemberPrincipal.of(MEMBER_ID, "dev.sssukho@gmail.com");
+        return ReactiveSecurityContextHolder.withAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+    }
+
+    private static Room room(Long id, Long ownerId) {
+        Room room = Room.of(id, "방 제목", "방 설명", "주소", 33.5, RoomTypeDto.ONE_ROOM, ownerId,
+            LocalDateTime.now(), LocalDateTime.now());
+        room.setDeals(List.of());
+        return room;
+    }
+}
@@ -3,11 +3,13 @@ package com.sssukho.api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(
 	scanBasePackages = {"com.sssukho"}
 )
 @ConfigurationPropertiesScan(basePackages = "com.sssukho")
+@EnableScheduling
 public class ApiApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,128 @@
+package com.sssukho.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sssukho.api.config.properties.CacheConfigurationProperties;
+import com.sssukho.domain.member.Member;
+import com.sssukho.domain.member.MemberChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원 조회 캐시 (email, id 별)
+ * - 한쪽으로 조회한 회원은 다른 쪽 캐시에도 함께 저장
+ * - 크기/TTL 로 만료되며, 회원이 변경되면 커밋 후 email/id 양쪽에서 무효화
+ * - 존재하지 않는 회원(조회 실패)은 저장하지 않음
+ */
+@Slf4j
+@Component
+public class MemberCache {
+
+    private static final String CACHE_NAME_BY_EMAIL = "member.by-email";
+    private static final String CACHE_NAME_BY_ID = "member.by-id";
+
+    private final boolean enabled;
+    private final Cache<String, Member> byEmail;
+    private final Cache<Long, Member> byId;
+    private final Counter invalidationCounter;
+
+    public MemberCache(CacheConfigurationProperties cacheConfigurationProperties,
+        MeterRegistry meterRegistry) {
+        CacheConfigurationProperties.Member properties = cacheConfigurationProperties.member();
+        this.enabled = properties.enabled();
+        this.byEmail = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+        this.byId = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+        this.invalidationCounter = Counter.builder("cache.invalidations")
+            .tag("cache", "member")
+            .description("회원 변경으로 무효화된 회원 수")
+            .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, CACHE_NAME_BY_EMAIL);
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, CACHE_NAME_BY_ID);
+    }
+
+    public Member getByEmail(String email, Function<String, Member> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+
+        Member cached = byEmail.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        Member loaded = loader.apply(email);
+        put(loaded);
+        return loaded;
+    }
+
+    public Member getById(Long id, Function<Long, Member> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+
+        Member cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        Member loaded = loader.apply(id);
+        put(loaded);
+        return loaded;
+    }
+
+    public void evict(Long memberId, String email) {
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+        if (memberId != null) {
+            byId.invalidate(memberId);
+        }
+    }
+
+    /**
+     * 커밋된 변경만 반영
+     * - memberId 를 모르는 이벤트는 email 로 캐시된 회원의 id 까지 찾아서 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        Long memberId = event.memberId();
+        if (memberId == null && event.email() != null) {
+            Member cached = byEmail.getIfPresent(event.email());
+            memberId = cached == null ? null : cached.getId();
+        }
+        evict(memberId, event.email());
+
+        invalidationCounter.increment();
+        log.debug("member({}, {}) 변경으로 회원 캐시 무효화", memberId, event.email());
+    }
+
+    private void put(Member member) {
+        if (member == null) {
+            return;
+        }
+        if (member.getEmail() != null) {
+            byEmail.put(member.getEmail(), member);
+        }
+        if (member.getId() != null) {
+            byId.put(member.getId(), member);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.sssukho.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sssukho.api.config.properties.CacheConfigurationProperties;
+import com.sssukho.common.dto.room.RoomResponse;
+import com.sssukho.domain.room.Room;
+import com.sssukho.domain.room.RoomChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 방 하나의 RoomResponse JSON(UTF-8) 캐시
+ * - 방 id 별로 updated_at 과 함께 보관하고, 조회한 방의 updated_at 이 다르면 다시 직렬화
+ *   (다른 노드에서 변경된 방도 DB 에서 새로 읽으면 바로 반영됨)
+ * - 조회한 방이 보관 중인 것보다 오래된 경우(ex. 검색 캐시의 결과)는 직렬화만 하고 교체하지 않음
+ * - 방/거래가 변경되면 커밋 후 해당 방을 제거
+ * - 크기 제한은 항목 수가 아닌 JSON 바이트 수 기준
+ */
+@Component
+public class RoomJsonCache {
+
+    private static final String CACHE_NAME = "room.json";
+
+    private final boolean enabled;
+    private final Cache<Long, Fragment> cache;
+    private final ObjectMapper objectMapper;
+
+    public RoomJsonCache(CacheConfigurationProperties cacheConfigurationProperties,
+        ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        CacheConfigurationProperties.RoomJson properties = cacheConfigurationProperties.roomJson();
+        this.enabled = properties.enabled();
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(properties.maximumWeight())
+            .weigher((Long roomId, Fragment fragment) -> fragment.json().length)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public byte[] get(Room room, Function<Room, RoomResponse> toResponse) {
+        if (!enabled) {
+            return serialize(toResponse.apply(room));
+        }
+
+        LocalDateTime version = room.getUpdatedAt();
+        Fragment cached = cache.getIfPresent(room.getId());
+        if (cached != null && Objects.equals(cached.version(), version)) {
+            return cached.json();
+        }
+
+        byte[] json = serialize(toResponse.apply(room));
+        if (cached == null || isNewer(version, cached.version())) {
+            cache.put(room.getId(), new Fragment(version, json));
+        }
+        return json;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomChanged(RoomChangedEvent event) {
+        if (enabled) {
+            cache.invalidate(event.roomId());
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private byte[] serialize(RoomResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isNewer(LocalDateTime version, LocalDateTime cachedVersion) {
+        if (version == null) {
+            return false;
+        }
+        return cachedVersion == null || version.isAfter(cachedVersion);
+    }
+
+    private record Fragment(LocalDateTime version, byte[] json) {
+
+    }
+}
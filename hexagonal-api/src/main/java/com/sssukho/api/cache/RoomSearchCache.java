@@ -0,0 +1,253 @@
+package com.sssukho.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sssukho.api.config.properties.CacheConfigurationProperties;
+import com.sssukho.common.dto.common.CursorPage;
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomCursor;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.room.Room;
+import com.sssukho.domain.room.RoomChangedEvent;
+import com.sssukho.domain.room.RoomsImportedEvent;
+import com.sssukho.domain.room.RoomsRegisteredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 방 검색 결과 캐시
+ * - 검색 조건을 정규화한 값을 키로 사용 (enum 목록 정렬/중복 제거, BigDecimal scale 정규화)
+ * - 응답이 아닌 방 목록을 보관 (응답 JSON 은 방 단위로 RoomJsonCache 에서 재사용)
+ * - 크기/TTL 로 만료되며, 방이 변경되면 변경 전/후 상태가 조건에 맞을 수 있는 키만 무효화
+ * - version() 은 검색 결과가 바뀌었을 수 있으면 달라지는 값으로 검색 ETag 에 사용
+ */
+@Slf4j
+@Component
+public class RoomSearchCache {
+
+    private static final String CACHE_NAME = "room.search";
+
+    private final boolean enabled;
+    private final Cache<Key, CursorPage<Room>> cache;
+    private final Counter invalidationCounter;
+    private final long ttlMillis;
+    private final String instanceId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong changeCount = new AtomicLong();
+
+    public RoomSearchCache(CacheConfigurationProperties cacheConfigurationProperties,
+        MeterRegistry meterRegistry) {
+        CacheConfigurationProperties.RoomSearch properties = cacheConfigurationProperties.roomSearch();
+        this.enabled = properties.enabled();
+        this.ttlMillis = Math.max(1, properties.ttl().toMillis());
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+        this.invalidationCounter = Counter.builder("cache.invalidations")
+            .tag("cache", CACHE_NAME)
+            .description("방 변경으로 무효화된 검색 결과 수")
+            .register(meterRegistry);
+        // cache.gets{result=hit|miss}, cache.evictions 등 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회 후 저장
+     * - DB 조회를 캐시 내부 lock 을 잡은 채로 수행하지 않도록 compute 대신 조회 후 put
+     * - 조회하는 동안 무효화가 있었으면 변경 전 결과일 수 있으므로 저장하지 않음
+     * - 저장 직후에 다시 확인해서 그 사이 무효화가 끝났으면 저장한 항목을 제거
+     *   (무효화는 changeCount 를 먼저 올리고 항목을 지우므로, 다시 확인할 때 그대로면 이후 무효화가 이 항목을 지움)
+     */
+    public CursorPage<Room> get(RoomSearchRequest request,
+        Function<RoomSearchRequest, CursorPage<Room>> loader) {
+        if (!enabled) {
+            return loader.apply(request);
+        }
+
+        Key key = Key.from(request);
+        CursorPage<Room> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long changeCountBeforeLoad = changeCount.get();
+        CursorPage<Room> loaded = loader.apply(request);
+        if (changeCount.get() != changeCountBeforeLoad) {
+            return loaded;
+        }
+
+        cache.put(key, loaded);
+        if (changeCount.get() != changeCountBeforeLoad) {
+            cache.asMap().remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 커밋된 변경만 반영
+     * - 변경 전/후 중 하나라도 검색 조건에 맞을 수 있으면 해당 조건의 모든 페이지를 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomChanged(RoomChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        changeCount.incrementAndGet();
+        int before = cache.asMap().size();
+        cache.asMap().keySet().removeIf(key ->
+            key.couldMatch(event.previousRoom()) || key.couldMatch(event.changedRoom()));
+        int invalidated = before - cache.asMap().size();
+
+        if (invalidated > 0) {
+            invalidationCounter.increment(invalidated);
+            log.debug("room({}) 변경으로 검색 캐시 {}건 무효화", event.roomId(), invalidated);
+        }
+    }
+
+    /**
+     * 여러 방이 한번에 등록되면 조건별로 따져보지 않고 전체를 한번에 무효화
+     * - 새로 등록된 방은 최신순 첫 페이지들에 들어가므로 대부분의 키가 어차피 무효화 대상
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomsRegistered(RoomsRegisteredEvent event) {
+        if (!event.registeredRooms().isEmpty()) {
+            invalidateAll("방 " + event.registeredRooms().size() + "건 일괄 등록");
+        }
+    }
+
+    /**
+     * 파일 가져오기는 batch 마다가 아니라 끝난 뒤에 한번만 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomsImported(RoomsImportedEvent event) {
+        if (event.importedCount() > 0) {
+            invalidateAll("방 " + event.importedCount() + "건 가져오기");
+        }
+    }
+
+    /**
+     * 검색 결과 전체의 버전 (캐시를 사용하지 않으면 null)
+     * - 이 노드에서 커밋된 방 변경마다 증가하고, 다른 노드의 변경은 TTL 단위로 반영 (캐시와 같은 기준)
+     * - 노드마다 다른 instanceId 를 붙여서 다른 노드가 만든 버전과 겹치지 않도록 함
+     * - 조회 전에 읽어야 함 (조회 후에 읽으면 그 사이 변경이 반영되지 않은 결과에 새 버전이 붙을 수 있음)
+     */
+    public String version() {
+        if (!enabled) {
+            return null;
+        }
+        return instanceId + "-" + changeCount.get() + "-" + System.currentTimeMillis() / ttlMillis;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void invalidateAll(String reason) {
+        if (!enabled) {
+            return;
+        }
+
+        changeCount.incrementAndGet();
+        long invalidated = cache.estimatedSize();
+        cache.invalidateAll();
+
+        if (invalidated > 0) {
+            invalidationCounter.increment(invalidated);
+            log.debug("{}(으)로 검색 캐시 {}건 무효화", reason, invalidated);
+        }
+    }
+
+    /**
+     * 정규화된 검색 조건
+     * - cursor 가 있으면 page 는 무시되므로 0 으로 고정
+     */
+    record Key(
+        List<RoomTypeDto> roomTypes,
+        List<DealTypeDto> dealTypes,
+        BigDecimal minDeposit,
+        BigDecimal maxDeposit,
+        BigDecimal minMonthlyRent,
+        BigDecimal maxMonthlyRent,
+        int page,
+        int size,
+        RoomCursor cursor
+    ) {
+
+        static Key from(RoomSearchRequest request) {
+            return new Key(
+                normalize(request.roomTypes(), RoomTypeDto.class),
+                normalize(request.dealTypes(), DealTypeDto.class),
+                normalize(request.minDeposit()),
+                normalize(request.maxDeposit()),
+                normalize(request.minMonthlyRent()),
+                normalize(request.maxMonthlyRent()),
+                request.hasCursor() ? 0 : request.page(),
+                request.size(),
+                request.cursor());
+        }
+
+        /**
+         * 방이 이 조건의 검색 결과에 포함될 수 있는지 여부
+         * - deals 를 모르는 경우(null)는 포함될 수 있다고 판단
+         */
+        boolean couldMatch(Room room) {
+            if (room == null) {
+                return false;
+            }
+            if (roomTypes != null && !roomTypes.contains(room.getRoomTypeDto())) {
+                return false;
+            }
+            if (room.getDeals() == null) {
+                return true;
+            }
+            return room.getDeals().stream().anyMatch(this::matches);
+        }
+
+        private boolean matches(Deal deal) {
+            if (dealTypes != null && !dealTypes.contains(deal.getDealTypeDto())) {
+                return false;
+            }
+            return inRange(deal.getDeposit(), minDeposit, maxDeposit)
+                && inRange(deal.getMonthlyRent(), minMonthlyRent, maxMonthlyRent);
+        }
+
+        private static boolean inRange(BigDecimal value, BigDecimal min, BigDecimal max) {
+            if (min == null && max == null) {
+                return true;
+            }
+            if (value == null) {
+                return false;
+            }
+            return (min == null || value.compareTo(min) >= 0)
+                && (max == null || value.compareTo(max) <= 0);
+        }
+
+        private static <E extends Enum<E>> List<E> normalize(List<E> values, Class<E> type) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            EnumSet<E> sorted = EnumSet.noneOf(type);
+            sorted.addAll(values);
+            return List.copyOf(sorted);
+        }
+
+        private static BigDecimal normalize(BigDecimal value) {
+            return value == null ? null : value.stripTrailingZeros();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.sssukho.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sssukho.api.config.properties.CacheConfigurationProperties;
+import com.sssukho.common.security.TokenClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임 캐시
+ * - 토큰 원문 대신 SHA-256 digest 를 키로 사용해서 메모리에 토큰을 보관하지 않음
+ * - 각 항목은 토큰의 exp 시점에 만료되므로 만료된 토큰이 캐시로 통과되지 않음
+ * - 검증에 실패한 토큰은 저장하지 않음
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified";
+
+    private final boolean enabled;
+    private final Clock clock;
+    private final Cache<Key, TokenClaims> cache;
+
+    @Autowired
+    public VerifiedTokenCache(CacheConfigurationProperties cacheConfigurationProperties,
+        MeterRegistry meterRegistry) {
+        this(cacheConfigurationProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    public VerifiedTokenCache(CacheConfigurationProperties cacheConfigurationProperties,
+        MeterRegistry meterRegistry, Clock clock) {
+        CacheConfigurationProperties.VerifiedToken properties =
+            cacheConfigurationProperties.verifiedToken();
+        this.enabled = properties.enabled();
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfter(new UntilTokenExpiry(clock))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 없으면 verifier 로 검증 후 저장
+     * - verifier 는 유효하지 않은 토큰이면 null 을 반환
+     */
+    public TokenClaims get(String token, Function<String, TokenClaims> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        Key key = Key.of(token);
+        TokenClaims cached = cache.getIfPresent(key);
+        Instant now = clock.instant();
+        if (cached != null && !cached.isExpiredAt(now)) {
+            return cached;
+        }
+
+        TokenClaims verified = verifier.apply(token);
+        if (verified != null && verified.expiresAt() != null && !verified.isExpiredAt(now)) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 토큰의 SHA-256 digest
+     */
+    record Key(long h0, long h1, long h2, long h3) {
+
+        static Key of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(sha256(token));
+            return new Key(digest.getLong(), digest.getLong(), digest.getLong(),
+                digest.getLong());
+        }
+
+        private static byte[] sha256(String token) {
+            try {
+                return MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not supported", e);
+            }
+        }
+    }
+
+    /**
+     * 저장 시점부터 토큰의 exp 까지만 유지
+     */
+    private record UntilTokenExpiry(Clock clock) implements Expiry<Key, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(Key key, TokenClaims value, long currentTime) {
+            return remainingNanos(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, TokenClaims value, long currentTime,
+            long currentDuration) {
+            return remainingNanos(value);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, TokenClaims value, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remainingNanos(TokenClaims value) {
+            Duration remaining = Duration.between(clock.instant(), value.expiresAt());
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sssukho.api.config;
+
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 내부 서비스 호출용 바이너리 응답 (CBOR/Smile)
+ * - Accept 로 요청한 경우에만 사용하고 기본은 JSON (JSON converter 뒤에 등록)
+ * - 스키마는 JSON 과 같음 (ResponseMessage, RoomResponse, DealResponse 를 그대로 직렬화)
+ * - spring.jackson.* 설정이 JSON 과 같게 적용되도록 형식마다 새 builder 에 Boot 의 customizer 를 적용
+ *   (공유 builder 에 factory 를 지정하면 JSON ObjectMapper 를 만드는 builder 까지 바뀜)
+ */
+@Configuration
+public class BinaryMessageConverterConfig implements WebMvcConfigurer {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application",
+        "x-jackson-smile");
+
+    private final ApplicationContext applicationContext;
+    private final ObjectProvider<Jackson2ObjectMapperBuilderCustomizer> customizers;
+
+    public BinaryMessageConverterConfig(ApplicationContext applicationContext,
+        ObjectProvider<Jackson2ObjectMapperBuilderCustomizer> customizers) {
+        this.applicationContext = applicationContext;
+        this.customizers = customizers;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // classpath 에 있으면 기본 설정으로 등록되므로 교체
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+            || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+            customize(Jackson2ObjectMapperBuilder.cbor()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+            customize(Jackson2ObjectMapperBuilder.smile()).build()));
+    }
+
+    private Jackson2ObjectMapperBuilder customize(Jackson2ObjectMapperBuilder builder) {
+        builder.applicationContext(applicationContext);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
+    }
+}
@@ -1,9 +1,15 @@
 package com.sssukho.api.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.api.config.properties.PasswordHashingConfigurationProperties;
+import com.sssukho.api.limiter.ConcurrencyLimitFilter;
+import com.sssukho.api.security.BCryptStrengthCalibrator;
+import com.sssukho.api.security.BoundedPasswordEncoder;
 import com.sssukho.api.security.JwtAuthenticationFilter;
+import com.sssukho.api.security.RateLimitFilter;
 import com.sssukho.common.dto.common.ErrorResponseMessage;
 import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,7 +27,6 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -32,10 +37,24 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
 
+    /**
+     * BCrypt 는 전용 스레드 풀에서만 실행
+     * - adaptive 가 켜져 있으면 기동 시에 latency budget 에 맞는 cost 를 측정해서 사용
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+        PasswordHashingConfigurationProperties properties, MeterRegistry meterRegistry) {
+        PasswordHashingConfigurationProperties.Adaptive adaptive = properties.adaptive();
+        int strength = adaptive != null && adaptive.enabled()
+            ? BCryptStrengthCalibrator.calibrate(adaptive.latencyBudget(), adaptive.minStrength(),
+                adaptive.maxStrength())
+            : properties.strength();
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength),
+            properties.threads(), properties.queueCapacity(), properties.timeout(), meterRegistry);
     }
 
     @Bean
@@ -51,6 +70,7 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/auth/signout").authenticated()
                 .requestMatchers("/auth/**").permitAll()
                 .anyRequest().authenticated()
             )
@@ -60,7 +80,9 @@ public class SecurityConfig {
             .headers(headers -> headers
                 .frameOptions(HeadersConfigurer.FrameOptionsConfig::disable)
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(concurrencyLimitFilter, RateLimitFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,23 @@
+package com.sssukho.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "bulk")
+public record BulkConfigurationProperties(
+    RoomRegistration roomRegistration,
+    ListingImport listingImport
+) {
+
+    public record RoomRegistration (
+        int maxItems,
+        int chunkSize
+    ) { }
+
+    public record ListingImport (
+        int batchSize,
+        int queueCapacity,
+        int writerThreads,
+        long progressIntervalRows,
+        int maxConcurrentImports
+    ) { }
+}
@@ -0,0 +1,35 @@
+package com.sssukho.api.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cache")
+public record CacheConfigurationProperties(
+    RoomSearch roomSearch,
+    VerifiedToken verifiedToken,
+    Member member,
+    RoomJson roomJson
+) {
+
+    public record RoomSearch (
+        boolean enabled,
+        long maximumSize,
+        Duration ttl
+    ) { }
+
+    public record VerifiedToken (
+        boolean enabled,
+        long maximumSize
+    ) { }
+
+    public record Member (
+        boolean enabled,
+        long maximumSize,
+        Duration ttl
+    ) { }
+
+    public record RoomJson (
+        boolean enabled,
+        long maximumWeight
+    ) { }
+}
@@ -0,0 +1,22 @@
+package com.sssukho.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "concurrency-limit")
+public record ConcurrencyLimitConfigurationProperties(
+    boolean enabled,
+    double smoothing,
+    double tolerance,
+    int longWindow,
+    Limit searchRead,
+    Limit ownerRead,
+    Limit write,
+    Limit auth
+) {
+
+    public record Limit (
+        int initialLimit,
+        int minLimit,
+        int maxLimit
+    ) { }
+}
@@ -0,0 +1,21 @@
+package com.sssukho.api.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "password-hashing")
+public record PasswordHashingConfigurationProperties(
+    int threads,
+    int queueCapacity,
+    Duration timeout,
+    int strength,
+    Adaptive adaptive
+) {
+
+    public record Adaptive (
+        boolean enabled,
+        Duration latencyBudget,
+        int minStrength,
+        int maxStrength
+    ) { }
+}
@@ -0,0 +1,37 @@
+package com.sssukho.api.config.properties;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitConfigurationProperties(
+    boolean enabled,
+    long maximumBuckets,
+    List<Route> routes
+) {
+
+    /**
+     * 요청 제한 규칙
+     * - 위에서부터 처음으로 일치하는 규칙 하나만 적용
+     * - method 가 없으면 모든 method 에 적용
+     * - params 는 모두 만족해야 적용 ("ids" 는 파라미터가 있을 때, "!ids" 는 없을 때)
+     */
+    public record Route (
+        String method,
+        String path,
+        List<String> params,
+        KeyType key,
+        long capacity,
+        long refillTokens,
+        Duration refillPeriod
+    ) { }
+
+    /**
+     * 버킷을 나누는 기준
+     * - MEMBER 는 인증되지 않은 요청이면 IP 로 대신함
+     */
+    public enum KeyType {
+        MEMBER, IP
+    }
+}
@@ -0,0 +1,11 @@
+package com.sssukho.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "refresh-token")
+public record RefreshTokenConfigurationProperties(
+    long purgeIntervalMs,
+    int purgeBatchSize
+) {
+
+}
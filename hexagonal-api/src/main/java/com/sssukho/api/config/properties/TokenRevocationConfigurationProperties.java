@@ -0,0 +1,14 @@
+package com.sssukho.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "token-revocation")
+public record TokenRevocationConfigurationProperties(
+    int expectedEntries,
+    double falsePositiveRate,
+    long syncIntervalMs,
+    long rebuildIntervalMs,
+    int purgeBatchSize
+) {
+
+}
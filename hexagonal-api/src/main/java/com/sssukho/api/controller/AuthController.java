@@ -9,9 +9,11 @@ import com.sssukho.common.dto.auth.SignupResponse;
 import com.sssukho.common.dto.common.ResponseMessage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -21,6 +23,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthService authService;
 
     @PostMapping("/signup")
@@ -46,4 +50,18 @@ public class AuthController {
         return ResponseMessage.create(result);
     }
 
+    /**
+     * 로그아웃
+     * - 요청에 사용한 액세스 토큰을 폐기하고, 본문에 refresh token 이 있으면 함께 폐기
+     */
+    @PostMapping("/signout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void signOut(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+        @RequestBody(required = false) RefreshTokenRequest request) {
+
+        String accessToken = authorization.startsWith(BEARER_PREFIX)
+            ? authorization.substring(BEARER_PREFIX.length()) : authorization;
+        authService.signOut(accessToken, request == null ? null : request.refreshToken());
+    }
+
 }
@@ -0,0 +1,67 @@
+package com.sssukho.api.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sssukho.api.config.BinaryMessageConverterConfig;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Accept 에서 바이너리 형식(CBOR/Smile)을 가장 선호하는지 판단
+ * - q 값이 가장 높은 형식이 CBOR/Smile 일 때만 바이너리 (와일드카드만 있거나 같은 q 값이면 먼저 나온 형식)
+ */
+final class BinaryMediaTypes {
+
+    private static final List<MediaType> SUPPORTED = List.of(MediaType.APPLICATION_CBOR,
+        BinaryMessageConverterConfig.APPLICATION_SMILE);
+
+    private BinaryMediaTypes() {
+    }
+
+    /**
+     * 선호하는 바이너리 형식 (없으면 null)
+     */
+    static MediaType preferred(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+
+        MediaType preferred = null;
+        for (MediaType mediaType : mediaTypes) {
+            if (preferred == null || mediaType.getQualityValue() > preferred.getQualityValue()) {
+                preferred = mediaType;
+            }
+        }
+
+        for (MediaType supported : SUPPORTED) {
+            if (supported.equalsTypeAndSubtype(preferred)) {
+                return supported;
+            }
+        }
+        return null;
+    }
+
+    static JsonFactory factory(MediaType mediaType) {
+        return MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)
+            ? new CBORFactory() : new SmileFactory();
+    }
+
+    /**
+     * 같은 버전이라도 형식마다 다른 ETag 를 사용 (캐시가 다른 형식의 304 를 재사용하지 않도록)
+     */
+    static String eTag(String eTag, MediaType mediaType) {
+        return eTag.substring(0, eTag.length() - 1) + "-" + mediaType.getSubtype() + "\"";
+    }
+}
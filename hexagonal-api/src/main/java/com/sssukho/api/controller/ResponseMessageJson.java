@@ -0,0 +1,54 @@
+package com.sssukho.api.controller;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 이미 직렬화된 JSON 조각을 ResponseMessage 형식으로 이어붙임
+ * - ResponseMessage 를 Jackson 으로 직렬화한 결과와 같은 형식 ({"data": ..., "nextCursor": ...})
+ * - nextCursor 가 null 이면 생략
+ */
+final class ResponseMessageJson {
+
+    private static final byte[] DATA_PREFIX = "{\"data\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEXT_CURSOR_PREFIX = ",\"nextCursor\":\"".getBytes(
+        StandardCharsets.UTF_8);
+
+    private ResponseMessageJson() {
+    }
+
+    static byte[] single(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(DATA_PREFIX.length + data.length + 1);
+        out.writeBytes(DATA_PREFIX);
+        out.writeBytes(data);
+        out.write('}');
+        return out.toByteArray();
+    }
+
+    static byte[] list(List<byte[]> items, String nextCursor) {
+        int size = DATA_PREFIX.length + items.size() + 2;
+        for (byte[] item : items) {
+            size += item.length;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size + 64);
+        out.writeBytes(DATA_PREFIX);
+        out.write('[');
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(items.get(i));
+        }
+        out.write(']');
+        if (nextCursor != null) {
+            out.writeBytes(NEXT_CURSOR_PREFIX);
+            out.writeBytes(JsonStringEncoder.getInstance().quoteAsUTF8(nextCursor));
+            out.write('"');
+        }
+        out.write('}');
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,126 @@
+package com.sssukho.api.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 목록 응답을 항목을 받는 대로 출력 스트림에 쓰는 본문
+ * - json, binary 는 ResponseMessage 형식 ({"data":[...]}), ndjson 은 한 줄에 항목 하나
+ * - 목록을 만들지 않으므로 항목 수와 관계없이 메모리 사용량은 서블릿 응답 버퍼 크기로 일정
+ * - 첫 항목을 쓰면 바로 flush 해서 조회가 끝나기 전에 응답을 시작
+ */
+final class ResponseMessageStream {
+
+    private static final byte[] LIST_PREFIX = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LIST_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private ResponseMessageStream() {
+    }
+
+    /**
+     * 이미 직렬화된 JSON 조각을 이어붙임
+     */
+    static StreamingResponseBody json(Consumer<Consumer<byte[]>> items) {
+        return out -> {
+            out.write(LIST_PREFIX);
+            ItemWriter<byte[]> writer = new ItemWriter<>(out, (item, first) -> {
+                if (!first) {
+                    out.write(',');
+                }
+                out.write(item);
+            });
+            run(items, writer);
+            out.write(LIST_SUFFIX);
+        };
+    }
+
+    /**
+     * 항목을 하나씩 JsonGenerator 로 직렬화 (CBOR/Smile)
+     */
+    static <T> StreamingResponseBody binary(ObjectMapper objectMapper, JsonFactory jsonFactory,
+        Consumer<Consumer<T>> items) {
+        // 항목마다 flush 하면 작은 chunk 가 매번 전송되므로 응답 버퍼가 찰 때만 전송
+        ObjectWriter itemWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return out -> {
+            try (JsonGenerator generator = jsonFactory.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.writeStartObject();
+                generator.writeFieldName("data");
+                generator.writeStartArray();
+                ItemWriter<T> writer = new ItemWriter<>(out, (item, first) -> {
+                    itemWriter.writeValue(generator, item);
+                    if (first) {
+                        generator.flush();
+                    }
+                });
+                run(items, writer);
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+    }
+
+    /**
+     * 항목을 하나씩 JSON 한 줄로 직렬화 (NDJSON)
+     */
+    static <T> StreamingResponseBody ndjson(ObjectMapper objectMapper,
+        Consumer<Consumer<T>> items) {
+        ObjectWriter itemWriter = objectMapper.writer();
+        return out -> run(items, new ItemWriter<>(out, (item, first) -> {
+            out.write(itemWriter.writeValueAsBytes(item));
+            out.write('\n');
+        }));
+    }
+
+    /**
+     * Consumer 에서 던질 수 없는 IOException (ex. 클라이언트 연결 종료) 을 감쌌다가 다시 던짐
+     */
+    private static <T> void run(Consumer<Consumer<T>> items, ItemWriter<T> writer)
+        throws IOException {
+        try {
+            items.accept(writer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private interface Write<T> {
+
+        void write(T item, boolean first) throws IOException;
+    }
+
+    private static final class ItemWriter<T> implements Consumer<T> {
+
+        private final OutputStream out;
+        private final Write<T> write;
+        private boolean first = true;
+
+        private ItemWriter(OutputStream out, Write<T> write) {
+            this.out = out;
+            this.write = write;
+        }
+
+        @Override
+        public void accept(T item) {
+            try {
+                write.write(item, first);
+                if (first) {
+                    out.flush();
+                    first = false;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
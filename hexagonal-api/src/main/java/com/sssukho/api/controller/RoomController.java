@@ -1,8 +1,17 @@
 package com.sssukho.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.api.importer.ListingImportFormat;
+import com.sssukho.api.importer.ListingImportService;
+import com.sssukho.api.security.CurrentMember;
+import com.sssukho.api.service.RoomBulkService;
 import com.sssukho.api.service.RoomService;
+import com.sssukho.common.dto.common.CursorPage;
 import com.sssukho.common.dto.common.ResponseMessage;
 import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.ListingImportResult;
+import com.sssukho.common.dto.room.RoomBulkRegistrationResponse;
+import com.sssukho.common.dto.room.RoomCursor;
 import com.sssukho.common.dto.room.RoomRegistrationRequest;
 import com.sssukho.common.dto.room.RoomResponse;
 import com.sssukho.common.dto.room.RoomSearchRequest;
@@ -13,27 +22,42 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/rooms")
 @RequiredArgsConstructor
 public class RoomController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final RoomService roomService;
+    private final RoomBulkService roomBulkService;
+    private final ListingImportService listingImportService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 내방 등록
@@ -47,6 +71,35 @@ public class RoomController {
         return ResponseMessage.create(result);
     }
 
+    /**
+     * 내방 일괄 등록
+     * - 항목별 검증/저장 결과를 요청 순서대로 반환 (일부 실패해도 200)
+     */
+    @PostMapping("/bulk")
+    @ResponseStatus(code = HttpStatus.OK)
+    public ResponseMessage<RoomBulkRegistrationResponse> registerRooms(
+        @RequestBody List<RoomRegistrationRequest> requests) {
+
+        RoomBulkRegistrationResponse result = roomBulkService.registerAll(requests);
+        return ResponseMessage.create(result);
+    }
+
+    /**
+     * 매물 파일 가져오기 (NDJSON/CSV)
+     * - 요청 본문을 스트리밍으로 읽어서 저장하며, 행 단위 실패는 건너뛰고 건수만 반환
+     * - 형식은 Content-Type 으로 판단 (application/x-ndjson, text/csv)
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @ResponseStatus(code = HttpStatus.OK)
+    public ResponseMessage<ListingImportResult> importRooms(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body) {
+
+        ListingImportResult result = listingImportService.importListings(body,
+            ListingImportFormat.fromContentType(contentType), CurrentMember.get().memberId());
+        return ResponseMessage.create(result);
+    }
+
     /**
      * 내방 삭제
      */
@@ -72,30 +125,70 @@ public class RoomController {
 
     /**
      * 내방 단건 조회
+     * - If-None-Match 가 현재 ETag 와 같으면 거래 조회/직렬화 없이 304
+     * - 응답 본문은 캐시된 방 JSON 을 ResponseMessage 형식으로 감싸서 반환
+     * - Accept 가 CBOR/Smile 을 선호하면 같은 스키마의 바이너리로 반환
      */
     @GetMapping("/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public ResponseMessage<RoomResponse> findMyRoom(@PathVariable("id") @NotNull Long id) {
-        RoomResponse result = roomService.findMyRoom(id);
-        return ResponseMessage.create(result);
+    public ResponseEntity<Object> findMyRoom(
+        @PathVariable("id") @NotNull Long id, WebRequest webRequest) {
+
+        return conditional(webRequest, roomService.findMyRoomETag(id),
+            () -> ResponseMessageJson.single(roomService.findMyRoomJson(id)),
+            binaryType -> ResponseMessage.create(roomService.findMyRoom(id)));
+    }
+
+    /**
+     * 내방 여러 건 조회 (ex. 즐겨찾기, 최근 본 방)
+     * - 단건 조회를 id 마다 호출하는 대신 방/거래를 한 번에 조회 (최대 100건)
+     * - 없거나 내 방이 아닌 id 는 결과에서 제외하고 요청한 순서대로 반환
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<Object> findMyRoomsByIds(
+        @RequestParam(name = "ids") @Size(max = 100) List<Long> ids, WebRequest webRequest) {
+
+        return conditional(webRequest, null,
+            () -> ResponseMessageJson.list(roomService.findMyRoomsByIdsJson(ids), null),
+            binaryType -> ResponseMessage.create(roomService.findMyRoomsByIds(ids)));
     }
 
     /**
-     * 내방 목록 조회
+     * 내방 전체 목록 조회 (cursor, size 가 모두 없는 경우, 기존 클라이언트 호환)
+     * - 목록 크기에 제한이 없으므로 DB 에서 읽는 대로 응답에 씀 (목록을 메모리에 만들지 않음)
+     */
+    @GetMapping(value = "/my", params = {"!cursor", "!size"})
+    public ResponseEntity<StreamingResponseBody> findAllMyRooms(WebRequest webRequest) {
+
+        return conditional(webRequest, roomService.findMyRoomsETag(),
+            () -> ResponseMessageStream.json(roomService::forEachMyRoomJson),
+            binaryType -> ResponseMessageStream.binary(objectMapper,
+                BinaryMediaTypes.factory(binaryType), roomService::forEachMyRoom));
+    }
+
+    /**
+     * 내방 목록 조회 (cursor 방식)
      */
     @GetMapping("/my")
-    @ResponseStatus(code = HttpStatus.OK)
-    public ResponseMessage<List<RoomResponse>> findMyRooms() {
-        List<RoomResponse> result = roomService.findMyRooms();
-        return ResponseMessage.create(result);
+    public ResponseEntity<Object> findMyRooms(
+        @RequestParam(required = false, name = "cursor") String cursor,
+        @RequestParam(required = false, name = "size") @Min(0) @Max(100) Integer size,
+        WebRequest webRequest) {
+
+        RoomCursor roomCursor = cursor != null ? RoomCursor.decode(cursor) : null;
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        return conditional(webRequest, roomService.findMyRoomsETag(),
+            () -> page(roomService.findMyRoomsJson(roomCursor, pageSize)),
+            binaryType -> ResponseMessage.createPage(
+                roomService.findMyRooms(roomCursor, pageSize)));
     }
 
     /**
      * 전체방 목록 조회
+     * - cursor 가 있으면 page 는 무시하고 keyset 방식으로 조회
+     * - 검색 조건 검증 후 ETag 를 확인하므로 잘못된 조건은 항상 400
      */
     @GetMapping
-    @ResponseStatus(code = HttpStatus.OK)
-    public ResponseMessage<List<RoomResponse>> searchRooms(
+    public ResponseEntity<Object> searchRooms(
         @RequestParam(required = false, name = "roomTypes") List<String> roomTypes,
         @RequestParam(required = false, name = "dealTypes") List<String> dealTypes,
         @RequestParam(required = false, name = "minDeposit") @DecimalMin(value = "0") BigDecimal minDeposit,
@@ -103,23 +196,87 @@ public class RoomController {
         @RequestParam(required = false, name = "minMonthlyRent") @DecimalMin(value = "0") BigDecimal minMonthlyRent,
         @RequestParam(required = false, name = "maxMonthlyRent") @DecimalMin(value = "0") BigDecimal maxMonthlyRent,
         @RequestParam(defaultValue = "0", name = "page") @Min(0) int page,
-        @RequestParam(defaultValue = "20", name = "size") @Min(0) @Max(100) int size) {
+        @RequestParam(defaultValue = "20", name = "size") @Min(0) @Max(100) int size,
+        @RequestParam(required = false, name = "cursor") String cursor,
+        WebRequest webRequest) {
+
+        RoomCursor roomCursor = cursor != null ? RoomCursor.decode(cursor) : null;
+
+        RoomSearchRequest request = new RoomSearchRequest(toRoomTypeDtos(roomTypes),
+            toDealTypeDtos(dealTypes), minDeposit, maxDeposit, minMonthlyRent, maxMonthlyRent,
+            page, size, roomCursor);
+
+        return conditional(webRequest, roomService.searchETag(),
+            () -> page(roomService.searchJson(request)),
+            binaryType -> ResponseMessage.createPage(roomService.search(request)));
+    }
+
+    /**
+     * 검색 조건에 맞는 전체 방 내보내기 (NDJSON, 한 줄에 방 하나)
+     * - 검색 조건은 전체방 목록 조회와 같고, 페이징 없이 id 순으로 DB 에서 읽는 대로 응답에 씀
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRooms(
+        @RequestParam(required = false, name = "roomTypes") List<String> roomTypes,
+        @RequestParam(required = false, name = "dealTypes") List<String> dealTypes,
+        @RequestParam(required = false, name = "minDeposit") @DecimalMin(value = "0") BigDecimal minDeposit,
+        @RequestParam(required = false, name = "maxDeposit") @DecimalMin(value = "0") BigDecimal maxDeposit,
+        @RequestParam(required = false, name = "minMonthlyRent") @DecimalMin(value = "0") BigDecimal minMonthlyRent,
+        @RequestParam(required = false, name = "maxMonthlyRent") @DecimalMin(value = "0") BigDecimal maxMonthlyRent) {
+
+        RoomSearchRequest request = new RoomSearchRequest(toRoomTypeDtos(roomTypes),
+            toDealTypeDtos(dealTypes), minDeposit, maxDeposit, minMonthlyRent, maxMonthlyRent,
+            0, 0);
 
-        List<RoomTypeDto> roomTypeDtos = null;
-        if (roomTypes != null && !roomTypes.isEmpty()) {
-            roomTypeDtos = roomTypes.stream().map(RoomTypeDto::from).toList();
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON)
+            .body(ResponseMessageStream.<RoomResponse>ndjson(objectMapper,
+                action -> roomService.exportRooms(request, action)));
+    }
+
+    private static List<RoomTypeDto> toRoomTypeDtos(List<String> roomTypes) {
+        if (roomTypes == null || roomTypes.isEmpty()) {
+            return null;
+        }
+        return roomTypes.stream().map(RoomTypeDto::from).toList();
+    }
+
+    private static List<DealTypeDto> toDealTypeDtos(List<String> dealTypes) {
+        if (dealTypes == null || dealTypes.isEmpty()) {
+            return null;
+        }
+        return dealTypes.stream().map(DealTypeDto::from).toList();
+    }
+
+    /**
+     * ETag 가 If-None-Match 와 같으면 본문 없이 304, 아니면 본문을 만들어서 ETag 와 함께 200
+     * - ETag 는 본문보다 먼저 계산해야 함 (그 사이 변경되면 다음 요청에서 200 이 되도록)
+     * - JSON 본문은 이미 직렬화되어 있거나 직접 쓰므로 content type 을 직접 지정
+     * - 바이너리 본문은 Accept 로 선택된 형식(CBOR/Smile)으로 직렬화
+     */
+    private static <T> ResponseEntity<T> conditional(WebRequest webRequest, String eTag,
+        Supplier<? extends T> json, Function<MediaType, ? extends T> binary) {
+        MediaType binaryType = BinaryMediaTypes.preferred(webRequest);
+        if (eTag != null && binaryType != null) {
+            eTag = BinaryMediaTypes.eTag(eTag, binaryType);
         }
 
-        List<DealTypeDto> dealTypeDtos = null;
-        if (dealTypes != null && !dealTypes.isEmpty()) {
-            dealTypeDtos = dealTypes.stream().map(DealTypeDto::from).toList();
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT).build();
         }
 
-        RoomSearchRequest request = new RoomSearchRequest(roomTypeDtos, dealTypeDtos, minDeposit,
-            maxDeposit, minMonthlyRent, maxMonthlyRent, page, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        if (binaryType != null) {
+            return response.contentType(binaryType).body(binary.apply(binaryType));
+        }
+        return response.contentType(MediaType.APPLICATION_JSON).body(json.get());
+    }
 
-        List<RoomResponse> result = roomService.search(request);
-        return ResponseMessage.create(result);
+    private static byte[] page(CursorPage<byte[]> page) {
+        return ResponseMessageJson.list(page.contents(), page.nextCursor());
     }
 }
 
@@ -0,0 +1,248 @@
+package com.sssukho.api.importer;
+
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomRegistrationRequest;
+import com.sssukho.common.dto.room.RoomRegistrationRequest.DealRegistrationRequest;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.common.exception.CustomException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 헤더가 있는 CSV reader
+ * - 컬럼: title, description, address, area, roomType, dealType, deposit, monthlyRent (순서 무관)
+ * - 한 행에 방 하나와 거래 하나를 표현하며, title/address/roomType 이 모두 비어 있는 행은
+ *   바로 앞 방의 추가 거래로 취급
+ * - 값에 쉼표나 따옴표가 있으면 큰따옴표로 감싸고 따옴표는 두 번 씀 (여러 줄 값은 지원하지 않음)
+ */
+class CsvListingReader implements ListingReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "address", "roomType");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columnIndexes;
+    private long lineNumber;
+
+    private PendingRoom pendingRoom;
+    // 방 행이 유효하지 않으면 뒤따르는 추가 거래 행도 건너뜀
+    private boolean skippingContinuations;
+
+    CsvListingReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        this.columnIndexes = readHeader();
+    }
+
+    @Override
+    public RoomRegistrationRequest next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            List<String> fields = split(line);
+            if (isContinuation(fields)) {
+                appendDeal(fields);
+                continue;
+            }
+
+            PendingRoom nextRoom;
+            try {
+                nextRoom = new PendingRoom(toRoom(fields));
+                nextRoom.addDeal(toDeal(fields));
+                skippingContinuations = false;
+            } catch (CustomException e) {
+                skippingContinuations = true;
+                throw e;
+            }
+
+            RoomRegistrationRequest completedRoom = completePendingRoom();
+            pendingRoom = nextRoom;
+            if (completedRoom != null) {
+                return completedRoom;
+            }
+        }
+        return completePendingRoom();
+    }
+
+    @Override
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Map<String, Integer> readHeader() throws IOException {
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER, "CSV 헤더가 없습니다.");
+        }
+        lineNumber++;
+
+        Map<String, Integer> indexes = new HashMap<>();
+        List<String> headers = split(headerLine);
+        for (int i = 0; i < headers.size(); i++) {
+            indexes.put(headers.get(i).trim(), i);
+        }
+
+        for (String requiredColumn : REQUIRED_COLUMNS) {
+            if (!indexes.containsKey(requiredColumn)) {
+                throw new CustomException(ErrorCode.INVALID_PARAMETER,
+                    "CSV 헤더에 '" + requiredColumn + "' 컬럼이 없습니다.");
+            }
+        }
+        return indexes;
+    }
+
+    private void appendDeal(List<String> fields) {
+        if (skippingContinuations) {
+            throw invalidLine("앞 방 행이 유효하지 않아 추가 거래를 건너뜁니다.");
+        }
+        if (pendingRoom == null) {
+            throw invalidLine("추가 거래 행 앞에 방 행이 없습니다.");
+        }
+
+        DealRegistrationRequest deal = toDeal(fields);
+        if (deal == null) {
+            throw invalidLine("추가 거래 행에 거래 유형이 없습니다.");
+        }
+        pendingRoom.addDeal(deal);
+    }
+
+    private RoomRegistrationRequest completePendingRoom() {
+        if (pendingRoom == null) {
+            return null;
+        }
+        RoomRegistrationRequest completedRoom = pendingRoom.toRequest();
+        pendingRoom = null;
+        return completedRoom;
+    }
+
+    private boolean isContinuation(List<String> fields) {
+        return REQUIRED_COLUMNS.stream().allMatch(column -> value(fields, column) == null);
+    }
+
+    private RoomRegistrationRequest toRoom(List<String> fields) {
+        String roomType = value(fields, "roomType");
+        return new RoomRegistrationRequest(
+            value(fields, "title"),
+            value(fields, "description"),
+            value(fields, "address"),
+            toDouble(value(fields, "area"), "area"),
+            roomType != null ? RoomTypeDto.from(roomType) : null,
+            null);
+    }
+
+    private DealRegistrationRequest toDeal(List<String> fields) {
+        String dealType = value(fields, "dealType");
+        if (dealType == null) {
+            return null;
+        }
+        return new DealRegistrationRequest(
+            DealTypeDto.from(dealType),
+            toBigDecimal(value(fields, "deposit"), "deposit"),
+            toBigDecimal(value(fields, "monthlyRent"), "monthlyRent"));
+    }
+
+    private String value(List<String> fields, String column) {
+        Integer index = columnIndexes.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Double toDouble(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw invalidColumn(column);
+        }
+    }
+
+    private BigDecimal toBigDecimal(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw invalidColumn(column);
+        }
+    }
+
+    private CustomException invalidColumn(String column) {
+        return invalidLine("'" + column + "' 의 값이 유효하지 않습니다.");
+    }
+
+    private CustomException invalidLine(String reason) {
+        return new CustomException(ErrorCode.INVALID_PARAMETER, lineNumber + "번째 줄: " + reason);
+    }
+
+    /**
+     * 큰따옴표로 감싼 값을 고려해서 한 줄을 컬럼 단위로 분리
+     */
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static class PendingRoom {
+
+        private final RoomRegistrationRequest room;
+        private final List<DealRegistrationRequest> deals = new ArrayList<>();
+
+        PendingRoom(RoomRegistrationRequest room) {
+            this.room = room;
+        }
+
+        void addDeal(DealRegistrationRequest deal) {
+            if (deal != null) {
+                deals.add(deal);
+            }
+        }
+
+        RoomRegistrationRequest toRequest() {
+            return new RoomRegistrationRequest(room.title(), room.description(), room.address(),
+                room.area(), room.roomType(), List.copyOf(deals));
+        }
+    }
+}
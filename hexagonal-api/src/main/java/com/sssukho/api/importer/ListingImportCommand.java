@@ -0,0 +1,71 @@
+package com.sssukho.api.importer;
+
+import com.sssukho.api.service.MemberService;
+import com.sssukho.common.dto.room.ListingImportResult;
+import com.sssukho.domain.member.Member;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매물 파일 가져오기 CLI
+ * - listing-import.file 이 지정된 경우에만 동작하며, 가져오기가 끝나면 애플리케이션을 종료
+ * - 예) java -jar hexagonal-api.jar --spring.main.web-application-type=none \
+ *       --listing-import.file=/data/rooms.ndjson --listing-import.owner-email=dev.sssukho@gmail.com
+ * - 형식은 listing-import.format 으로 지정하며, 없으면 파일 확장자로 판단
+ */
+@Component
+@ConditionalOnProperty(name = "listing-import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class ListingImportCommand implements ApplicationRunner {
+
+    private final ListingImportService listingImportService;
+    private final MemberService memberService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${listing-import.file}")
+    private String file;
+
+    @Value("${listing-import.owner-email}")
+    private String ownerEmail;
+
+    @Value("${listing-import.format:}")
+    private String format;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(file);
+        ListingImportFormat importFormat = format.isBlank()
+            ? ListingImportFormat.fromFileName(path.getFileName().toString())
+            : ListingImportFormat.from(format);
+
+        log.info("매물 가져오기 시작 - file: {}, format: {}, owner: {}", path, importFormat,
+            ownerEmail);
+
+        int exitCode = 0;
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            Member owner = memberService.findByEmail(ownerEmail);
+            ListingImportResult result = listingImportService.importListings(inputStream,
+                importFormat, owner.getId());
+            if (result.failedCount() > 0) {
+                exitCode = 2;
+            }
+        } catch (Exception e) {
+            log.error("매물 가져오기 실패", e);
+            exitCode = 1;
+        }
+
+        int finalExitCode = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> finalExitCode));
+    }
+}
@@ -0,0 +1,71 @@
+package com.sssukho.api.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+public enum ListingImportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private static final String MSG_FORMAT_NOT_SUPPORTED = "%s 입력값 '%s' 은 지원하지 않습니다.";
+
+    private final MediaType contentType;
+
+    ListingImportFormat(String contentType) {
+        this.contentType = MediaType.parseMediaType(contentType);
+    }
+
+    public static ListingImportFormat from(String input) {
+        try {
+            return valueOf(input.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER,
+                String.format(MSG_FORMAT_NOT_SUPPORTED, "가져오기 형식", input));
+        }
+    }
+
+    /**
+     * 요청 Content-Type 으로 형식 판단 (charset 등 파라미터는 무시)
+     */
+    public static ListingImportFormat fromContentType(String contentType) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            for (ListingImportFormat format : values()) {
+                if (format.contentType.equalsTypeAndSubtype(mediaType)) {
+                    return format;
+                }
+            }
+        } catch (InvalidMediaTypeException ex) {
+            // 아래에서 지원하지 않는 형식으로 처리
+        }
+        throw new CustomException(ErrorCode.INVALID_PARAMETER,
+            String.format(MSG_FORMAT_NOT_SUPPORTED, "Content-Type", contentType));
+    }
+
+    /**
+     * 파일 확장자로 형식 판단 (.csv, .ndjson, .jsonl)
+     */
+    public static ListingImportFormat fromFileName(String fileName) {
+        String lowerCaseFileName = fileName.toLowerCase();
+        if (lowerCaseFileName.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lowerCaseFileName.endsWith(".ndjson") || lowerCaseFileName.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new CustomException(ErrorCode.INVALID_PARAMETER,
+            String.format(MSG_FORMAT_NOT_SUPPORTED, "가져오기 파일", fileName));
+    }
+
+    public ListingReader open(BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonListingReader(reader, objectMapper);
+            case CSV -> new CsvListingReader(reader);
+        };
+    }
+}
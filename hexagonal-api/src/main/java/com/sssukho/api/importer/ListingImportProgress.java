@@ -0,0 +1,50 @@
+package com.sssukho.api.importer;
+
+import com.sssukho.common.dto.room.ListingImportResult;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가져오기 진행 상황 집계
+ * - 읽은 건수가 progressIntervalRows 의 배수가 될 때마다 처리량을 로그로 남김
+ */
+@Slf4j
+class ListingImportProgress {
+
+    private final long progressIntervalRows;
+    private final long startedAt = System.nanoTime();
+
+    private final AtomicLong readCount = new AtomicLong();
+    private final AtomicLong importedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    ListingImportProgress(long progressIntervalRows) {
+        this.progressIntervalRows = progressIntervalRows;
+    }
+
+    void read() {
+        long read = readCount.incrementAndGet();
+        if (progressIntervalRows > 0 && read % progressIntervalRows == 0) {
+            ListingImportResult current = toResult();
+            log.info("매물 가져오기 진행 중 - 읽음 {}, 저장 {}, 실패 {}, {}건/초", current.readCount(),
+                current.importedCount(), current.failedCount(), current.roomsPerSecond());
+        }
+    }
+
+    void imported(int count) {
+        importedCount.addAndGet(count);
+    }
+
+    void failed(int count) {
+        failedCount.addAndGet(count);
+    }
+
+    ListingImportResult toResult() {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        long imported = importedCount.get();
+        long roomsPerSecond = elapsedMillis == 0 ? imported : imported * 1000 / elapsedMillis;
+        return new ListingImportResult(readCount.get(), imported, failedCount.get(), elapsedMillis,
+            roomsPerSecond);
+    }
+}
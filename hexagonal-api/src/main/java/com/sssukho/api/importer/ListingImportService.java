@@ -0,0 +1,275 @@
+package com.sssukho.api.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.api.config.properties.BulkConfigurationProperties;
+import com.sssukho.api.service.RoomBatchWriter;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.dto.room.ListingImportResult;
+import com.sssukho.common.dto.room.RoomRegistrationRequest;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.domain.room.RoomsImportedEvent;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대용량 매물 파일(NDJSON/CSV) 가져오기
+ * - 호출 스레드가 파일을 한 줄씩 파싱해서 batch 로 묶어 bounded queue 에 넣고,
+ *   writer 스레드들이 꺼내서 batch 단위 트랜잭션으로 저장
+ * - queue 가 가득 차면 파싱이 멈추므로 메모리 사용량은 파일 크기와 무관하게
+ *   (queueCapacity + writerThreads) * batchSize 건 이내로 유지됨
+ * - 형식이 잘못되었거나 검증에 실패한 행, 저장에 실패한 batch 는 실패 건수로 집계하고 계속 진행
+ * - spring.threads.virtual.enabled 이면 writer 도 virtual thread 로 실행 (writer 수 제한은 동일)
+ * - batch 마다 변경 이벤트를 발행하지 않고, 끝난 뒤에 RoomsImportedEvent 로 캐시/인덱스를 한번에 갱신
+ *   (가져오는 동안 저장된 방은 검색 캐시 TTL 이내에서 늦게 보일 수 있음)
+ * - writer 가 모두 비정상 종료되면 queue 를 기다리지 않고 가져오기를 실패로 끝냄
+ * - 가져오기는 동시성 제한 대상이 아니므로 노드 전체에서 동시에 진행되는 가져오기 수를
+ *   maxConcurrentImports 로 제한하고, 초과하면 기다리지 않고 TOO_MANY_REQUESTS
+ *   (writer 스레드는 노드 전체에서 maxConcurrentImports * writerThreads 개 이내)
+ */
+@Service
+@Slf4j
+public class ListingImportService {
+
+    private static final List<RoomRegistrationRequest> END_OF_INPUT = List.of();
+    // queue 가 가득 찬 동안 writer 생존 여부를 확인하는 주기
+    private static final long OFFER_TIMEOUT_MILLIS = 500;
+
+    private final RoomBatchWriter roomBatchWriter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final BulkConfigurationProperties bulkConfigurationProperties;
+    private final Environment environment;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Semaphore importPermits;
+
+    public ListingImportService(RoomBatchWriter roomBatchWriter, Validator validator,
+        ObjectMapper objectMapper, BulkConfigurationProperties bulkConfigurationProperties,
+        Environment environment, ApplicationEventPublisher eventPublisher) {
+        this.roomBatchWriter = roomBatchWriter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.bulkConfigurationProperties = bulkConfigurationProperties;
+        this.environment = environment;
+        this.eventPublisher = eventPublisher;
+        this.importPermits = new Semaphore(
+            bulkConfigurationProperties.listingImport().maxConcurrentImports());
+    }
+
+    public ListingImportResult importListings(InputStream inputStream, ListingImportFormat format,
+        Long ownerId) {
+        if (!importPermits.tryAcquire()) {
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS,
+                "이미 진행 중인 매물 가져오기가 많습니다.");
+        }
+
+        try {
+            return importWithPermit(inputStream, format, ownerId);
+        } finally {
+            importPermits.release();
+        }
+    }
+
+    private ListingImportResult importWithPermit(InputStream inputStream,
+        ListingImportFormat format, Long ownerId) {
+        BulkConfigurationProperties.ListingImport properties =
+            bulkConfigurationProperties.listingImport();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        ListingImportProgress progress = new ListingImportProgress(
+            properties.progressIntervalRows());
+        BlockingQueue<List<RoomRegistrationRequest>> queue = new ArrayBlockingQueue<>(
+            properties.queueCapacity());
+
+        ExecutorService writers = Executors.newFixedThreadPool(properties.writerThreads(),
+            writerThreadFactory());
+        List<Future<?>> writerFutures = new ArrayList<>();
+        for (int i = 0; i < properties.writerThreads(); i++) {
+            writerFutures.add(writers.submit(() -> drain(queue, ownerId, progress)));
+        }
+
+        try {
+            readInto(queue, writerFutures, inputStream, format, properties.batchSize(), progress);
+        } finally {
+            signalEndOfInput(queue, writerFutures);
+            awaitWriters(writerFutures);
+            writers.shutdown();
+            publishImported(ownerId, startedAt, progress);
+        }
+
+        ListingImportResult result = progress.toResult();
+        log.info("매물 가져오기 완료 - 읽음 {}, 저장 {}, 실패 {}, {}ms, {}건/초", result.readCount(),
+            result.importedCount(), result.failedCount(), result.elapsedMillis(),
+            result.roomsPerSecond());
+        return result;
+    }
+
+    private void readInto(BlockingQueue<List<RoomRegistrationRequest>> queue,
+        List<Future<?>> writerFutures, InputStream inputStream, ListingImportFormat format, int batchSize,
+        ListingImportProgress progress) {
+        BufferedReader bufferedReader = new BufferedReader(
+            new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        try (ListingReader reader = format.open(bufferedReader, objectMapper)) {
+            List<RoomRegistrationRequest> batch = new ArrayList<>(batchSize);
+            while (true) {
+                RoomRegistrationRequest request;
+                try {
+                    request = reader.next();
+                } catch (CustomException e) {
+                    progress.read();
+                    progress.failed(1);
+                    log.debug("매물 가져오기 {}번째 줄 건너뜀: {}", reader.lineNumber(),
+                        e.getErrorMessageForResponse());
+                    continue;
+                }
+
+                if (request == null) {
+                    break;
+                }
+
+                progress.read();
+                if (!validator.validate(request).isEmpty()) {
+                    progress.failed(1);
+                    log.debug("매물 가져오기 {}번째 줄 검증 실패", reader.lineNumber());
+                    continue;
+                }
+
+                batch.add(request);
+                if (batch.size() == batchSize) {
+                    put(queue, batch, writerFutures);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                put(queue, batch, writerFutures);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void drain(BlockingQueue<List<RoomRegistrationRequest>> queue, Long ownerId,
+        ListingImportProgress progress) {
+        while (true) {
+            List<RoomRegistrationRequest> batch;
+            try {
+                batch = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (batch == END_OF_INPUT) {
+                return;
+            }
+
+            try {
+                roomBatchWriter.writeWithoutEvent(batch, ownerId);
+                progress.imported(batch.size());
+            } catch (RuntimeException e) {
+                log.warn("매물 가져오기 batch 저장 실패 ({}건)", batch.size(), e);
+                progress.failed(batch.size());
+            }
+        }
+    }
+
+    /**
+     * writer 가 모두 종료되어 queue 가 비워지지 않으면 INTERNAL_SERVER_ERROR
+     * - drain 은 RuntimeException 만 잡으므로 Error 로 writer 가 모두 죽으면 put 은 영원히 기다리게 됨
+     */
+    private void put(BlockingQueue<List<RoomRegistrationRequest>> queue,
+        List<RoomRegistrationRequest> batch, List<Future<?>> writerFutures) {
+        if (!offer(queue, batch, writerFutures)) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR,
+                "매물 가져오기 writer 가 모두 종료되었습니다.");
+        }
+    }
+
+    private void signalEndOfInput(BlockingQueue<List<RoomRegistrationRequest>> queue,
+        List<Future<?>> writerFutures) {
+        for (int i = 0; i < writerFutures.size(); i++) {
+            if (!offer(queue, END_OF_INPUT, writerFutures)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * queue 에 넣을 수 있을 때까지 기다리되, 살아있는 writer 가 없으면 false
+     */
+    private boolean offer(BlockingQueue<List<RoomRegistrationRequest>> queue,
+        List<RoomRegistrationRequest> batch, List<Future<?>> writerFutures) {
+        try {
+            while (!queue.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (writerFutures.stream().allMatch(Future::isDone)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    private void awaitWriters(List<Future<?>> writerFutures) {
+        for (Future<?> writerFuture : writerFutures) {
+            try {
+                writerFuture.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writerFuture.cancel(true);
+            } catch (ExecutionException e) {
+                log.error("매물 가져오기 writer 비정상 종료", e.getCause());
+            }
+        }
+    }
+
+    private void publishImported(Long ownerId, LocalDateTime startedAt,
+        ListingImportProgress progress) {
+        long importedCount = progress.toResult().importedCount();
+        if (importedCount > 0) {
+            eventPublisher.publishEvent(new RoomsImportedEvent(ownerId, startedAt, importedCount));
+        }
+    }
+
+    private ThreadFactory writerThreadFactory() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("listing-import-writer-")
+                .getVirtualThreadFactory();
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable,
+                "listing-import-writer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
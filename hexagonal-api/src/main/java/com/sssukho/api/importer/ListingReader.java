@@ -0,0 +1,23 @@
+package com.sssukho.api.importer;
+
+import com.sssukho.common.dto.room.RoomRegistrationRequest;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 매물 파일을 한 건씩 읽는 reader
+ * - 파일 전체를 메모리에 올리지 않고 줄 단위로 읽음
+ */
+public interface ListingReader extends Closeable {
+
+    /**
+     * 다음 방을 반환하며, 더 이상 없으면 null
+     * - 형식이 잘못된 행은 CustomException(INVALID_PARAMETER) 을 던지고, 다음 호출에서 이어서 읽음
+     */
+    RoomRegistrationRequest next() throws IOException;
+
+    /**
+     * 마지막으로 읽은 행 번호 (1부터 시작)
+     */
+    long lineNumber();
+}
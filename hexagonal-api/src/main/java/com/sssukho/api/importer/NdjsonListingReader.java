@@ -0,0 +1,53 @@
+package com.sssukho.api.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.dto.room.RoomRegistrationRequest;
+import com.sssukho.common.exception.CustomException;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * 한 줄에 방 등록 요청(JSON) 하나씩 있는 NDJSON reader
+ */
+class NdjsonListingReader implements ListingReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    NdjsonListingReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public RoomRegistrationRequest next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                return objectMapper.readValue(line, RoomRegistrationRequest.class);
+            } catch (JsonProcessingException e) {
+                throw new CustomException(ErrorCode.INVALID_PARAMETER,
+                    lineNumber + "번째 줄의 JSON 형식이 유효하지 않습니다.");
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
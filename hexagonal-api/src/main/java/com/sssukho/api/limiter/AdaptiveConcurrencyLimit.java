@@ -0,0 +1,103 @@
+package com.sssukho.api.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 시간을 보고 스스로 조정되는 동시 처리 수 제한 (gradient 방식)
+ * - 평소 응답 시간(longRtt, 느린 이동 평균)과 최근 응답 시간(shortRtt, 빠른 이동 평균)의 비율로 limit 을 조정
+ * - 최근 응답 시간이 평소의 tolerance 배를 넘으면 그 비율만큼 줄이고, 그렇지 않으면 sqrt(limit) 만큼 늘림
+ * - limit 을 넘는 요청은 기다리지 않고 바로 거절
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_RTT_FACTOR = 2.0 / (10 + 1);
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longRttFactor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // update() 안에서만 변경
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+        double smoothing, double tolerance, int longWindow) {
+        if (minLimit <= 0 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("minLimit 은 0 보다 크고 maxLimit 이하여야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longRttFactor = 2.0 / (longWindow + 1);
+        this.estimatedLimit = clamp(initialLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param sample false 면 응답 시간을 limit 계산에 반영하지 않음 (ex. 잘못된 요청으로 바로 끝난 경우)
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (sample && rttNanos > 0) {
+            update(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+        } else {
+            shortRttNanos += (rttNanos - shortRttNanos) * SHORT_RTT_FACTOR;
+            longRttNanos += (rttNanos - longRttNanos) * longRttFactor;
+        }
+
+        // 과부하가 끝난 뒤 높아진 longRtt 때문에 회복이 늦어지지 않도록 조금씩 끌어내림
+        if (longRttNanos > shortRttNanos * 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // 요청이 적어서 limit 을 다 쓰지 않는 동안에는 늘리지 않음 (측정 근거가 없는 증가 방지)
+        double gradient = Math.max(MIN_GRADIENT,
+            Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        if (gradient == 1.0 && inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = clamp(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+        limit = (int) estimatedLimit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,159 @@
+package com.sssukho.api.limiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.api.config.properties.ConcurrencyLimitConfigurationProperties;
+import com.sssukho.common.dto.common.ErrorResponseMessage;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * API 묶음(EndpointClass) 별 동시 처리 수 제한
+ * - limit 을 넘는 요청은 Tomcat 큐에서 기다리게 두지 않고 바로 503 으로 응답
+ * - 전체방 검색이 몰려도 내방 조회 등 다른 묶음은 자기 몫의 동시 처리 수를 그대로 사용
+ * - 현재 limit 과 처리 중인 요청 수는 concurrency.limit, concurrency.in-flight 로 노출
+ * - 비동기로 응답을 이어서 쓰는 요청 (내방 목록 스트리밍) 은 응답이 끝날 때 반납하지만 처리 시간은 limit 계산에 쓰지 않음
+ *   (방 수와 클라이언트 수신 속도에 따라 수 분까지 걸리므로, 반영하면 같은 묶음의 단건 조회 limit 까지 낮아짐)
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final Map<EndpointClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(
+        EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejectedCounters = new EnumMap<>(
+        EndpointClass.class);
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitConfigurationProperties properties,
+        MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.enabled = properties.enabled();
+        this.objectMapper = objectMapper;
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            ConcurrencyLimitConfigurationProperties.Limit limit = limitOf(properties,
+                endpointClass);
+            AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(
+                limit.initialLimit(), limit.minLimit(), limit.maxLimit(),
+                properties.smoothing(), properties.tolerance(), properties.longWindow());
+            String tag = endpointClass.name().toLowerCase();
+
+            limits.put(endpointClass, concurrencyLimit);
+            rejectedCounters.put(endpointClass, Counter.builder("concurrency.rejected")
+                .tag("endpoint", tag)
+                .description("동시 처리 수 제한으로 거절된 요청 수")
+                .register(meterRegistry));
+            Gauge.builder("concurrency.limit", concurrencyLimit,
+                    AdaptiveConcurrencyLimit::getLimit)
+                .tag("endpoint", tag)
+                .description("현재 동시 처리 수 제한")
+                .register(meterRegistry);
+            Gauge.builder("concurrency.in-flight", concurrencyLimit,
+                    AdaptiveConcurrencyLimit::getInFlight)
+                .tag("endpoint", tag)
+                .description("처리 중인 요청 수")
+                .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        EndpointClass endpointClass = enabled
+            ? EndpointClass.classify(request.getMethod(), path,
+                request.getParameterMap().keySet())
+            : null;
+
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimit limit = limits.get(endpointClass);
+        if (!limit.tryAcquire()) {
+            rejectedCounters.get(endpointClass).increment();
+            ErrorResponseMessage responseBody = ErrorResponseMessage.create(ErrorCode.SERVICE_UNAVAILABLE);
+
+            response.setStatus(ErrorCode.SERVICE_UNAVAILABLE.getHttpStatus().value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE + "; charset=UTF-8");
+            response.getWriter().write(objectMapper.writeValueAsString(responseBody));
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean sample = false;
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // 컨트롤러가 반환한 뒤에도 다른 스레드에서 응답을 쓰고 있으므로 완료 시점에 반납
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limit, startedAt));
+                async = true;
+            }
+            sample = isLoadSignal(response.getStatus());
+        } finally {
+            if (!async) {
+                limit.release(System.nanoTime() - startedAt, sample);
+            }
+        }
+    }
+
+    /**
+     * 4xx 는 검증 단계에서 바로 끝나므로 서버 부하를 나타내지 않음
+     */
+    private static boolean isLoadSignal(int status) {
+        return status < 400 || status >= 500;
+    }
+
+    private static ConcurrencyLimitConfigurationProperties.Limit limitOf(
+        ConcurrencyLimitConfigurationProperties properties, EndpointClass endpointClass) {
+        return switch (endpointClass) {
+            case SEARCH_READ -> properties.searchRead();
+            case OWNER_READ -> properties.ownerRead();
+            case WRITE -> properties.write();
+            case AUTH -> properties.auth();
+        };
+    }
+
+    /**
+     * 비동기 요청의 동시 처리 수를 응답이 끝날 때 반납 (처리 시간은 표본으로 쓰지 않음)
+     * - timeout, error 이후에도 onComplete 는 항상 한번 호출되므로 onComplete 에서만 반납
+     */
+    private record ReleaseOnComplete(AdaptiveConcurrencyLimit limit, long startedAt)
+        implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limit.release(System.nanoTime() - startedAt, false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 같은 요청에서 비동기를 다시 시작하면 등록한 리스너가 지워지므로 다시 등록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sssukho.api.limiter;
+
+import java.util.Set;
+
+/**
+ * 동시 처리 수를 따로 제한하는 API 묶음
+ * - 한 묶음에 요청이 몰려도 다른 묶음의 처리 시간에는 영향이 없도록 분리
+ */
+public enum EndpointClass {
+
+    /**
+     * 전체방 목록 조회 (GET /rooms)
+     */
+    SEARCH_READ,
+
+    /**
+     * 내방 조회 (GET /rooms/my, GET /rooms/{id}, GET /rooms?ids=)
+     */
+    OWNER_READ,
+
+    /**
+     * 방 등록/수정/삭제 (일괄 등록 제외)
+     */
+    WRITE,
+
+    /**
+     * 회원가입, 로그인, 토큰 갱신, 로그아웃
+     */
+    AUTH;
+
+    private static final String ROOMS = "/rooms";
+    private static final String ROOM_IMPORT = "/rooms/import";
+    private static final String ROOM_EXPORT = "/rooms/export";
+    private static final String ROOM_BULK = "/rooms/bulk";
+    private static final String PARAM_IDS = "ids";
+
+    /**
+     * 동시 처리 수를 제한하지 않는 요청이면 null
+     * - 파일 가져오기는 요청 하나가 수 분 이상 걸리고 자체적으로 처리량을 제한하므로 제외
+     * - 내보내기도 요청 하나가 수 분 이상 걸려서 처리 시간을 지연 신호로 쓸 수 없으므로 제외 (요청 수는 rate limit 으로 제한)
+     * - 일괄 등록은 건수에 비례해서 수 초씩 걸리므로 WRITE 에 섞이면 단건 등록/수정/삭제의 한도까지 낮추게 되어 제외
+     *   (요청 하나의 크기는 bulk.room-registration.max-items 로 제한)
+     * - GET /rooms 에 ids 가 있으면 검색이 아니라 내방 여러 건 조회 (RoomController 의 매핑과 같은 기준)
+     */
+    public static EndpointClass classify(String method, String path, Set<String> parameterNames) {
+        if (path.startsWith("/auth/")) {
+            return AUTH;
+        }
+        if (!path.equals(ROOMS) && !path.startsWith(ROOMS + "/")) {
+            return null;
+        }
+        if (path.equals(ROOM_IMPORT) || path.equals(ROOM_EXPORT) || path.equals(ROOM_BULK)) {
+            return null;
+        }
+        if ("GET".equalsIgnoreCase(method)) {
+            return path.equals(ROOMS) && !parameterNames.contains(PARAM_IDS)
+                ? SEARCH_READ : OWNER_READ;
+        }
+        return WRITE;
+    }
+}
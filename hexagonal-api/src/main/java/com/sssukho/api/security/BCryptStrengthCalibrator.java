@@ -0,0 +1,54 @@
+package com.sssukho.api.security;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 현재 서버에서 해시 한번이 latencyBudget 안에 끝나는 가장 높은 BCrypt cost 를 찾음
+ * - cost 가 1 오를 때마다 시간이 2배가 되므로 minStrength 부터 올려가며 budget 을 넘으면 멈춤
+ * - 기존 해시는 해시에 기록된 cost 로 검증되므로 cost 가 바뀌어도 로그인에는 영향 없음
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES_PER_STRENGTH = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration latencyBudget, int minStrength, int maxStrength) {
+        // JIT 영향을 줄이기 위해 측정 전에 한번 실행
+        new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD);
+
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            Duration elapsed = measure(strength, latencyBudget);
+            log.debug("BCrypt cost {} : {}ms", strength, elapsed.toMillis());
+            if (elapsed.compareTo(latencyBudget) > 0) {
+                break;
+            }
+            chosen = strength;
+        }
+
+        log.info("BCrypt cost {} 선택 (latency budget {}ms)", chosen, latencyBudget.toMillis());
+        return chosen;
+    }
+
+    /**
+     * 여러 번 측정한 값 중 가장 빠른 값
+     * - budget 안에 들어온 측정이 있으면 더 측정하지 않음
+     */
+    private static Duration measure(int strength, Duration latencyBudget) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES_PER_STRENGTH && best > latencyBudget.toNanos(); i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        return Duration.ofNanos(best);
+    }
+}
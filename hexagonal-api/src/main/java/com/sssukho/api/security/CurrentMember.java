@@ -0,0 +1,25 @@
+package com.sssukho.api.security;
+
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.common.security.MemberPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 현재 요청의 인증 사용자 (SecurityContextHolder 에서 꺼냄)
+ */
+public final class CurrentMember {
+
+    private CurrentMember() {
+    }
+
+    public static MemberPrincipal get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+            || !(authentication.getPrincipal() instanceof MemberPrincipal principal)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return principal;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sssukho.api.security;
 
-import com.sssukho.api.service.MemberService;
+import com.sssukho.common.security.MemberPrincipal;
+import com.sssukho.common.security.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +10,6 @@ import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -20,7 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final MemberService memberService;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     public void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -28,12 +28,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String jwt = extractJwtFromRequest(request);
 
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            String memberName = tokenProvider.extractMemberNameFromToken(jwt);
-            UserDetails userDetails = memberService.loadUserByUsername(memberName);
+        // 서명 검증과 클레임 추출을 한번에 수행 (최근 검증한 토큰은 캐시 사용)
+        TokenClaims claims = StringUtils.hasText(jwt) ? tokenProvider.verify(jwt) : null;
+        if (claims != null && tokenRevocationList.isRevoked(claims.tokenId())) {
+            claims = null;
+        }
 
+        // access token 이 아니거나 memberId / roles 클레임이 없는 토큰은 인증하지 않음
+        MemberPrincipal principal = claims == null ? null : claims.toPrincipal();
+        if (principal != null) {
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                userDetails, null, userDetails.getAuthorities());
+                principal, null, principal.authorities());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
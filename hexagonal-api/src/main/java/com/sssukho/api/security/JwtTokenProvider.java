@@ -1,66 +1,69 @@
 package com.sssukho.api.security;
 
+import com.sssukho.api.cache.VerifiedTokenCache;
 import com.sssukho.api.config.properties.SecurityConfigurationProperties;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
-import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import java.util.Date;
-import javax.crypto.SecretKey;
-import lombok.extern.slf4j.Slf4j;
+import com.sssukho.common.security.JwtTokenCodec;
+import com.sssukho.common.security.TokenClaims;
+import com.sssukho.domain.member.Member;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+/**
+ * 클레임 구성과 서명/검증은 JwtTokenCodec 에 위임하고, access token 검증 결과만 캐시
+ */
 @Component
-@Slf4j
 public class JwtTokenProvider {
 
-    private final SecretKey key;
+    private final JwtTokenCodec codec;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final long accessTokenExpirationInMs;
     private final long refreshTokenExpirationInMs;
 
-    public JwtTokenProvider(SecurityConfigurationProperties properties) {
-        this.key = Keys.hmacShaKeyFor(properties.jwt().secret().getBytes());
+    public JwtTokenProvider(SecurityConfigurationProperties properties,
+        VerifiedTokenCache verifiedTokenCache) {
+        this.codec = new JwtTokenCodec(properties.jwt().secret());
+        this.verifiedTokenCache = verifiedTokenCache;
         this.accessTokenExpirationInMs = properties.jwt().accessTokenExpirationMs();
         this.refreshTokenExpirationInMs = properties.jwt().refreshTokenExpirationMs();
     }
 
-    public String generateAccessToken(String usernameFromUserDetails) {
-        Date expiryDate = new Date(System.currentTimeMillis() + accessTokenExpirationInMs);
-        return Jwts.builder()
-            .subject(usernameFromUserDetails)
-            .issuedAt(new Date())
-            .expiration(expiryDate)
-            .signWith(key)
-            .compact();
+    public String generateAccessToken(Member member) {
+        return codec.generateAccessToken(member.getId(), member.getEmail(),
+            accessTokenExpirationInMs);
     }
 
-    public String generateRefreshToken(String usernameFromUserDetails) {
-        Date expiryDate = new Date(System.currentTimeMillis() + refreshTokenExpirationInMs);
-        return Jwts.builder()
-            .subject(usernameFromUserDetails)
-            .issuedAt(new Date())
-            .expiration(expiryDate)
-            .signWith(key)
-            .compact();
+    public String generateRefreshToken(Member member) {
+        return codec.generateRefreshToken(member.getId(), member.getEmail(),
+            refreshTokenExpirationInMs);
     }
 
-    public String extractMemberNameFromToken(String token) {
-        JwtParser parser = Jwts.parser().verifyWith(key).build();
-        Jws<Claims> claimsJws = parser.parseSignedClaims(token);
-        return claimsJws.getPayload().getSubject();
+    /**
+     * 토큰 서명/만료 검증과 클레임 추출을 한번에 수행
+     * - 최근 검증한 토큰은 캐시된 클레임을 사용하며, 유효하지 않은 토큰이면 null
+     * - access token 이 아니면 (refresh token, typ 클레임이 없는 토큰) null
+     */
+    public TokenClaims verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        TokenClaims claims = verifiedTokenCache.get(token, codec::parse);
+        return claims != null && claims.isAccessToken() ? claims : null;
     }
 
-    public boolean validateToken(String authToken) {
-        try {
-            JwtParser parser = Jwts.parser().verifyWith(key).build();
-            parser.parseSignedClaims(authToken);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.debug("Failed to validate token", e);
-            return false;
+    /**
+     * refresh token 검증
+     * - 사용 여부는 저장소에서 다시 확인하므로 검증 캐시를 거치지 않음
+     * - access token 으로는 갱신할 수 없음
+     */
+    public TokenClaims verifyRefreshToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
         }
+        TokenClaims claims = codec.parse(token);
+        return claims != null && claims.type() != TokenClaims.Type.ACCESS ? claims : null;
     }
-}
 
+    public long getRefreshTokenExpirationInMs() {
+        return refreshTokenExpirationInMs;
+    }
+}
@@ -0,0 +1,80 @@
+package com.sssukho.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.common.dto.common.ErrorResponseMessage;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.security.MemberPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 회원/IP 별 요청 수 제한
+ * - JwtAuthenticationFilter 다음에 실행되어 인증된 요청은 memberId, 그 외에는 클라이언트 IP 기준
+ * - 제한을 넘으면 컨트롤러까지 가지 않고 429 + Retry-After 로 응답
+ * - IP 는 getRemoteAddr 기준이며, X-Forwarded-For 는 server.forward-headers-strategy=native 로
+ *   신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)를 거친 경우에만 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    public static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        TokenBucket.Probe probe = rateLimiter.tryAcquire(request.getMethod(), path,
+            request.getParameterMap().keySet(), currentMemberId(), request.getRemoteAddr());
+
+        if (probe == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(HEADER_LIMIT, String.valueOf(probe.limit()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(probe.remaining()));
+
+        if (!probe.consumed()) {
+            // Retry-After 는 초 단위이므로 올림
+            long retryAfterSeconds = Math.max(1,
+                (probe.retryAfterNanos() + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+            ErrorResponseMessage responseBody = ErrorResponseMessage.create(ErrorCode.TOO_MANY_REQUESTS);
+
+            response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getHttpStatus().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE + "; charset=UTF-8");
+            response.getWriter().write(objectMapper.writeValueAsString(responseBody));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+            && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return principal.memberId();
+        }
+        return null;
+    }
+}
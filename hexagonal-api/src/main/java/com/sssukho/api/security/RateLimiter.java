@@ -0,0 +1,133 @@
+package com.sssukho.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sssukho.api.config.properties.RateLimitConfigurationProperties;
+import com.sssukho.api.config.properties.RateLimitConfigurationProperties.KeyType;
+import com.sssukho.api.config.properties.RateLimitConfigurationProperties.Route;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 규칙(route) + 회원/IP 별 token bucket 으로 요청 수를 제한
+ * - 버킷은 Caffeine 캐시에 보관 (내부적으로 striping 되어 있어 버킷 조회끼리 경합이 적음)
+ * - 버킷이 가득 차는 데 걸리는 시간 이상 사용되지 않으면 제거해서 메모리를 제한
+ *   (그만큼 지나면 새 버킷과 같으므로 제거해도 제한이 느슨해지지 않음)
+ */
+@Component
+public class RateLimiter {
+
+    private static final String CACHE_NAME = "rate-limit.buckets";
+
+    private final boolean enabled;
+    private final List<CompiledRoute> routes;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public RateLimiter(RateLimitConfigurationProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    public RateLimiter(RateLimitConfigurationProperties properties, MeterRegistry meterRegistry,
+        LongSupplier nanoTime) {
+        List<Route> configured = properties.routes() != null ? properties.routes() : List.of();
+        this.enabled = properties.enabled();
+        this.routes = configured.stream()
+            .map(route -> new CompiledRoute(route, Counter.builder("rate-limit.rejected")
+                .tag("route", routeName(route))
+                .description("요청 수 제한으로 거절된 요청 수")
+                .register(meterRegistry)))
+            .toList();
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.maximumBuckets())
+            .expireAfterAccess(idleTimeout(configured))
+            .recordStats()
+            .build();
+        this.nanoTime = nanoTime;
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, CACHE_NAME);
+    }
+
+    /**
+     * 토큰을 하나 사용
+     * - 적용되는 규칙이 없으면 null
+     *
+     * @param parameterNames 요청 파라미터 이름 (규칙의 params 조건 확인용)
+     * @param memberId 인증되지 않은 요청이면 null
+     */
+    public TokenBucket.Probe tryAcquire(String method, String path, Set<String> parameterNames,
+        Long memberId, String clientIp) {
+        if (!enabled) {
+            return null;
+        }
+
+        for (int index = 0; index < routes.size(); index++) {
+            CompiledRoute compiled = routes.get(index);
+            if (!compiled.matches(method, path, parameterNames)) {
+                continue;
+            }
+
+            Route route = compiled.route();
+            String client = route.key() == KeyType.MEMBER && memberId != null
+                ? "member:" + memberId
+                : "ip:" + clientIp;
+            long now = nanoTime.getAsLong();
+            TokenBucket bucket = buckets.get(new BucketKey(index, client),
+                key -> new TokenBucket(route.capacity(), route.refillTokens(),
+                    route.refillPeriod(), now));
+
+            TokenBucket.Probe probe = bucket.tryConsume(now);
+            if (!probe.consumed()) {
+                compiled.rejectedCounter().increment();
+            }
+            return probe;
+        }
+        return null;
+    }
+
+    private static Duration idleTimeout(List<Route> routes) {
+        return routes.stream()
+            .map(route -> TokenBucket.timeToFull(route.capacity(), route.refillTokens(),
+                route.refillPeriod()))
+            .max(Duration::compareTo)
+            .orElse(Duration.ofMinutes(1));
+    }
+
+    private static String routeName(Route route) {
+        return (route.method() != null ? route.method() + " " : "") + route.path()
+            + (route.params() != null && !route.params().isEmpty()
+            ? " [" + String.join(",", route.params()) + "]" : "");
+    }
+
+    private record BucketKey(int routeIndex, String client) {
+
+    }
+
+    private record CompiledRoute(Route route, Counter rejectedCounter) {
+
+        private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+        boolean matches(String method, String path, Set<String> parameterNames) {
+            return (route.method() == null || route.method().equalsIgnoreCase(method))
+                && PATH_MATCHER.match(route.path(), path)
+                && matchesParams(parameterNames);
+        }
+
+        private boolean matchesParams(Set<String> parameterNames) {
+            if (route.params() == null) {
+                return true;
+            }
+            return route.params().stream().allMatch(param -> param.startsWith("!")
+                ? !parameterNames.contains(param.substring(1))
+                : parameterNames.contains(param));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sssukho.api.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock 없이 동작하는 token bucket
+ * - 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각"(nanoTime) 하나만 보관해서 CAS 한번으로 갱신 (GCRA)
+ * - 토큰 하나를 쓸 때마다 그 시각을 refillPeriod / refillTokens 만큼 뒤로 미루고,
+ *   현재 시각과의 차이가 capacity 개 분량을 넘으면 거절
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, long refillTokens, Duration refillPeriod, long nowNanos) {
+        if (capacity <= 0 || refillTokens <= 0 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("capacity, refillTokens, refillPeriod 는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, refillPeriod.toNanos() / refillTokens);
+        this.burstNanos = Math.multiplyExact(capacity, nanosPerToken);
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    public Probe tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long next = base + nanosPerToken;
+            long used = next - nowNanos;
+
+            if (used > burstNanos) {
+                return new Probe(false, capacity, 0, used - burstNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Probe(true, capacity, (burstNanos - used) / nanosPerToken, 0);
+            }
+        }
+    }
+
+    /**
+     * 버킷이 다시 가득 찰 때까지 걸리는 시간
+     * - 이 시간 동안 사용되지 않은 버킷은 새로 만든 버킷과 같으므로 버려도 됨
+     */
+    public static Duration timeToFull(long capacity, long refillTokens, Duration refillPeriod) {
+        return Duration.ofNanos(
+            Math.multiplyExact(capacity, Math.max(1, refillPeriod.toNanos() / refillTokens)));
+    }
+
+    /**
+     * @param remaining       이번 요청 후 남은 토큰 수
+     * @param retryAfterNanos 거절된 경우 다음 토큰이 생길 때까지 남은 시간
+     */
+    public record Probe(boolean consumed, long limit, long remaining, long retryAfterNanos) {
+
+    }
+}
@@ -0,0 +1,141 @@
+package com.sssukho.api.security;
+
+import com.sssukho.api.config.properties.TokenRevocationConfigurationProperties;
+import com.sssukho.domain.token.RevokedToken;
+import com.sssukho.domain.token.RevokedTokenRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰(jti) 목록
+ * - 요청마다 DB 를 조회하지 않도록 메모리의 Bloom filter 를 먼저 확인하고,
+ *   있을 수도 있다고 나올 때만 정확한 목록(jti -> 만료 시각)을 확인
+ * - 폐기 내역은 revoked_token 테이블에 저장되며, 각 노드는 syncInterval 마다 새로 폐기된 토큰을 가져옴
+ * - Bloom filter 는 삭제가 안 되므로 rebuildInterval 마다 만료되지 않은 항목만으로 다시 만듦
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    /**
+     * 노드 간 시계 차이와 커밋 지연으로 누락되지 않도록 동기화 구간을 겹쳐서 조회
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationConfigurationProperties properties;
+
+    private volatile Snapshot snapshot;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+        TokenRevocationConfigurationProperties properties) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.properties = properties;
+        this.snapshot = Snapshot.empty(properties.expectedEntries(), properties.falsePositiveRate());
+        this.lastSyncedAt = LocalDateTime.now();
+    }
+
+    /**
+     * jti 가 없는 이전 토큰은 개별 폐기 대상이 아니므로 false
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        if (!current.filter().mightContain(tokenId)) {
+            return false;
+        }
+        Instant expiresAt = current.revoked().get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.save(RevokedToken.of(tokenId, toLocalDateTime(expiresAt), now));
+        snapshot.add(tokenId, expiresAt);
+    }
+
+    /**
+     * 다른 노드에서 폐기한 토큰을 가져옴
+     */
+    @Scheduled(fixedDelayString = "${token-revocation.sync-interval-ms}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findAllRevokedSince(
+            lastSyncedAt.minus(SYNC_OVERLAP), now);
+
+        Snapshot current = snapshot;
+        revokedTokens.forEach(revokedToken -> current.add(revokedToken.getTokenId(),
+            toInstant(revokedToken.getExpiresAt())));
+        lastSyncedAt = now;
+    }
+
+    /**
+     * 만료된 항목을 정리하고 Bloom filter 를 다시 만듦
+     * - 다시 만드는 동안 폐기된 토큰은 교체 후 sync 로 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${token-revocation.rebuild-interval-ms}",
+        fixedDelayString = "${token-revocation.rebuild-interval-ms}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        purgeExpired(now);
+
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findAllNotExpired(now);
+        Snapshot rebuilt = Snapshot.empty(
+            Math.max(properties.expectedEntries(), revokedTokens.size() * 2),
+            properties.falsePositiveRate());
+        revokedTokens.forEach(revokedToken -> rebuilt.add(revokedToken.getTokenId(),
+            toInstant(revokedToken.getExpiresAt())));
+
+        snapshot = rebuilt;
+        lastSyncedAt = now;
+        sync();
+
+        log.debug("폐기된 토큰 목록 재구성 - {}건", revokedTokens.size());
+    }
+
+    private void purgeExpired(LocalDateTime now) {
+        int batchSize = properties.purgeBatchSize();
+        int deleted;
+        do {
+            deleted = revokedTokenRepository.deleteExpired(now, batchSize);
+        } while (deleted == batchSize);
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private static Instant toInstant(LocalDateTime localDateTime) {
+        return localDateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private record Snapshot(BloomFilter filter, Map<String, Instant> revoked) {
+
+        static Snapshot empty(int expectedEntries, double falsePositiveRate) {
+            return new Snapshot(new BloomFilter(expectedEntries, falsePositiveRate),
+                new ConcurrentHashMap<>());
+        }
+
+        /**
+         * 정확한 목록에 먼저 넣어야 Bloom filter 에서 걸렸을 때 항상 찾을 수 있음
+         */
+        void add(String tokenId, Instant expiresAt) {
+            revoked.put(tokenId, expiresAt);
+            filter.put(tokenId);
+        }
+    }
+}
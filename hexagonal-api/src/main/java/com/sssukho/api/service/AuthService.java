@@ -1,6 +1,7 @@
 package com.sssukho.api.service;
 
 import com.sssukho.api.security.JwtTokenProvider;
+import com.sssukho.api.security.TokenRevocationList;
 import com.sssukho.common.dto.auth.RefreshTokenRequest;
 import com.sssukho.common.dto.auth.SignInRequest;
 import com.sssukho.common.dto.auth.SignInResponse;
@@ -8,11 +9,12 @@ import com.sssukho.common.dto.auth.SignUpRequest;
 import com.sssukho.common.dto.auth.SignupResponse;
 import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
 import com.sssukho.common.exception.CustomException;
+import com.sssukho.common.security.TokenClaims;
 import com.sssukho.domain.member.Member;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -21,7 +23,9 @@ public class AuthService {
     public static final String JWT_GRANT_TYPE = "Bearer";
     private final MemberService memberService;
     private final JwtTokenProvider tokenProvider;
-    private final PasswordEncoder passwordEncoder; // BCryptPasswordEncoder 방식
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final PasswordEncoder passwordEncoder; // BCryptPasswordEncoder 방식 (전용 스레드 풀에서 실행)
 
     /**
      * 회원 가입
@@ -43,25 +47,44 @@ public class AuthService {
         if (!passwordEncoder.matches(request.password(), member.getHashedPassword())) {
             throw new CustomException(ErrorCode.UNAUTHORIZED);
         }
-        String accessToken = tokenProvider.generateAccessToken(request.email());
-        String refreshToken = tokenProvider.generateRefreshToken(request.email());
-        memberService.updateRefreshToken(request.email(), refreshToken);
+        String accessToken = tokenProvider.generateAccessToken(member);
+        String refreshToken = refreshTokenService.issue(member);
         return new SignInResponse(accessToken, refreshToken, JWT_GRANT_TYPE);
     }
 
     /**
      * 토큰 갱신
+     * - 사용한 refresh token 은 폐기하고 새 refresh token 을 함께 발급
      */
     public SignInResponse refreshToken(RefreshTokenRequest request) {
-        String refreshToken = request.refreshToken();
-        String userEmail = tokenProvider.extractMemberNameFromToken(refreshToken);
-        UserDetails userDetails = memberService.loadUserByUsername(userEmail);
+        TokenClaims claims = tokenProvider.verifyRefreshToken(request.refreshToken());
+        if (claims == null || claims.memberId() == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
 
-        if (!memberService.validateRefreshToken(userEmail, refreshToken)) {
+        Member member;
+        try {
+            member = memberService.findById(claims.memberId());
+        } catch (CustomException e) {
             throw new CustomException(ErrorCode.UNAUTHORIZED);
         }
 
-        String newAccessToken = tokenProvider.generateAccessToken(userDetails.getUsername());
-        return new SignInResponse(newAccessToken, refreshToken, JWT_GRANT_TYPE);
+        String newRefreshToken = refreshTokenService.rotate(request.refreshToken(), member);
+        String newAccessToken = tokenProvider.generateAccessToken(member);
+        return new SignInResponse(newAccessToken, newRefreshToken, JWT_GRANT_TYPE);
+    }
+
+    /**
+     * 로그아웃
+     * - 액세스 토큰은 만료 시각까지 폐기 목록에 두고, refresh token 은 저장소에서 삭제
+     */
+    public void signOut(String accessToken, String refreshToken) {
+        TokenClaims claims = tokenProvider.verify(accessToken);
+        if (claims != null && claims.tokenId() != null) {
+            tokenRevocationList.revoke(claims.tokenId(), claims.expiresAt());
+        }
+        if (StringUtils.hasText(refreshToken)) {
+            refreshTokenService.revoke(refreshToken);
+        }
     }
 }
@@ -1,8 +1,11 @@
 package com.sssukho.api.service;
 
 import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.deal.DealChanges;
 import com.sssukho.domain.deal.DealRepository;
 import com.sssukho.domain.room.Room;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,19 +16,32 @@ public class DealService {
 
     private final DealRepository dealRepository;
 
-    public void registerAll(List<Deal> dealsToRegister) {
-        dealRepository.saveAll(dealsToRegister);
+    public List<Deal> registerAll(List<Deal> dealsToRegister) {
+        return dealRepository.saveAll(dealsToRegister);
     }
 
-    public void deleteByRoom(Room foundRoom) {
-        dealRepository.deleteAllByRoomId(foundRoom.getId());
-    }
+    /**
+     * 저장된 deal 과 비교해서 바뀐 deal 만 추가/수정/삭제
+     * - 전체 삭제 후 재등록하면 가격 하나만 바뀌어도 deal 인덱스 전체가 다시 쓰여짐
+     */
+    public List<Deal> replace(Room foundRoom, List<Deal> requestedDeals) {
+        DealChanges changes = DealChanges.diff(foundRoom.getDeals(), requestedDeals);
+        if (changes.isEmpty()) {
+            return foundRoom.getDeals();
+        }
 
-    public List<Deal> findAllDealsByRoomIds(List<Long> roomIds) {
-        return dealRepository.findByRoomIdIn(roomIds);
+        dealRepository.deleteAllByIds(changes.idsToDelete());
+        dealRepository.updateAll(changes.dealsToUpdate());
+        List<Deal> insertedDeals = dealRepository.saveAll(changes.dealsToInsert());
+
+        List<Deal> replacedDeals = new ArrayList<>(changes.unchangedDeals());
+        replacedDeals.addAll(changes.dealsToUpdate());
+        replacedDeals.addAll(insertedDeals);
+        replacedDeals.sort(Comparator.comparing(Deal::getId));
+        return replacedDeals;
     }
 
-    public List<Deal> findAllDealsByRoomId(Long roomId) {
-        return dealRepository.findByRoomId(roomId);
+    public void deleteByRoom(Room foundRoom) {
+        dealRepository.deleteAllByRoomId(foundRoom.getId());
     }
 }
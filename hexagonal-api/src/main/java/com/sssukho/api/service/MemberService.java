@@ -1,11 +1,14 @@
 package com.sssukho.api.service;
 
+import com.sssukho.api.cache.MemberCache;
 import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
 import com.sssukho.common.exception.CustomException;
 import com.sssukho.domain.member.Member;
+import com.sssukho.domain.member.MemberChangedEvent;
 import com.sssukho.domain.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.User.UserBuilder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,16 +23,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Member findByEmail(String email) {
-        return memberRepository.findByEmail(email);
+        return memberCache.getByEmail(email, memberRepository::findByEmail);
+    }
+
+    public Member findById(Long id) {
+        return memberCache.getById(id, memberRepository::findById);
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         Member member;
         try {
-            member = memberRepository.findByEmail(email);
+            member = findByEmail(email);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.UNAUTHORIZED);
         }
@@ -46,17 +55,9 @@ public class MemberService implements UserDetailsService {
         if (memberRepository.existsByEmail(memberToRegister.getEmail())) {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "이미 존재하는 회원(이메일) 입니다.");
         }
-        return memberRepository.save(memberToRegister);
-    }
-
-    @Transactional
-    public void updateRefreshToken(String email, String refreshToken) {
-        memberRepository.updateRefreshToken(email, refreshToken);
-    }
-
-    public boolean validateRefreshToken(String email, String refreshTokenToValidate) {
-        Member foundMember = memberRepository.findByEmail(email);
-        return foundMember.getRefreshToken().equals(refreshTokenToValidate);
+        Member registeredMember = memberRepository.save(memberToRegister);
+        eventPublisher.publishEvent(MemberChangedEvent.of(registeredMember));
+        return registeredMember;
     }
 
 }
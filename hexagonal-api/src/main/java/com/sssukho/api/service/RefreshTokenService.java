@@ -0,0 +1,96 @@
+package com.sssukho.api.service;
+
+import com.sssukho.api.config.properties.RefreshTokenConfigurationProperties;
+import com.sssukho.api.security.JwtTokenProvider;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.domain.member.Member;
+import com.sssukho.domain.token.RefreshToken;
+import com.sssukho.domain.token.RefreshTokenRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * refresh token 발급/교체
+ * - 로그인마다 새 토큰을 저장하므로 회원당 여러 세션이 유지됨
+ * - 갱신 시에는 사용한 토큰을 폐기하고 새 토큰을 발급 (rotation)
+ * - 이미 교체된 토큰이 다시 사용되면 탈취로 보고 해당 회원의 모든 세션을 폐기
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenConfigurationProperties refreshTokenConfigurationProperties;
+
+    public String issue(Member member) {
+        String refreshToken = tokenProvider.generateRefreshToken(member);
+        refreshTokenRepository.save(toRefreshToken(refreshToken, member.getId()));
+        return refreshToken;
+    }
+
+    public String rotate(String refreshTokenToReplace, Member member) {
+        String newRefreshToken = tokenProvider.generateRefreshToken(member);
+        boolean rotated = refreshTokenRepository.rotate(hash(refreshTokenToReplace),
+            toRefreshToken(newRefreshToken, member.getId()), LocalDateTime.now());
+
+        if (!rotated) {
+            int revoked = refreshTokenRepository.deleteAllByMemberId(member.getId());
+            log.warn("폐기되었거나 이미 사용된 refresh token 재사용 - member({}) 세션 {}개 폐기",
+                member.getId(), revoked);
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return newRefreshToken;
+    }
+
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.delete(hash(refreshToken));
+    }
+
+    /**
+     * 만료된 토큰을 batch 단위로 정리
+     * - 한 번의 DELETE 가 오래 잠금을 잡지 않도록 purgeBatchSize 씩 나눠서 삭제
+     */
+    @Scheduled(fixedDelayString = "${refresh-token.purge-interval-ms}")
+    public void purgeExpired() {
+        int batchSize = refreshTokenConfigurationProperties.purgeBatchSize();
+        LocalDateTime now = LocalDateTime.now();
+
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpired(now, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+
+        if (purged > 0) {
+            log.info("만료된 refresh token {}개 정리", purged);
+        }
+    }
+
+    private RefreshToken toRefreshToken(String refreshToken, Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        return RefreshToken.of(hash(refreshToken), memberId,
+            now.plus(Duration.ofMillis(tokenProvider.getRefreshTokenExpirationInMs())), now);
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.sssukho.api.service;
+
+import com.sssukho.common.dto.room.RoomRegistrationRequest;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.room.Room;
+import com.sssukho.domain.room.RoomsRegisteredEvent;
+import com.sssukho.domain.room.RoomRepository;
+import com.sssukho.infra.rdb.mapper.DealMapper;
+import com.sssukho.infra.rdb.mapper.RoomMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 검증이 끝난 방 등록 요청 묶음을 트랜잭션 하나로 저장
+ * - 방/거래 모두 JDBC batch 로 저장 (일괄 등록, 파일 가져오기에서 사용)
+ * - 변경 이벤트는 방마다가 아니라 묶음 단위로 한번만 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomBatchWriter {
+
+    private final RoomRepository roomRepository;
+    private final DealService dealService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 저장된 방 목록을 요청 순서대로 반환
+     */
+    public List<Room> write(List<RoomRegistrationRequest> requests, Long ownerId) {
+        return transactionTemplate.execute(status -> {
+            List<Room> registeredRooms = saveRoomsWithDeals(requests, ownerId);
+            eventPublisher.publishEvent(new RoomsRegisteredEvent(registeredRooms));
+            return registeredRooms;
+        });
+    }
+
+    /**
+     * 변경 이벤트 없이 저장
+     * - 파일 가져오기처럼 모든 batch 가 끝난 뒤에 RoomsImportedEvent 로 한번에 반영하는 경우에 사용
+     */
+    public List<Room> writeWithoutEvent(List<RoomRegistrationRequest> requests, Long ownerId) {
+        return transactionTemplate.execute(status -> saveRoomsWithDeals(requests, ownerId));
+    }
+
+    private List<Room> saveRoomsWithDeals(List<RoomRegistrationRequest> requests, Long ownerId) {
+        List<Room> roomsToRegister = requests.stream()
+            .map(request -> RoomMapper.toDomain(request, ownerId))
+            .toList();
+        List<Room> registeredRooms = roomRepository.saveAll(roomsToRegister);
+
+        List<Deal> dealsToRegister = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            RoomRegistrationRequest request = requests.get(i);
+            if (request.deals() != null) {
+                dealsToRegister.addAll(DealMapper.toDomainsFromRegistrationRequests(
+                    request.deals(), registeredRooms.get(i).getId()));
+            }
+        }
+        Map<Long, List<Deal>> registeredDealsByRoomId = dealService.registerAll(dealsToRegister)
+            .stream()
+            .collect(Collectors.groupingBy(Deal::getRoomId));
+
+        for (Room registeredRoom : registeredRooms) {
+            registeredRoom.setDeals(
+                registeredDealsByRoomId.getOrDefault(registeredRoom.getId(), List.of()));
+        }
+        return registeredRooms;
+    }
+}
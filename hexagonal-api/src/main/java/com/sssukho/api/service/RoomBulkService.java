@@ -0,0 +1,115 @@
+package com.sssukho.api.service;
+
+import com.sssukho.api.config.properties.BulkConfigurationProperties;
+import com.sssukho.api.security.CurrentMember;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.dto.room.RoomBulkRegistrationResponse;
+import com.sssukho.common.dto.room.RoomBulkRegistrationResponse.ItemResult;
+import com.sssukho.common.dto.room.RoomRegistrationRequest;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.domain.room.Room;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 일괄 등록
+ * - 모든 항목을 먼저 검증하고, 유효한 항목만 chunk 단위 트랜잭션으로 방/거래를 batch 저장
+ * - 한 chunk 가 실패해도 다른 chunk 는 저장되며, 결과는 항목별로 반환
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoomBulkService {
+
+    private static final String MSG_FORMAT_PARAMETER_INVALID = "파라미터 '%s' 의 값이 유효하지 않습니다.";
+
+    private final RoomBatchWriter roomBatchWriter;
+    private final Validator validator;
+    private final BulkConfigurationProperties bulkConfigurationProperties;
+
+    public RoomBulkRegistrationResponse registerAll(List<RoomRegistrationRequest> requests) {
+        BulkConfigurationProperties.RoomRegistration properties =
+            bulkConfigurationProperties.roomRegistration();
+
+        if (requests == null || requests.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "등록할 방이 없습니다.");
+        }
+        if (requests.size() > properties.maxItems()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST,
+                "한번에 등록할 수 있는 방은 최대 " + properties.maxItems() + "개 입니다.");
+        }
+
+        Long currentMemberId = CurrentMember.get().memberId();
+
+        ItemResult[] results = new ItemResult[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            ItemResult invalidResult = validate(index, requests.get(index));
+            if (invalidResult != null) {
+                results[index] = invalidResult;
+            } else {
+                validIndexes.add(index);
+            }
+        }
+
+        for (int from = 0; from < validIndexes.size(); from += properties.chunkSize()) {
+            List<Integer> chunkIndexes = validIndexes.subList(from,
+                Math.min(from + properties.chunkSize(), validIndexes.size()));
+            registerChunk(requests, chunkIndexes, currentMemberId, results);
+        }
+
+        return RoomBulkRegistrationResponse.of(Arrays.asList(results));
+    }
+
+    private ItemResult validate(int index, RoomRegistrationRequest request) {
+        if (request == null) {
+            return ItemResult.failed(index, ErrorCode.INVALID_REQUEST.getErrorCode(),
+                ErrorCode.INVALID_REQUEST.getDefaultErrorMessage());
+        }
+
+        Set<ConstraintViolation<RoomRegistrationRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        String fields = violations.stream()
+            .map(violation -> violation.getPropertyPath().toString())
+            .sorted()
+            .collect(Collectors.joining(","));
+        return ItemResult.failed(index, ErrorCode.INVALID_PARAMETER.getErrorCode(),
+            String.format(MSG_FORMAT_PARAMETER_INVALID, fields));
+    }
+
+    private void registerChunk(List<RoomRegistrationRequest> requests, List<Integer> chunkIndexes,
+        Long ownerId, ItemResult[] results) {
+        try {
+            List<RoomRegistrationRequest> chunkRequests = chunkIndexes.stream()
+                .map(requests::get)
+                .toList();
+            List<Room> registeredRooms = roomBatchWriter.write(chunkRequests, ownerId);
+
+            for (int i = 0; i < chunkIndexes.size(); i++) {
+                int index = chunkIndexes.get(i);
+                results[index] = ItemResult.registered(index, registeredRooms.get(i).getId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("방 일괄 등록 chunk 저장 실패 (index {} ~ {})", chunkIndexes.get(0),
+                chunkIndexes.get(chunkIndexes.size() - 1), e);
+
+            ErrorCode errorCode = e instanceof CustomException customException
+                ? customException.getErrorCode() : ErrorCode.INTERNAL_SERVER_ERROR;
+            for (int index : chunkIndexes) {
+                results[index] = ItemResult.failed(index, errorCode.getErrorCode(),
+                    errorCode.getDefaultErrorMessage());
+            }
+        }
+    }
+}
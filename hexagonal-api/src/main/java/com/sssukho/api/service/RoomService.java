@@ -1,6 +1,11 @@
 package com.sssukho.api.service;
 
+import com.sssukho.api.cache.RoomJsonCache;
+import com.sssukho.api.cache.RoomSearchCache;
+import com.sssukho.api.security.CurrentMember;
+import com.sssukho.common.dto.common.CursorPage;
 import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.dto.room.RoomCursor;
 import com.sssukho.common.dto.room.RoomRegistrationRequest;
 import com.sssukho.common.dto.room.RoomResponse;
 import com.sssukho.common.dto.room.RoomResponse.DealResponse;
@@ -8,18 +13,24 @@ import com.sssukho.common.dto.room.RoomSearchRequest;
 import com.sssukho.common.dto.room.RoomUpdateRequest;
 import com.sssukho.common.exception.CustomException;
 import com.sssukho.domain.deal.Deal;
-import com.sssukho.domain.member.Member;
 import com.sssukho.domain.room.Room;
+import com.sssukho.domain.room.RoomChangedEvent;
+import com.sssukho.domain.room.RoomCollectionVersion;
 import com.sssukho.domain.room.RoomRepository;
+import com.sssukho.domain.room.RoomVersion;
 import com.sssukho.infra.rdb.mapper.DealMapper;
 import com.sssukho.infra.rdb.mapper.RoomMapper;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,21 +40,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class RoomService {
 
     private final RoomRepository roomRepository;
-    private final MemberService memberService;
     private final DealService dealService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoomSearchCache roomSearchCache;
+    private final RoomJsonCache roomJsonCache;
 
     @Transactional(rollbackFor = Exception.class)
     public RoomResponse register(RoomRegistrationRequest request) {
-        Member currentMember = extractCurrentMemberFromSecurityContext();
+        Long currentMemberId = CurrentMember.get().memberId();
 
-        Room roomToRegister = RoomMapper.toDomain(request, currentMember.getId());
+        Room roomToRegister = RoomMapper.toDomain(request, currentMemberId);
         Room registeredRoom = roomRepository.save(roomToRegister);
 
         List<Deal> deals = DealMapper.toDomainsFromRegistrationRequests(request.deals(),
             registeredRoom.getId());
 
-        dealService.registerAll(deals);
-        registeredRoom.setDeals(deals);
+        registeredRoom.setDeals(dealService.registerAll(deals));
+
+        eventPublisher.publishEvent(RoomChangedEvent.registered(registeredRoom));
 
         return toRoomResponse(registeredRoom);
     }
@@ -51,13 +65,15 @@ public class RoomService {
     @Transactional(rollbackFor = Exception.class)
     public void deleteMyRoom(Long roomIdToDelete) {
         // room 에 속한 deal 도 모두 삭제해야함
-        Member currentMember = extractCurrentMemberFromSecurityContext();
+        Long currentMemberId = CurrentMember.get().memberId();
         Room foundRoom = roomRepository.findById(roomIdToDelete);
 
-        validateOwnerOrThrow(currentMember, foundRoom);
+        validateOwnerOrThrow(currentMemberId, foundRoom);
 
         dealService.deleteByRoom(foundRoom);
         roomRepository.deleteById(foundRoom.getId());
+
+        eventPublisher.publishEvent(RoomChangedEvent.deleted(foundRoom));
     }
 
     @Transactional(rollbackFor = Exception.class)
@@ -67,79 +83,183 @@ public class RoomService {
             throw new CustomException(ErrorCode.INVALID_REQUEST);
         }
 
-        Member currentMember = extractCurrentMemberFromSecurityContext();
-        Room foundRoom = roomRepository.findById(roomIdToUpdate);
+        Long currentMemberId = CurrentMember.get().memberId();
+        Room foundRoom = roomRepository.findByIdWithDeals(roomIdToUpdate);
 
-        validateOwnerOrThrow(currentMember, foundRoom);
+        validateOwnerOrThrow(currentMemberId, foundRoom);
+        Room previousRoom = foundRoom.copy();
         foundRoom.change(request);
 
         Room updatedRoom = roomRepository.update(foundRoom);
 
         // deal 변경 필요 여부
-        if (!request.deals().isEmpty()) {
-            // 기존 deal 삭제
-            dealService.deleteByRoom(foundRoom);
-            // 새로운 deal 저장
+        if (request.deals() != null && !request.deals().isEmpty()) {
+            // 기존 deal 과 비교해서 바뀐 deal 만 반영
             List<Deal> dealsToChange = DealMapper.toDomainsFromUpdateRequests(request.deals(),
                 foundRoom.getId());
-            dealService.registerAll(dealsToChange);
-            updatedRoom.setDeals(dealsToChange);
+            updatedRoom.setDeals(dealService.replace(previousRoom, dealsToChange));
+        } else {
+            updatedRoom.setDeals(previousRoom.getDeals());
         }
 
+        eventPublisher.publishEvent(RoomChangedEvent.updated(previousRoom, updatedRoom));
+
         return toRoomResponse(updatedRoom);
     }
 
     public RoomResponse findMyRoom(Long roomIdToFind) {
-        Member currentMember = extractCurrentMemberFromSecurityContext();
-        Room room = roomRepository.findById(roomIdToFind);
-        if (!room.getOwnerId().equals(currentMember.getId())) {
+        return toRoomResponse(findMyRoomWithDeals(roomIdToFind));
+    }
+
+    /**
+     * 내방 단건 조회 (직렬화된 RoomResponse JSON)
+     */
+    public byte[] findMyRoomJson(Long roomIdToFind) {
+        return toRoomJson(findMyRoomWithDeals(roomIdToFind));
+    }
+
+    /**
+     * 내방 여러 건 조회 (요청한 id 순서, 중복 id 는 한 번만)
+     * - 방/거래를 한 번의 조회로 가져온 뒤 소유자 확인을 한꺼번에 적용
+     * - 없거나 내 방이 아닌 방은 단건 조회처럼 NOT_FOUND_ROOM 을 던지지 않고 결과에서 제외
+     */
+    public List<RoomResponse> findMyRoomsByIds(List<Long> roomIdsToFind) {
+        return findMyRoomsWithDeals(roomIdsToFind).stream().map(this::toRoomResponse).toList();
+    }
+
+    public List<byte[]> findMyRoomsByIdsJson(List<Long> roomIdsToFind) {
+        return findMyRoomsWithDeals(roomIdsToFind).stream().map(this::toRoomJson).toList();
+    }
+
+    /**
+     * 내방 단건 조회 ETag
+     * - 거래를 조회하지 않고 방의 소유자와 updated_at 만 확인
+     * - 내 방이 아니면 조회와 같이 NOT_FOUND_ROOM
+     */
+    public String findMyRoomETag(Long roomIdToFind) {
+        Long currentMemberId = CurrentMember.get().memberId();
+        RoomVersion version = roomRepository.findVersionById(roomIdToFind);
+        if (!version.ownerId().equals(currentMemberId)) {
             throw new CustomException(ErrorCode.NOT_FOUND_ROOM);
         }
 
-        // room 에 속한 deal
-        List<Deal> dealsInRoom = dealService.findAllDealsByRoomId(room.getId());
-        room.setDeals(dealsInRoom);
-
-        return toRoomResponse(room);
+        return weakETag("room-" + version.roomId() + "-" + toEpochMicros(version.updatedAt()));
     }
 
-    public List<RoomResponse> findMyRooms() {
-        Member currentMember = extractCurrentMemberFromSecurityContext();
+    /**
+     * 내방 목록 ETag (모든 페이지 공통)
+     */
+    public String findMyRoomsETag() {
+        Long currentMemberId = CurrentMember.get().memberId();
+        RoomCollectionVersion version = roomRepository.findCollectionVersionByOwnerId(
+            currentMemberId);
 
-        List<Room> foundMyRooms = roomRepository.findAllByOwnerId(currentMember.getId());
-        List<Long> roomIds = foundMyRooms.stream().map(Room::getId).toList();
+        return weakETag("rooms-my-" + currentMemberId + "-" + version.count() + "-"
+            + toEpochMicros(version.lastUpdatedAt()));
+    }
 
-        List<Deal> foundDeals = dealService.findAllDealsByRoomIds(roomIds);
+    /**
+     * 전체방 목록 ETag (모든 검색 조건 공통)
+     * - 검색 캐시를 사용하지 않으면 null
+     */
+    public String searchETag() {
+        String version = roomSearchCache.version();
+        return version != null ? weakETag("rooms-" + version) : null;
+    }
 
-        attachDealsToRooms(foundDeals, foundMyRooms);
+    /**
+     * 내방 전체 목록을 DB 에서 읽는 대로 하나씩 전달
+     * - 목록을 만들지 않으므로 방 수와 관계없이 메모리 사용량이 일정함
+     * - 커서로 읽는 동안 같은 커넥션을 유지하도록 읽기 전용 트랜잭션 안에서 수행
+     */
+    @Transactional(readOnly = true)
+    public void forEachMyRoom(Consumer<RoomResponse> action) {
+        forEachMyRoomAggregate(room -> action.accept(toRoomResponse(room)));
+    }
 
-        return foundMyRooms.stream().map(this::toRoomResponse).toList();
+    /**
+     * forEachMyRoom 과 같지만 직렬화된 RoomResponse JSON 을 전달
+     */
+    @Transactional(readOnly = true)
+    public void forEachMyRoomJson(Consumer<byte[]> action) {
+        forEachMyRoomAggregate(room -> action.accept(toRoomJson(room)));
     }
 
-    public List<RoomResponse> search(RoomSearchRequest request) {
-        List<Room> foundRooms = roomRepository.searchRooms(request);
-        List<Long> roomIds = foundRooms.stream().map(Room::getId).toList();
+    public CursorPage<RoomResponse> findMyRooms(RoomCursor cursor, int size) {
+        return map(findMyRoomPage(cursor, size), this::toRoomResponse);
+    }
 
-        List<Deal> foundDeals = dealService.findAllDealsByRoomIds(roomIds);
+    public CursorPage<byte[]> findMyRoomsJson(RoomCursor cursor, int size) {
+        return map(findMyRoomPage(cursor, size), this::toRoomJson);
+    }
 
-        attachDealsToRooms(foundDeals, foundRooms);
+    public CursorPage<RoomResponse> search(RoomSearchRequest request) {
+        return map(roomSearchCache.get(request, this::searchRooms), this::toRoomResponse);
+    }
 
-        return foundRooms.stream().map(this::toRoomResponse).toList();
+    /**
+     * 전체방 목록 조회 (방마다 직렬화된 RoomResponse JSON)
+     * - 검색 캐시의 결과도 방 JSON 캐시를 거치므로 캐시 적중 시 직렬화 없음
+     */
+    public CursorPage<byte[]> searchJson(RoomSearchRequest request) {
+        return map(roomSearchCache.get(request, this::searchRooms), this::toRoomJson);
     }
 
-    private Member extractCurrentMemberFromSecurityContext() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        try {
-            return memberService.findByEmail(email);
-        } catch (CustomException e) {
-            log.warn("토큰에 포함된 사용자 정보가 DB에 존재하지 않습니다");
-            throw new CustomException(ErrorCode.UNAUTHORIZED);
+    /**
+     * 검색 조건에 맞는 모든 방을 DB 에서 읽는 대로 하나씩 전달 (내보내기)
+     * - 읽기 전용 트랜잭션 안에서 하나의 커서로 끝까지 읽음
+     * - 방마다 한 번씩만 읽히므로 검색/방 JSON 캐시를 거치지 않음 (자주 조회되는 항목이 밀려나지 않도록)
+     */
+    @Transactional(readOnly = true)
+    public void exportRooms(RoomSearchRequest request, Consumer<RoomResponse> action) {
+        roomRepository.forEachMatching(request, room -> action.accept(toRoomResponse(room)));
+    }
+
+    private Room findMyRoomWithDeals(Long roomIdToFind) {
+        Long currentMemberId = CurrentMember.get().memberId();
+        Room room = roomRepository.findByIdWithDeals(roomIdToFind);
+        if (!room.getOwnerId().equals(currentMemberId)) {
+            throw new CustomException(ErrorCode.NOT_FOUND_ROOM);
         }
+        return room;
     }
 
-    private void validateOwnerOrThrow(Member currentMember, Room foundRoom) {
-        if (!currentMember.getId().equals(foundRoom.getOwnerId())) {
+    private List<Room> findMyRoomsWithDeals(List<Long> roomIdsToFind) {
+        Long currentMemberId = CurrentMember.get().memberId();
+        List<Long> distinctRoomIds = roomIdsToFind.stream().distinct().toList();
+
+        Map<Long, Room> foundMyRoomsById = roomRepository.findAllByIds(distinctRoomIds).stream()
+            .filter(room -> room.getOwnerId().equals(currentMemberId))
+            .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        return distinctRoomIds.stream()
+            .map(foundMyRoomsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private void forEachMyRoomAggregate(Consumer<Room> action) {
+        Long currentMemberId = CurrentMember.get().memberId();
+        roomRepository.forEachByOwnerId(currentMemberId, action);
+    }
+
+    private CursorPage<Room> findMyRoomPage(RoomCursor cursor, int size) {
+        Long currentMemberId = CurrentMember.get().memberId();
+
+        List<Room> foundMyRooms = roomRepository.findAllByOwnerId(currentMemberId, cursor,
+            size);
+
+        return CursorPage.of(foundMyRooms, createNextCursor(foundMyRooms, size));
+    }
+
+    private CursorPage<Room> searchRooms(RoomSearchRequest request) {
+        List<Room> foundRooms = roomRepository.searchRooms(request);
+
+        return CursorPage.of(foundRooms, createNextCursor(foundRooms, request.size()));
+    }
+
+    private void validateOwnerOrThrow(Long currentMemberId, Room foundRoom) {
+        if (!currentMemberId.equals(foundRoom.getOwnerId())) {
             throw new CustomException(ErrorCode.FORBIDDEN, "방을 삭제할 권한이 없습니다.");
         }
     }
@@ -153,14 +273,33 @@ public class RoomService {
             room.getAddress(), room.getArea(), room.getRoomTypeDto(), dealResponses);
     }
 
-    private void attachDealsToRooms(List<Deal> foundDeals, List<Room> foundRooms) {
-        Map<Long, List<Deal>> dealsByRoomId = foundDeals.stream()
-            .collect(Collectors.groupingBy(Deal::getRoomId));
+    private byte[] toRoomJson(Room room) {
+        return roomJsonCache.get(room, this::toRoomResponse);
+    }
+
+    private static <T> CursorPage<T> map(CursorPage<Room> page, Function<Room, T> mapper) {
+        return CursorPage.of(page.contents().stream().map(mapper).toList(), page.nextCursor());
+    }
+
+    private static String weakETag(String value) {
+        return "W/\"" + value + "\"";
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
 
-        // room 에 속한 deal
-        for (Room foundRoom : foundRooms) {
-            List<Deal> dealsInRoom = dealsByRoomId.get(foundRoom.getId());
-            foundRoom.setDeals(dealsInRoom);
+    /**
+     * 조회 결과가 요청한 size 만큼 채워졌을 때만 다음 페이지 커서를 생성
+     */
+    private static String createNextCursor(List<Room> foundRooms, int size) {
+        if (size == 0 || foundRooms.size() < size) {
+            return null;
         }
+        Room lastRoom = foundRooms.get(foundRooms.size() - 1);
+        return new RoomCursor(lastRoom.getCreatedAt(), lastRoom.getId()).encode();
     }
 }
@@ -4,9 +4,10 @@ package com.sssukho.api.scenario;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doCallRealMethod;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.doReturn;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -33,6 +34,7 @@ import com.sssukho.common.dto.room.RoomTypeDto;
 import com.sssukho.common.dto.room.RoomUpdateRequest;
 import com.sssukho.common.dto.room.RoomUpdateRequest.DealUpdateRequest;
 import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.member.Member;
 import com.sssukho.domain.room.Room;
 import com.sssukho.infra.rdb.repository.DealRepositoryImpl;
 import com.sssukho.infra.rdb.repository.RoomRepositoryImpl;
@@ -590,8 +592,9 @@ public class ScenarioTest implements MySQLContainerBaseTest {
             signUpRequest.password());
 
         // 로그인 시 이미 만료된 액세스 토큰 응답
-        when(jwtTokenProvider.generateAccessToken(signInRequest.email())).thenReturn(
-            generateInvalidAccessToken(signInRequest.email()));
+        doReturn(generateInvalidAccessToken(signInRequest.email())).when(jwtTokenProvider)
+            .generateAccessToken(argThat(member -> member != null
+                && signInRequest.email().equals(member.getEmail())));
 
         ResultActions signInResult = mockMvc.perform(
             post("/auth/signin").contentType(MediaType.APPLICATION_JSON)
@@ -614,7 +617,7 @@ public class ScenarioTest implements MySQLContainerBaseTest {
 
         // 4. 로그인 시에 받았던 refresh token 으로 새 access token 발급
         // 만료된 토큰을 발급하게 한 부분을 원래대로 돌린다.
-        doCallRealMethod().when(jwtTokenProvider).generateAccessToken(anyString());
+        doCallRealMethod().when(jwtTokenProvider).generateAccessToken(any(Member.class));
 
         RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest(refreshToken);
         ResultActions refreshTokenResult = mockMvc.perform(post("/auth/refresh")
@@ -633,6 +636,49 @@ public class ScenarioTest implements MySQLContainerBaseTest {
             .andExpect(status().isOk());
     }
 
+    @DisplayName("시나리오#13. refresh token 을 access token 대신 사용하면 401 에러를 받는다.")
+    @Test
+    @Order(13)
+    void testScenario13() throws Exception {
+        // 1. 회원 가입
+        SignUpRequest signUpRequest = new SignUpRequest("userForTokenType@gmail.com",
+            "passwordpassword", "토큰타입사용자테스트");
+
+        mockMvc.perform(post("/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(signUpRequest)))
+            .andExpect(status().isOk());
+
+        // 2. 로그인
+        SignInRequest signInRequest = new SignInRequest(signUpRequest.email(),
+            signUpRequest.password());
+
+        ResultActions signInResult = mockMvc.perform(
+            post("/auth/signin").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(signInRequest)));
+
+        ResponseMessage<SignInResponse> responseMessage = objectMapper.readValue(
+            signInResult.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8),
+            new TypeReference<ResponseMessage<SignInResponse>>() {});
+
+        String refreshToken = responseMessage.data().refreshToken();
+
+        // 3. 같은 키로 서명된 refresh token 이라도 내방 조회 API 접근시 401 에러
+        mockMvc.perform(get("/rooms/my")
+                .header("Authorization", "Bearer " + refreshToken))
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.errorCode")
+                .value(ErrorCode.UNAUTHORIZED.getErrorCode()));
+
+        // 4. access token 으로는 refresh token 을 갱신할 수 없다
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest(
+            responseMessage.data().accessToken());
+        mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(refreshTokenRequest)))
+            .andExpect(status().isUnauthorized());
+    }
+
     private String generateInvalidAccessToken(String email) {
         Date expiryDate = new Date(System.currentTimeMillis());
         SecretKey key = Keys.hmacShaKeyFor(
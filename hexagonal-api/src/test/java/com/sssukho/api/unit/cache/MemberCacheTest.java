@@ -0,0 +1,73 @@
+package com.sssukho.api.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.sssukho.api.cache.MemberCache;
+import com.sssukho.api.config.properties.CacheConfigurationProperties;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.RoomJson;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.RoomSearch;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.VerifiedToken;
+import com.sssukho.domain.member.Member;
+import com.sssukho.domain.member.MemberChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberCacheTest {
+
+    private MemberCache memberCache;
+
+    private AtomicInteger loadCount;
+
+    private final Member fakeMember = Member.createMemberWithId(1L, "dev.sssukho@gmail.com",
+        "password", "임석호", null);
+
+    @BeforeEach
+    void setUp() {
+        memberCache = new MemberCache(new CacheConfigurationProperties(
+            new RoomSearch(true, 100, Duration.ofMinutes(1)), new VerifiedToken(true, 100),
+            new CacheConfigurationProperties.Member(true, 100, Duration.ofMinutes(1)),
+            new RoomJson(true, 1024)),
+            new SimpleMeterRegistry());
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("email 로 조회한 회원은 id 로 조회할 때도 캐시를 사용한다.")
+    @Test
+    void testLoadedByEmailHitsCacheById() {
+        // given
+        Member first = memberCache.getByEmail(fakeMember.getEmail(), email -> load());
+
+        // when
+        Member second = memberCache.getById(fakeMember.getId(), id -> load());
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, loadCount.get());
+    }
+
+    @DisplayName("회원 변경 이벤트를 받으면 email/id 양쪽 캐시를 무효화한다.")
+    @Test
+    void testInvalidateOnMemberChanged() {
+        // given
+        memberCache.getByEmail(fakeMember.getEmail(), email -> load());
+
+        // when
+        memberCache.onMemberChanged(MemberChangedEvent.of(fakeMember));
+        memberCache.getByEmail(fakeMember.getEmail(), email -> load());
+        memberCache.onMemberChanged(new MemberChangedEvent(null, fakeMember.getEmail()));
+        memberCache.getById(fakeMember.getId(), id -> load());
+
+        // then
+        assertEquals(3, loadCount.get());
+    }
+
+    private Member load() {
+        loadCount.incrementAndGet();
+        return fakeMember;
+    }
+}
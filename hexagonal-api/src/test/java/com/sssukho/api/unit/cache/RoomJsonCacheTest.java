@@ -0,0 +1,126 @@
+package com.sssukho.api.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.api.cache.RoomJsonCache;
+import com.sssukho.api.config.properties.CacheConfigurationProperties;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.RoomJson;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.RoomSearch;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.VerifiedToken;
+import com.sssukho.common.dto.room.RoomResponse;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.room.Room;
+import com.sssukho.domain.room.RoomChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomJsonCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RoomJsonCache roomJsonCache;
+
+    private AtomicInteger serializeCount;
+
+    @BeforeEach
+    void setUp() {
+        roomJsonCache = new RoomJsonCache(new CacheConfigurationProperties(
+            new RoomSearch(true, 100, Duration.ofMinutes(1)), new VerifiedToken(true, 100),
+            new CacheConfigurationProperties.Member(true, 100, Duration.ofMinutes(1)),
+            new RoomJson(true, 1024 * 1024)),
+            objectMapper, new SimpleMeterRegistry());
+        serializeCount = new AtomicInteger();
+    }
+
+    @DisplayName("updated_at 이 같으면 직렬화하지 않고 캐시된 JSON 을 사용한다.")
+    @Test
+    void testSameVersionHitsCache() throws Exception {
+        // given
+        byte[] first = get(room("방 제목", UPDATED_AT));
+
+        // when
+        byte[] second = get(room("방 제목", UPDATED_AT));
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, serializeCount.get());
+        assertArrayEquals(objectMapper.writeValueAsBytes(toResponse(room("방 제목", UPDATED_AT))),
+            first);
+    }
+
+    @DisplayName("updated_at 이 더 최신이면 다시 직렬화해서 교체한다.")
+    @Test
+    void testNewerVersionReplacesEntry() throws Exception {
+        // given
+        get(room("방 제목", UPDATED_AT));
+        Room changedRoom = room("바뀐 제목", UPDATED_AT.plusSeconds(1));
+
+        // when
+        byte[] changed = get(changedRoom);
+        byte[] again = get(changedRoom);
+
+        // then
+        assertSame(changed, again);
+        assertEquals(2, serializeCount.get());
+        assertArrayEquals(objectMapper.writeValueAsBytes(toResponse(changedRoom)), changed);
+    }
+
+    @DisplayName("updated_at 이 더 오래되었으면 직렬화만 하고 캐시된 최신 JSON 은 유지한다.")
+    @Test
+    void testOlderVersionDoesNotReplaceEntry() {
+        // given
+        byte[] latest = get(room("바뀐 제목", UPDATED_AT.plusSeconds(1)));
+
+        // when
+        get(room("방 제목", UPDATED_AT));
+
+        // then
+        assertSame(latest, get(room("바뀐 제목", UPDATED_AT.plusSeconds(1))));
+        assertEquals(2, serializeCount.get());
+    }
+
+    @DisplayName("방이 변경되면 캐시된 JSON 을 제거한다.")
+    @Test
+    void testInvalidateOnRoomChanged() {
+        // given
+        Room room = room("방 제목", UPDATED_AT);
+        get(room);
+
+        // when
+        roomJsonCache.onRoomChanged(RoomChangedEvent.deleted(room));
+
+        // then
+        get(room);
+        assertEquals(2, serializeCount.get());
+    }
+
+    private byte[] get(Room room) {
+        return roomJsonCache.get(room, target -> {
+            serializeCount.incrementAndGet();
+            return toResponse(target);
+        });
+    }
+
+    private RoomResponse toResponse(Room room) {
+        return new RoomResponse(room.getId(), room.getTitle(), room.getDescription(),
+            room.getAddress(), room.getArea(), room.getRoomTypeDto(), List.of());
+    }
+
+    private Room room(String title, LocalDateTime updatedAt) {
+        Room room = Room.of(1L, title, "방 설명", "주소", 33.5, RoomTypeDto.ONE_ROOM, 1L,
+            UPDATED_AT, updatedAt);
+        room.setDeals(List.of());
+        return room;
+    }
+}
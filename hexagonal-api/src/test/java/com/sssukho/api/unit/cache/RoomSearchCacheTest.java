@@ -0,0 +1,174 @@
+package com.sssukho.api.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.sssukho.api.cache.RoomSearchCache;
+import com.sssukho.api.config.properties.CacheConfigurationProperties;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.RoomJson;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.RoomSearch;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.VerifiedToken;
+import com.sssukho.common.dto.common.CursorPage;
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.room.Room;
+import com.sssukho.domain.room.RoomChangedEvent;
+import com.sssukho.domain.room.RoomsRegisteredEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomSearchCacheTest {
+
+    private RoomSearchCache roomSearchCache;
+
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        roomSearchCache = new RoomSearchCache(new CacheConfigurationProperties(
+            new RoomSearch(true, 100, Duration.ofMinutes(1)), new VerifiedToken(true, 100),
+            new CacheConfigurationProperties.Member(true, 100, Duration.ofMinutes(1)),
+            new RoomJson(true, 1024)),
+            new SimpleMeterRegistry());
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("enum 목록 순서와 BigDecimal scale 이 달라도 같은 조건이면 캐시를 사용한다.")
+    @Test
+    void testNormalizedRequestHitsCache() {
+        // given
+        CursorPage<Room> first = search(new RoomSearchRequest(
+            List.of(RoomTypeDto.TWO_ROOM, RoomTypeDto.ONE_ROOM), List.of(DealTypeDto.MONTHLY_RENT),
+            new BigDecimal("1000.00"), null, null, null, 0, 10));
+
+        // when
+        CursorPage<Room> second = search(new RoomSearchRequest(
+            List.of(RoomTypeDto.ONE_ROOM, RoomTypeDto.TWO_ROOM, RoomTypeDto.ONE_ROOM),
+            List.of(DealTypeDto.MONTHLY_RENT), new BigDecimal("1000"), null, null, null, 0, 10));
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, loadCount.get());
+    }
+
+    @DisplayName("변경된 방이 조건에 맞을 수 있는 캐시만 무효화한다.")
+    @Test
+    void testInvalidateOnlyMatchingEntries() {
+        // given
+        RoomSearchRequest oneRoomRequest = new RoomSearchRequest(List.of(RoomTypeDto.ONE_ROOM),
+            null, null, null, null, null, 0, 10);
+        RoomSearchRequest threeRoomRequest = new RoomSearchRequest(List.of(RoomTypeDto.THREE_ROOM),
+            null, null, null, null, null, 0, 10);
+        search(oneRoomRequest);
+        search(threeRoomRequest);
+
+        // when
+        roomSearchCache.onRoomChanged(RoomChangedEvent.registered(
+            room(RoomTypeDto.ONE_ROOM, Deal.of(DealTypeDto.MONTHLY_RENT,
+                BigDecimal.valueOf(1000), BigDecimal.valueOf(50), 1L))));
+
+        // then
+        search(oneRoomRequest);
+        search(threeRoomRequest);
+        assertEquals(3, loadCount.get());
+    }
+
+    @DisplayName("거래가 바뀌면 변경 전 상태가 맞던 조건의 캐시도 무효화한다.")
+    @Test
+    void testInvalidatePreviousStateEntries() {
+        // given
+        RoomSearchRequest yearRentRequest = new RoomSearchRequest(null,
+            List.of(DealTypeDto.YEAR_RENT), null, null, null, null, 0, 10);
+        search(yearRentRequest);
+
+        Room previousRoom = room(RoomTypeDto.ONE_ROOM,
+            Deal.of(DealTypeDto.YEAR_RENT, BigDecimal.valueOf(100000), null, 1L));
+        Room updatedRoom = room(RoomTypeDto.ONE_ROOM,
+            Deal.of(DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(1000), BigDecimal.valueOf(50), 1L));
+
+        // when
+        roomSearchCache.onRoomChanged(RoomChangedEvent.updated(previousRoom, updatedRoom));
+
+        // then
+        search(yearRentRequest);
+        assertEquals(2, loadCount.get());
+    }
+
+    @DisplayName("방이 변경되면 검색 결과 버전이 바뀐다.")
+    @Test
+    void testVersionChangesOnRoomChange() {
+        // given
+        String before = roomSearchCache.version();
+
+        // when
+        roomSearchCache.onRoomChanged(RoomChangedEvent.deleted(room(RoomTypeDto.TWO_ROOM)));
+
+        // then
+        assertNotEquals(before, roomSearchCache.version());
+    }
+
+    @DisplayName("여러 방이 한번에 등록되면 캐시 전체를 한번에 무효화한다.")
+    @Test
+    void testInvalidateAllOnceOnBatchRegistration() {
+        // given
+        RoomSearchRequest oneRoomRequest = new RoomSearchRequest(List.of(RoomTypeDto.ONE_ROOM),
+            null, null, null, null, null, 0, 10);
+        RoomSearchRequest threeRoomRequest = new RoomSearchRequest(List.of(RoomTypeDto.THREE_ROOM),
+            null, null, null, null, null, 0, 10);
+        search(oneRoomRequest);
+        search(threeRoomRequest);
+        String before = roomSearchCache.version();
+
+        // when
+        roomSearchCache.onRoomsRegistered(new RoomsRegisteredEvent(
+            List.of(room(RoomTypeDto.ONE_ROOM), room(RoomTypeDto.TWO_ROOM))));
+
+        // then
+        assertEquals(0, roomSearchCache.size());
+        assertNotEquals(before, roomSearchCache.version());
+    }
+
+    @DisplayName("조회하는 동안 방이 변경되면 조회 결과를 캐시에 저장하지 않는다.")
+    @Test
+    void testSkipPutWhenInvalidatedDuringLoad() {
+        // given
+        RoomSearchRequest oneRoomRequest = new RoomSearchRequest(List.of(RoomTypeDto.ONE_ROOM),
+            null, null, null, null, null, 0, 10);
+
+        // when
+        roomSearchCache.get(oneRoomRequest, ignored -> {
+            loadCount.incrementAndGet();
+            roomSearchCache.onRoomChanged(RoomChangedEvent.registered(room(RoomTypeDto.ONE_ROOM)));
+            return CursorPage.of(List.of(), null);
+        });
+
+        // then
+        assertEquals(0, roomSearchCache.size());
+        search(oneRoomRequest);
+        assertEquals(2, loadCount.get());
+    }
+
+    private CursorPage<Room> search(RoomSearchRequest request) {
+        return roomSearchCache.get(request, ignored -> {
+            loadCount.incrementAndGet();
+            return CursorPage.of(List.of(), null);
+        });
+    }
+
+    private Room room(RoomTypeDto roomType, Deal... deals) {
+        Room room = Room.of(1L, "방 제목", "방 설명", "주소", 33.5, roomType, 1L,
+            LocalDateTime.now(), LocalDateTime.now());
+        room.setDeals(List.of(deals));
+        return room;
+    }
+}
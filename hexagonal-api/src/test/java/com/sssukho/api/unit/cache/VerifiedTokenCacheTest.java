@@ -0,0 +1,127 @@
+package com.sssukho.api.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.sssukho.api.cache.VerifiedTokenCache;
+import com.sssukho.api.config.properties.CacheConfigurationProperties;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.RoomJson;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.RoomSearch;
+import com.sssukho.api.config.properties.CacheConfigurationProperties.VerifiedToken;
+import com.sssukho.common.security.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private final Instant startedAt = Instant.parse("2025-01-01T00:00:00Z");
+
+    private MutableClock clock;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private AtomicInteger verifyCount;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(startedAt);
+        verifiedTokenCache = new VerifiedTokenCache(new CacheConfigurationProperties(
+            new RoomSearch(true, 100, Duration.ofMinutes(1)), new VerifiedToken(true, 100),
+            new CacheConfigurationProperties.Member(true, 100, Duration.ofMinutes(1)),
+            new RoomJson(true, 1024)),
+            new SimpleMeterRegistry(), clock);
+        verifyCount = new AtomicInteger();
+    }
+
+    @DisplayName("한번 검증한 토큰은 다시 검증하지 않는다.")
+    @Test
+    void testVerifiedTokenHitsCache() {
+        // given
+        TokenClaims claims = claimsExpiringAt(startedAt.plusSeconds(60));
+        TokenClaims first = verifiedTokenCache.get("token", token -> verify(claims));
+
+        // when
+        TokenClaims second = verifiedTokenCache.get("token", token -> verify(claims));
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, verifyCount.get());
+    }
+
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않는다.")
+    @Test
+    void testInvalidTokenIsNotCached() {
+        // when
+        verifiedTokenCache.get("invalid", token -> verify(null));
+        TokenClaims result = verifiedTokenCache.get("invalid", token -> verify(null));
+
+        // then
+        assertNull(result);
+        assertEquals(2, verifyCount.get());
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @DisplayName("토큰의 exp 가 지나면 캐시된 클레임을 사용하지 않는다.")
+    @Test
+    void testExpiredTokenIsNotServedFromCache() {
+        // given
+        TokenClaims claims = claimsExpiringAt(startedAt.plusSeconds(60));
+        verifiedTokenCache.get("token", token -> verify(claims));
+
+        // when
+        clock.advance(Duration.ofSeconds(61));
+        TokenClaims result = verifiedTokenCache.get("token", token -> verify(null));
+
+        // then
+        assertNull(result);
+        assertEquals(2, verifyCount.get());
+    }
+
+    private TokenClaims verify(TokenClaims claims) {
+        verifyCount.incrementAndGet();
+        return claims;
+    }
+
+    private static TokenClaims claimsExpiringAt(Instant expiresAt) {
+        return new TokenClaims("jti", TokenClaims.Type.ACCESS, "dev.sssukho@gmail.com", 1L,
+            List.of("MEMBER"), expiresAt);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
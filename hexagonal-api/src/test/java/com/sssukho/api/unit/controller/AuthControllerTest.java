@@ -8,7 +8,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sssukho.api.controller.AuthController;
+import com.sssukho.api.limiter.ConcurrencyLimitFilter;
 import com.sssukho.api.security.JwtAuthenticationFilter;
+import com.sssukho.api.security.RateLimitFilter;
 import com.sssukho.api.service.AuthService;
 import com.sssukho.common.dto.auth.SignInRequest;
 import com.sssukho.common.dto.auth.SignInResponse;
@@ -42,6 +44,12 @@ public class AuthControllerTest {
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @MockBean
+    private RateLimitFilter rateLimitFilter;
+
+    @MockBean
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
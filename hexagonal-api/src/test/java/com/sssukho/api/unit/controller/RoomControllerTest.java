@@ -1,23 +1,42 @@
 package com.sssukho.api.unit.controller;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.sssukho.api.controller.RoomController;
+import com.sssukho.api.limiter.ConcurrencyLimitFilter;
 import com.sssukho.api.security.JwtAuthenticationFilter;
+import com.sssukho.api.security.RateLimitFilter;
+import com.sssukho.api.importer.ListingImportService;
+import com.sssukho.api.service.RoomBulkService;
 import com.sssukho.api.service.RoomService;
+import com.sssukho.common.dto.common.CursorPage;
 import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
 import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomBulkRegistrationResponse;
+import com.sssukho.common.dto.room.RoomBulkRegistrationResponse.ItemResult;
+import com.sssukho.common.dto.room.RoomCursor;
 import com.sssukho.common.dto.room.RoomRegistrationRequest;
 import com.sssukho.common.dto.room.RoomResponse;
 import com.sssukho.common.dto.room.RoomResponse.DealResponse;
@@ -27,19 +46,27 @@ import com.sssukho.common.dto.room.RoomUpdateRequest;
 import com.sssukho.common.dto.room.RoomUpdateRequest.DealUpdateRequest;
 import com.sssukho.common.exception.CustomException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
@@ -53,9 +80,21 @@ class RoomControllerTest {
     @MockBean
     private RoomService roomService;
 
+    @MockBean
+    private RoomBulkService roomBulkService;
+
+    @MockBean
+    private ListingImportService listingImportService;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @MockBean
+    private RateLimitFilter rateLimitFilter;
+
+    @MockBean
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -106,6 +145,40 @@ class RoomControllerTest {
             .andExpect(jsonPath("$.data.deals").isArray());
     }
 
+    @DisplayName("내방 일괄 등록 요청 성공 테스트")
+    @Test
+    void testRegisterRoomsSucceed() throws Exception {
+        // given
+        RoomRegistrationRequest fakeValidRequest = new RoomRegistrationRequest("타이틀 등록 요청",
+            "설명 등록 요청", "주소 등록 요청", 20.5, RoomTypeDto.ONE_ROOM, List.of());
+        RoomRegistrationRequest fakeInvalidRequest = new RoomRegistrationRequest(null,
+            "설명 등록 요청", "주소 등록 요청", 20.5, RoomTypeDto.ONE_ROOM, List.of());
+
+        RoomBulkRegistrationResponse fakeResponse = RoomBulkRegistrationResponse.of(List.of(
+            ItemResult.registered(0, 1L),
+            ItemResult.failed(1, ErrorCode.INVALID_PARAMETER.getErrorCode(),
+                "파라미터 'title' 의 값이 유효하지 않습니다.")));
+
+        when(roomBulkService.registerAll(List.of(fakeValidRequest, fakeInvalidRequest)))
+            .thenReturn(fakeResponse);
+
+        // when
+        ResultActions result = mockMvc.perform(post("/rooms/bulk")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+                List.of(fakeValidRequest, fakeInvalidRequest))));
+
+        // then
+        result.andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.requestedCount").value(2))
+            .andExpect(jsonPath("$.data.registeredCount").value(1))
+            .andExpect(jsonPath("$.data.results[0].status").value("REGISTERED"))
+            .andExpect(jsonPath("$.data.results[0].roomId").value(1))
+            .andExpect(jsonPath("$.data.results[1].status").value("FAILED"))
+            .andExpect(jsonPath("$.data.results[1].errorCode")
+                .value(ErrorCode.INVALID_PARAMETER.getErrorCode()));
+    }
+
     @DisplayName("내방 등록 요청 실패 테스트")
     @ParameterizedTest(name = "{0}")
     @MethodSource("invalidRegisterRoomRequestProvider")
@@ -265,7 +338,8 @@ class RoomControllerTest {
         RoomResponse fakeResponse = new RoomResponse(fakeRoomId, "내방 타이틀", "내방 설명", "내방 주소", 45.45,
             RoomTypeDto.THREE_ROOM, List.of(fakeDealResponse));
 
-        when(roomService.findMyRoom(fakeRoomId)).thenReturn(fakeResponse);
+        when(roomService.findMyRoomJson(fakeRoomId)).thenReturn(
+            objectMapper.writeValueAsBytes(fakeResponse));
 
         // when
         ResultActions result = mockMvc.perform(get("/rooms/" + fakeRoomId));
@@ -280,6 +354,62 @@ class RoomControllerTest {
             .andExpect(jsonPath("$.data.deals").isArray());
     }
 
+    @DisplayName("내방 단건 조회 시 ETag 를 응답한다.")
+    @Test
+    void testFindMyRoomReturnsETag() throws Exception {
+        // given
+        long fakeRoomId = 1L;
+        String fakeETag = "W/\"room-1-1000\"";
+
+        when(roomService.findMyRoomETag(fakeRoomId)).thenReturn(fakeETag);
+        when(roomService.findMyRoomJson(fakeRoomId)).thenReturn(objectMapper.writeValueAsBytes(
+            new RoomResponse(fakeRoomId, "내방 타이틀", "내방 설명", "내방 주소", 45.45,
+                RoomTypeDto.THREE_ROOM, List.of())));
+
+        // when
+        ResultActions result = mockMvc.perform(get("/rooms/" + fakeRoomId));
+
+        // then
+        result.andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, fakeETag));
+    }
+
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 방을 조회하지 않고 304 를 응답한다.")
+    @Test
+    void testFindMyRoomNotModified() throws Exception {
+        // given
+        long fakeRoomId = 1L;
+        String fakeETag = "W/\"room-1-1000\"";
+
+        when(roomService.findMyRoomETag(fakeRoomId)).thenReturn(fakeETag);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/rooms/" + fakeRoomId)
+            .header(HttpHeaders.IF_NONE_MATCH, fakeETag));
+
+        // then
+        result.andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, fakeETag));
+        verify(roomService, never()).findMyRoomJson(any());
+    }
+
+    @DisplayName("검색 결과 버전이 같으면 검색하지 않고 304 를 응답한다.")
+    @Test
+    void testSearchRoomsNotModified() throws Exception {
+        // given
+        String fakeETag = "W/\"rooms-abc-3-100\"";
+
+        when(roomService.searchETag()).thenReturn(fakeETag);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/rooms")
+            .header(HttpHeaders.IF_NONE_MATCH, fakeETag));
+
+        // then
+        result.andExpect(status().isNotModified());
+        verify(roomService, never()).searchJson(any());
+    }
+
     @DisplayName("내방 단건 조회 실패 테스트")
     @Test
     void testFindMyRoomFailed() throws Exception {
@@ -287,7 +417,7 @@ class RoomControllerTest {
         long fakeRoomId = 1L;
 
         doThrow(new CustomException(ErrorCode.FORBIDDEN)).when(roomService)
-            .findMyRoom(fakeRoomId);
+            .findMyRoomJson(fakeRoomId);
 
         // when
         ResultActions result = mockMvc.perform(get("/rooms/" + fakeRoomId));
@@ -309,7 +439,11 @@ class RoomControllerTest {
                 List.of(new DealResponse(DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(200000000), BigDecimal.valueOf(500000))))
         );
 
-        when(roomService.search(any(RoomSearchRequest.class))).thenReturn(fakeResponses);
+        String fakeNextCursor = new RoomCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 2L).encode();
+        List<byte[]> fakeJsons = List.of(objectMapper.writeValueAsBytes(fakeResponses.get(0)),
+            objectMapper.writeValueAsBytes(fakeResponses.get(1)));
+        when(roomService.searchJson(any(RoomSearchRequest.class))).thenReturn(
+            CursorPage.of(fakeJsons, fakeNextCursor));
 
         // when
         ResultActions result = mockMvc.perform(get("/rooms")
@@ -326,7 +460,194 @@ class RoomControllerTest {
         result.andExpect(status().isOk())
             .andExpect(jsonPath("$.data").isArray())
             .andExpect(jsonPath("$.data[0].id").value(fakeResponses.get(0).id()))
-            .andExpect(jsonPath("$.data[1].id").value(fakeResponses.get(1).id()));
+            .andExpect(jsonPath("$.data[1].id").value(fakeResponses.get(1).id()))
+            .andExpect(jsonPath("$.nextCursor").value(fakeNextCursor));
+    }
+
+    @DisplayName("내방 전체 목록은 방 JSON 을 받는 대로 이어서 쓰고 nextCursor 는 생략한다.")
+    @Test
+    void testFindAllMyRoomsStreamsJson() throws Exception {
+        // given
+        List<RoomResponse> fakeResponses = List.of(
+            new RoomResponse(1L, "타이틀1", "설명1", "주소1", 45.5, RoomTypeDto.THREE_ROOM, List.of()),
+            new RoomResponse(2L, "타이틀2", "설명2", "주소2", 35.5, RoomTypeDto.TWO_ROOM, List.of()));
+
+        doAnswer(invocation -> {
+            Consumer<byte[]> action = invocation.getArgument(0);
+            for (RoomResponse fakeResponse : fakeResponses) {
+                action.accept(objectMapper.writeValueAsBytes(fakeResponse));
+            }
+            return null;
+        }).when(roomService).forEachMyRoomJson(any());
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(get("/rooms/my"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        result.andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.data[0].title").value(fakeResponses.get(0).title()))
+            .andExpect(jsonPath("$.data[1].title").value(fakeResponses.get(1).title()))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @DisplayName("내방 전체 목록을 CBOR 로 요청하면 항목마다 직렬화해서 쓴다.")
+    @Test
+    void testFindAllMyRoomsStreamsCbor() throws Exception {
+        // given
+        RoomResponse fakeResponse = new RoomResponse(1L, "타이틀1", "설명1", "주소1", 45.5,
+            RoomTypeDto.THREE_ROOM, List.of(new DealResponse(DealTypeDto.MONTHLY_RENT,
+                BigDecimal.valueOf(200000000), BigDecimal.valueOf(500000))));
+
+        doAnswer(invocation -> {
+            Consumer<RoomResponse> action = invocation.getArgument(0);
+            action.accept(fakeResponse);
+            return null;
+        }).when(roomService).forEachMyRoom(any());
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(get("/rooms/my")
+                .accept(MediaType.APPLICATION_CBOR))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn();
+
+        // then
+        JsonNode data = new ObjectMapper(new CBORFactory())
+            .readTree(result.getResponse().getContentAsByteArray()).get("data");
+        assertEquals(1, data.size());
+        assertEquals(fakeResponse.title(), data.get(0).get("title").asText());
+        verify(roomService, never()).forEachMyRoomJson(any());
+    }
+
+    @DisplayName("Accept 가 CBOR 이면 같은 스키마를 CBOR 로 응답하고 JSON 보다 작다.")
+    @Test
+    void testSearchRoomsNegotiatesCbor() throws Exception {
+        // given
+        List<RoomResponse> fakeResponses = List.of(
+            new RoomResponse(1L, "타이틀1", "설명1", "주소1", 45.5, RoomTypeDto.THREE_ROOM,
+                List.of(new DealResponse(DealTypeDto.YEAR_RENT, BigDecimal.valueOf(1000000000), null))),
+            new RoomResponse(2L, "타이틀2", "설명2", "주소2", 35.5, RoomTypeDto.TWO_ROOM,
+                List.of(new DealResponse(DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(200000000), BigDecimal.valueOf(500000)))));
+
+        when(roomService.search(any(RoomSearchRequest.class))).thenReturn(
+            CursorPage.of(fakeResponses, null));
+        when(roomService.searchJson(any(RoomSearchRequest.class))).thenReturn(CursorPage.of(
+            List.of(objectMapper.writeValueAsBytes(fakeResponses.get(0)),
+                objectMapper.writeValueAsBytes(fakeResponses.get(1))), null));
+
+        // when
+        MvcResult cborResult = mockMvc.perform(get("/rooms")
+                .accept(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn();
+        MvcResult jsonResult = mockMvc.perform(get("/rooms"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andReturn();
+
+        // then
+        byte[] cborBody = cborResult.getResponse().getContentAsByteArray();
+        JsonNode cborData = new ObjectMapper(new CBORFactory()).readTree(cborBody).get("data");
+        assertEquals(fakeResponses.get(1).id(), cborData.get(1).get("id").asLong());
+        assertEquals(fakeResponses.get(1).title(), cborData.get(1).get("title").asText());
+        assertTrue(cborBody.length < jsonResult.getResponse().getContentAsByteArray().length);
+    }
+
+    @DisplayName("ids 가 있으면 검색 대신 내방 여러 건 조회 결과를 응답한다.")
+    @Test
+    void testFindMyRoomsByIdsSucceed() throws Exception {
+        // given
+        List<RoomResponse> fakeResponses = List.of(
+            new RoomResponse(3L, "타이틀3", "설명3", "주소3", 45.5, RoomTypeDto.ONE_ROOM, List.of()),
+            new RoomResponse(1L, "타이틀1", "설명1", "주소1", 35.5, RoomTypeDto.TWO_ROOM, List.of()));
+
+        when(roomService.findMyRoomsByIdsJson(List.of(3L, 1L))).thenReturn(List.of(
+            objectMapper.writeValueAsBytes(fakeResponses.get(0)),
+            objectMapper.writeValueAsBytes(fakeResponses.get(1))));
+
+        // when
+        ResultActions result = mockMvc.perform(get("/rooms").param("ids", "3,1"));
+
+        // then
+        result.andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].id").value(3L))
+            .andExpect(jsonPath("$.data[1].id").value(1L));
+        verify(roomService, never()).searchJson(any());
+    }
+
+    @DisplayName("ids 가 100개를 넘으면 400 을 응답한다.")
+    @Test
+    void testFindMyRoomsByIdsFailedWhenTooManyIds() throws Exception {
+        // given
+        String ids = LongStream.rangeClosed(1, 101).mapToObj(String::valueOf)
+            .collect(Collectors.joining(","));
+
+        // when
+        ResultActions result = mockMvc.perform(get("/rooms").param("ids", ids));
+
+        // then
+        result.andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value(ErrorCode.INVALID_PARAMETER.getErrorCode()));
+    }
+
+    @DisplayName("내보내기는 검색 조건으로 조회한 방을 한 줄에 하나씩 NDJSON 으로 쓴다.")
+    @Test
+    void testExportRoomsStreamsNdjson() throws Exception {
+        // given
+        List<RoomResponse> fakeResponses = List.of(
+            new RoomResponse(1L, "타이틀1", "설명1", "주소1", 45.5, RoomTypeDto.ONE_ROOM, List.of()),
+            new RoomResponse(2L, "타이틀2", "설명2", "주소2", 35.5, RoomTypeDto.ONE_ROOM, List.of()));
+
+        doAnswer(invocation -> {
+            Consumer<RoomResponse> action = invocation.getArgument(1);
+            fakeResponses.forEach(action);
+            return null;
+        }).when(roomService).exportRooms(any(RoomSearchRequest.class), any());
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(get("/rooms/export")
+                .param("roomTypes", "ONE_ROOM")
+                .param("minDeposit", "1000"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn();
+
+        // then
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8)
+            .split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(fakeResponses.get(1).title(),
+            objectMapper.readValue(lines[1], RoomResponse.class).title());
+
+        ArgumentCaptor<RoomSearchRequest> requestCaptor = ArgumentCaptor.forClass(
+            RoomSearchRequest.class);
+        verify(roomService).exportRooms(requestCaptor.capture(), any());
+        assertEquals(List.of(RoomTypeDto.ONE_ROOM), requestCaptor.getValue().roomTypes());
+        assertEquals(new BigDecimal("1000"), requestCaptor.getValue().minDeposit());
+    }
+
+    @DisplayName("전체방 목록 조회 실패 테스트 - 커서 값이 유효하지 않을 때")
+    @Test
+    void testSearchRoomsFailedWithInvalidCursor() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(get("/rooms")
+            .param("cursor", "invalid-cursor")
+            .param("size", "10"));
+
+        // then
+        result.andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value(ErrorCode.INVALID_PARAMETER.getErrorCode()));
     }
 
     @DisplayName("전체방 목록 조회 실패 테스트")
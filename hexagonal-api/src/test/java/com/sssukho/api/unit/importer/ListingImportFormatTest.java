@@ -0,0 +1,34 @@
+package com.sssukho.api.unit.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sssukho.api.importer.ListingImportFormat;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ListingImportFormatTest {
+
+    @DisplayName("Content-Type 으로 가져오기 형식을 판단하고 charset 등 파라미터는 무시한다.")
+    @Test
+    void testFromContentType() {
+        assertEquals(ListingImportFormat.NDJSON,
+            ListingImportFormat.fromContentType("application/x-ndjson"));
+        assertEquals(ListingImportFormat.CSV,
+            ListingImportFormat.fromContentType("text/csv; charset=UTF-8"));
+    }
+
+    @DisplayName("지원하지 않거나 잘못된 Content-Type 이면 INVALID_PARAMETER 로 실패한다.")
+    @Test
+    void testFromUnsupportedContentType() {
+        CustomException unsupported = assertThrows(CustomException.class,
+            () -> ListingImportFormat.fromContentType("application/json"));
+        CustomException invalid = assertThrows(CustomException.class,
+            () -> ListingImportFormat.fromContentType("not a media type"));
+
+        assertEquals(ErrorCode.INVALID_PARAMETER, unsupported.getErrorCode());
+        assertEquals(ErrorCode.INVALID_PARAMETER, invalid.getErrorCode());
+    }
+}
@@ -0,0 +1,146 @@
+package com.sssukho.api.unit.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.api.config.properties.BulkConfigurationProperties;
+import com.sssukho.api.importer.ListingImportFormat;
+import com.sssukho.api.importer.ListingImportService;
+import com.sssukho.api.service.RoomBatchWriter;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.dto.room.ListingImportResult;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.domain.room.RoomsImportedEvent;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+class ListingImportServiceTest {
+
+    private static final String ROW = """
+        {"title":"방","address":"주소","roomType":"ONE_ROOM","deals":[]}
+        """;
+
+    @Mock
+    private RoomBatchWriter roomBatchWriter;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ListingImportService listingImportService;
+
+    @BeforeEach
+    void setUp() {
+        // batch 1건, queue 1칸, writer 1개, 동시 가져오기 1개
+        BulkConfigurationProperties properties = new BulkConfigurationProperties(
+            new BulkConfigurationProperties.RoomRegistration(100, 100),
+            new BulkConfigurationProperties.ListingImport(1, 1, 1, 1000, 1));
+        listingImportService = new ListingImportService(roomBatchWriter, validator,
+            new ObjectMapper(), properties, new MockEnvironment(), eventPublisher);
+    }
+
+    @DisplayName("가져오기가 끝나면 batch 마다가 아니라 한번만 변경 이벤트를 발행한다.")
+    @Test
+    void testPublishImportedEventOnce() {
+        // when
+        ListingImportResult result = listingImportService.importListings(rows(5),
+            ListingImportFormat.NDJSON, 1L);
+
+        // then
+        assertEquals(5, result.importedCount());
+        verify(roomBatchWriter, times(5)).writeWithoutEvent(anyList(), eq(1L));
+        verify(roomBatchWriter, never()).write(any(), any());
+        ArgumentCaptor<RoomsImportedEvent> event = ArgumentCaptor.forClass(RoomsImportedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(1L, event.getValue().ownerId());
+        assertEquals(5, event.getValue().importedCount());
+    }
+
+    @DisplayName("writer 가 Error 로 모두 종료되면 queue 를 기다리지 않고 실패한다.")
+    @Test
+    void testFailWhenAllWritersDied() {
+        // given
+        when(roomBatchWriter.writeWithoutEvent(anyList(), eq(1L)))
+            .thenThrow(new StackOverflowError());
+
+        // when
+        CustomException exception = assertTimeoutPreemptively(Duration.ofSeconds(10),
+            () -> assertThrows(CustomException.class,
+                () -> listingImportService.importListings(rows(10), ListingImportFormat.NDJSON,
+                    1L)));
+
+        // then
+        assertEquals(ErrorCode.INTERNAL_SERVER_ERROR, exception.getErrorCode());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @DisplayName("노드에서 동시에 진행할 수 있는 가져오기 수를 넘으면 기다리지 않고 TOO_MANY_REQUESTS 로 실패한다.")
+    @Test
+    void testRejectWhenImportsAreBusy() throws Exception {
+        // given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(roomBatchWriter.writeWithoutEvent(anyList(), eq(1L))).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return List.of();
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ListingImportResult> running = executor.submit(
+                () -> listingImportService.importListings(rows(1), ListingImportFormat.NDJSON, 1L));
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+            // when
+            CustomException exception = assertThrows(CustomException.class,
+                () -> listingImportService.importListings(rows(1), ListingImportFormat.NDJSON, 1L));
+
+            // then
+            assertEquals(ErrorCode.TOO_MANY_REQUESTS, exception.getErrorCode());
+
+            release.countDown();
+            assertEquals(1, running.get(10, TimeUnit.SECONDS).importedCount());
+            assertEquals(1, listingImportService.importListings(rows(1),
+                ListingImportFormat.NDJSON, 1L).importedCount());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static InputStream rows(int count) {
+        return new ByteArrayInputStream(ROW.repeat(count).getBytes(StandardCharsets.UTF_8));
+    }
+}
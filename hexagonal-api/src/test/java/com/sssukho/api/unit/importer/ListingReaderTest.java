@@ -0,0 +1,79 @@
+package com.sssukho.api.unit.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.api.importer.ListingImportFormat;
+import com.sssukho.api.importer.ListingReader;
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomRegistrationRequest;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.common.exception.CustomException;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ListingReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("CSV 의 추가 거래 행은 앞 방의 거래로 묶는다.")
+    @Test
+    void testCsvContinuationRows() throws Exception {
+        // given
+        String csv = """
+            title,description,address,area,roomType,dealType,deposit,monthlyRent
+            "원룸, 역세권",설명,서울시 강남구,25.5,ONE_ROOM,MONTHLY_RENT,10000000,500000
+            ,,,,,YEAR_RENT,200000000,
+            투룸,,서울시 서초구,,TWO_ROOM,,,
+            """;
+
+        try (ListingReader reader = open(ListingImportFormat.CSV, csv)) {
+            // when
+            RoomRegistrationRequest first = reader.next();
+            RoomRegistrationRequest second = reader.next();
+
+            // then
+            assertEquals("원룸, 역세권", first.title());
+            assertEquals(RoomTypeDto.ONE_ROOM, first.roomType());
+            assertEquals(2, first.deals().size());
+            assertEquals(DealTypeDto.YEAR_RENT, first.deals().get(1).dealType());
+            assertEquals(new BigDecimal("200000000"), first.deals().get(1).deposit());
+            assertNull(first.deals().get(1).monthlyRent());
+
+            assertEquals("투룸", second.title());
+            assertEquals(0, second.deals().size());
+            assertNull(reader.next());
+        }
+    }
+
+    @DisplayName("형식이 잘못된 행은 예외를 던지고 다음 행부터 이어서 읽는다.")
+    @Test
+    void testSkipInvalidRows() throws Exception {
+        // given
+        String ndjson = """
+            {"title":"방1","address":"주소","roomType":"ONE_ROOM","deals":[]}
+            {"title":
+            {"title":"방2","address":"주소","roomType":"UNKNOWN","deals":[]}
+            {"title":"방3","address":"주소","roomType":"TWO_ROOM","deals":[]}
+            """;
+
+        try (ListingReader reader = open(ListingImportFormat.NDJSON, ndjson)) {
+            // when & then
+            assertEquals("방1", reader.next().title());
+            assertThrows(CustomException.class, reader::next);
+            assertThrows(CustomException.class, reader::next);
+            assertEquals("방3", reader.next().title());
+            assertEquals(4, reader.lineNumber());
+            assertNull(reader.next());
+        }
+    }
+
+    private ListingReader open(ListingImportFormat format, String content) throws Exception {
+        return format.open(new BufferedReader(new StringReader(content)), objectMapper);
+    }
+}
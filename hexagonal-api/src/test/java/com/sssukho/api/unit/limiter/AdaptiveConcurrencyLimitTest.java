@@ -0,0 +1,91 @@
+package com.sssukho.api.unit.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sssukho.api.limiter.AdaptiveConcurrencyLimit;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @DisplayName("limit 만큼 처리 중이면 바로 거절하고, 끝난 요청이 있으면 다시 허용한다.")
+    @Test
+    void testRejectWhenLimitReached() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 0.2, 1.5, 100);
+
+        // when & then
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+
+        limit.release(10 * MILLIS, false);
+        assertTrue(limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+    }
+
+    @DisplayName("응답 시간이 평소보다 크게 늘어나면 limit 을 줄인다.")
+    @Test
+    void testDecreaseWhenLatencyGrows() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 4, 100, 0.2, 1.5, 100);
+        for (int i = 0; i < 100; i++) {
+            completeOne(limit, 10 * MILLIS);
+        }
+        int before = limit.getLimit();
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            completeOne(limit, 100 * MILLIS);
+        }
+
+        // then
+        assertTrue(limit.getLimit() < before);
+    }
+
+    @DisplayName("응답 시간이 일정하고 limit 을 다 쓰고 있으면 limit 을 늘린다.")
+    @Test
+    void testIncreaseWhenSaturatedAndHealthy() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 100, 0.2, 1.5, 100);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int j = 0; j < acquired; j++) {
+                limit.release(10 * MILLIS, true);
+            }
+        }
+
+        // then
+        assertTrue(limit.getLimit() > 4);
+    }
+
+    @DisplayName("사용량이 적으면 응답 시간이 좋아도 limit 을 늘리지 않는다.")
+    @Test
+    void testNotIncreaseWhenIdle() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 1, 100, 0.2, 1.5, 100);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            completeOne(limit, 10 * MILLIS);
+        }
+
+        // then
+        assertEquals(20, limit.getLimit());
+    }
+
+    private void completeOne(AdaptiveConcurrencyLimit limit, long rttNanos) {
+        assertTrue(limit.tryAcquire());
+        limit.release(rttNanos, true);
+    }
+}
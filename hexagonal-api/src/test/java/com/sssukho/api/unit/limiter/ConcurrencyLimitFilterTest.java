@@ -0,0 +1,108 @@
+package com.sssukho.api.unit.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sssukho.api.config.properties.ConcurrencyLimitConfigurationProperties;
+import com.sssukho.api.config.properties.ConcurrencyLimitConfigurationProperties.Limit;
+import com.sssukho.api.limiter.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        // 내방 조회는 한번에 하나만 처리
+        Limit single = new Limit(1, 1, 1);
+        Limit wide = new Limit(10, 1, 10);
+        ConcurrencyLimitConfigurationProperties properties = new ConcurrencyLimitConfigurationProperties(
+            true, 0.2, 1.5, 100, wide, single, wide, wide);
+        concurrencyLimitFilter = new ConcurrencyLimitFilter(properties, new SimpleMeterRegistry(),
+            new ObjectMapper());
+    }
+
+    @DisplayName("동기 요청은 필터를 빠져나갈 때 동시 처리 수를 반납한다.")
+    @Test
+    void testReleaseWhenSyncRequestReturns() throws Exception {
+        // given
+        FilterChain chain = (request, response) -> { };
+        concurrencyLimitFilter.doFilter(myRoomsRequest(), new MockHttpServletResponse(), chain);
+
+        // when
+        MockHttpServletResponse next = new MockHttpServletResponse();
+        concurrencyLimitFilter.doFilter(myRoomsRequest(), next, chain);
+
+        // then
+        assertEquals(HttpStatus.OK.value(), next.getStatus());
+    }
+
+    @DisplayName("비동기 요청은 응답이 끝날 때까지 동시 처리 수를 반납하지 않는다.")
+    @Test
+    void testHoldUntilAsyncRequestCompletes() throws Exception {
+        // given
+        MockHttpServletRequest streamingRequest = myRoomsRequest();
+        FilterChain startAsync = (request, response) -> request.startAsync();
+        concurrencyLimitFilter.doFilter(streamingRequest, new MockHttpServletResponse(),
+            startAsync);
+
+        // when
+        MockHttpServletResponse whileStreaming = new MockHttpServletResponse();
+        concurrencyLimitFilter.doFilter(myRoomsRequest(), whileStreaming, (request, response) -> { });
+
+        ((MockAsyncContext) streamingRequest.getAsyncContext()).complete();
+
+        MockHttpServletResponse afterStreaming = new MockHttpServletResponse();
+        concurrencyLimitFilter.doFilter(myRoomsRequest(), afterStreaming, (request, response) -> { });
+
+        // then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), whileStreaming.getStatus());
+        assertEquals(HttpStatus.OK.value(), afterStreaming.getStatus());
+    }
+
+    @DisplayName("비동기 응답의 처리 시간은 limit 계산에 반영하지 않는다.")
+    @Test
+    void testAsyncDurationDoesNotLowerLimit() throws Exception {
+        // given
+        Limit adaptive = new Limit(4, 1, 10);
+        Limit wide = new Limit(10, 1, 10);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            new ConcurrencyLimitConfigurationProperties(true, 1.0, 1.0, 100, wide, adaptive, wide,
+                wide), meterRegistry, new ObjectMapper());
+        filter.doFilter(myRoomsRequest(), new MockHttpServletResponse(), (request, response) -> { });
+        double limitBefore = ownerReadLimit(meterRegistry);
+
+        // when
+        MockHttpServletRequest streamingRequest = myRoomsRequest();
+        filter.doFilter(streamingRequest, new MockHttpServletResponse(),
+            (request, response) -> request.startAsync());
+        Thread.sleep(50);
+        ((MockAsyncContext) streamingRequest.getAsyncContext()).complete();
+
+        // then
+        assertEquals(limitBefore, ownerReadLimit(meterRegistry));
+        assertEquals(0.0, meterRegistry.get("concurrency.in-flight").tag("endpoint", "owner_read")
+            .gauge().value());
+    }
+
+    private static double ownerReadLimit(SimpleMeterRegistry meterRegistry) {
+        return meterRegistry.get("concurrency.limit").tag("endpoint", "owner_read").gauge()
+            .value();
+    }
+
+    private static MockHttpServletRequest myRoomsRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/rooms/my");
+        request.setAsyncSupported(true);
+        return request;
+    }
+}
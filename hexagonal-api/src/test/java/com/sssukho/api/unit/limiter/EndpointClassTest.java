@@ -0,0 +1,48 @@
+package com.sssukho.api.unit.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sssukho.api.limiter.EndpointClass;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class EndpointClassTest {
+
+    @DisplayName("요청을 API 묶음으로 분류한다.")
+    @ParameterizedTest(name = "{0} {1} -> {2}")
+    @MethodSource("requestProvider")
+    void testClassify(String method, String path, EndpointClass expected) {
+        assertEquals(expected, EndpointClass.classify(method, path, Set.of()));
+    }
+
+    @DisplayName("ids 가 있는 GET /rooms 는 검색이 아니라 내방 조회로 분류한다.")
+    @Test
+    void testClassifyRoomsByIdsAsOwnerRead() {
+        assertEquals(EndpointClass.OWNER_READ,
+            EndpointClass.classify("GET", "/rooms", Set.of("ids")));
+        assertEquals(EndpointClass.SEARCH_READ,
+            EndpointClass.classify("GET", "/rooms", Set.of("roomTypes", "page")));
+    }
+
+    private static Stream<Arguments> requestProvider() {
+        return Stream.of(
+            Arguments.of("GET", "/rooms", EndpointClass.SEARCH_READ),
+            Arguments.of("GET", "/rooms/my", EndpointClass.OWNER_READ),
+            Arguments.of("GET", "/rooms/1", EndpointClass.OWNER_READ),
+            Arguments.of("POST", "/rooms", EndpointClass.WRITE),
+            Arguments.of("PATCH", "/rooms/1", EndpointClass.WRITE),
+            Arguments.of("DELETE", "/rooms/1", EndpointClass.WRITE),
+            Arguments.of("POST", "/rooms/bulk", null),
+            Arguments.of("POST", "/rooms/import", null),
+            Arguments.of("GET", "/rooms/export", null),
+            Arguments.of("POST", "/auth/signin", EndpointClass.AUTH),
+            Arguments.of("GET", "/actuator/health", null),
+            Arguments.of("GET", "/roomsx", null)
+        );
+    }
+}
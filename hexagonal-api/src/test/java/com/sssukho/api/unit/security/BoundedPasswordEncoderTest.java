@@ -0,0 +1,102 @@
+package com.sssukho.api.unit.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sssukho.api.security.BoundedPasswordEncoder;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (boundedPasswordEncoder != null) {
+            boundedPasswordEncoder.close();
+        }
+    }
+
+    @DisplayName("대기열이 가득 차면 즉시 TOO_MANY_REQUESTS 로 거절한다.")
+    @Test
+    void testRejectWhenQueueIsFull() throws Exception {
+        // given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1,
+            Duration.ofSeconds(5), new SimpleMeterRegistry());
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode("running"));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode("queued"));
+        waitUntilQueued();
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> boundedPasswordEncoder.encode("rejected"));
+
+        // then
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, exception.getErrorCode());
+    }
+
+    @DisplayName("제한 시간 안에 끝나지 않으면 SERVICE_UNAVAILABLE 로 실패한다.")
+    @Test
+    void testFailWhenTimeout() {
+        // given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1,
+            Duration.ofMillis(50), new SimpleMeterRegistry());
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> boundedPasswordEncoder.matches("password", "hash"));
+
+        // then
+        assertEquals(ErrorCode.SERVICE_UNAVAILABLE, exception.getErrorCode());
+    }
+
+    /**
+     * 대기열에 들어간 작업이 실행 중인 작업 뒤에 쌓일 때까지 잠시 대기
+     */
+    private void waitUntilQueued() throws InterruptedException {
+        Thread.sleep(100);
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                await();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                await();
+                return true;
+            }
+
+            private void await() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+}
@@ -3,7 +3,6 @@ package com.sssukho.api.unit.security;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -11,8 +10,11 @@ import static org.mockito.Mockito.when;
 
 import com.sssukho.api.security.JwtAuthenticationFilter;
 import com.sssukho.api.security.JwtTokenProvider;
-import com.sssukho.api.service.MemberService;
+import com.sssukho.api.security.TokenRevocationList;
+import com.sssukho.common.security.MemberPrincipal;
+import com.sssukho.common.security.TokenClaims;
 import jakarta.servlet.FilterChain;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,10 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
@@ -39,14 +38,13 @@ class JwtAuthenticationFilterTest {
     private JwtTokenProvider tokenProvider;
 
     @Mock
-    private MemberService memberService;
+    private TokenRevocationList tokenRevocationList;
 
     @Mock
     private FilterChain mockedFilterChain;
 
     private MockHttpServletRequest mockedRequest;
     private MockHttpServletResponse mockedResponse;
-    private UserDetails userDetails;
 
     @BeforeEach
     void setUp() {
@@ -54,12 +52,6 @@ class JwtAuthenticationFilterTest {
         mockedResponse = new MockHttpServletResponse();
 
         SecurityContextHolder.clearContext();
-
-        userDetails = User.builder()
-            .username("testuser")
-            .password("password")
-            .authorities(List.of(new SimpleGrantedAuthority("MEMBER")))
-            .build();
     }
 
     @DisplayName("JWT 토큰이 유효할 경우 인증에 성공한다.")
@@ -67,13 +59,14 @@ class JwtAuthenticationFilterTest {
     void testAuthenticationSucceed() throws Exception {
         // given
         String validJwt = "validToken";
-        String memberName = "testMember";
+        MemberPrincipal principal = MemberPrincipal.of(1L, "testMember");
 
         mockedRequest.addHeader("Authorization", "Bearer " + validJwt);
 
-        when(tokenProvider.validateToken(validJwt)).thenReturn(true);
-        when(tokenProvider.extractMemberNameFromToken(validJwt)).thenReturn(memberName);
-        when(memberService.loadUserByUsername(memberName)).thenReturn(userDetails);
+        when(tokenProvider.verify(validJwt)).thenReturn(
+            new TokenClaims("jti", TokenClaims.Type.ACCESS, "testMember", 1L,
+                List.of(MemberPrincipal.ROLE_MEMBER),
+                Instant.now().plusSeconds(60)));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(mockedRequest, mockedResponse, mockedFilterChain);
@@ -81,12 +74,54 @@ class JwtAuthenticationFilterTest {
         // then
         Authentication result = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(result);
-        assertEquals(userDetails, result.getPrincipal());
-        assertEquals(userDetails.getAuthorities().size(), userDetails.getAuthorities().size());
+        assertEquals(principal, result.getPrincipal());
+        assertEquals(principal.authorities(), result.getAuthorities());
+
+        verify(tokenProvider).verify(validJwt);
+        verify(mockedFilterChain).doFilter(mockedRequest, mockedResponse);
+    }
+
+    @DisplayName("refresh token 으로는 인증하지 않는다.")
+    @Test
+    void testAuthenticationFailedWithRefreshToken() throws Exception {
+        // given
+        String refreshJwt = "refreshToken";
+        mockedRequest.addHeader("Authorization", "Bearer " + refreshJwt);
+
+        when(tokenProvider.verify(refreshJwt)).thenReturn(
+            new TokenClaims("jti", TokenClaims.Type.REFRESH, "testMember", 1L, null,
+                Instant.now().plusSeconds(60)));
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(mockedRequest, mockedResponse, mockedFilterChain);
+
+        // then
+        Authentication result = SecurityContextHolder.getContext().getAuthentication();
+        assertNull(result);
+
+        verify(mockedFilterChain).doFilter(mockedRequest, mockedResponse);
+    }
+
+    @DisplayName("폐기된 JWT 일 때 인증에 실패한다.")
+    @Test
+    void testAuthenticationFailedWithRevokedJwt() throws Exception {
+        // given
+        String revokedJwt = "revokedToken";
+        mockedRequest.addHeader("Authorization", "Bearer " + revokedJwt);
+
+        when(tokenProvider.verify(revokedJwt)).thenReturn(
+            new TokenClaims("revokedJti", TokenClaims.Type.ACCESS, "testMember", 1L,
+                List.of(MemberPrincipal.ROLE_MEMBER),
+                Instant.now().plusSeconds(60)));
+        when(tokenRevocationList.isRevoked("revokedJti")).thenReturn(true);
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(mockedRequest, mockedResponse, mockedFilterChain);
+
+        // then
+        Authentication result = SecurityContextHolder.getContext().getAuthentication();
+        assertNull(result);
 
-        verify(tokenProvider).validateToken(validJwt);
-        verify(tokenProvider).extractMemberNameFromToken(validJwt);
-        verify(memberService).loadUserByUsername(memberName);
         verify(mockedFilterChain).doFilter(mockedRequest, mockedResponse);
     }
 
@@ -100,9 +135,7 @@ class JwtAuthenticationFilterTest {
         Authentication result = SecurityContextHolder.getContext().getAuthentication();
         assertNull(result);
 
-        verify(tokenProvider, never()).validateToken(any());
-        verify(tokenProvider, never()).extractMemberNameFromToken(any());
-        verify(memberService, never()).loadUserByUsername(any());
+        verify(tokenProvider, never()).verify(any());
         verify(mockedFilterChain).doFilter(mockedRequest, mockedResponse);
     }
 
@@ -119,7 +152,7 @@ class JwtAuthenticationFilterTest {
         Authentication result = SecurityContextHolder.getContext().getAuthentication();
         assertNull(result);
 
-        verify(tokenProvider, never()).validateToken(any());
+        verify(tokenProvider, never()).verify(any());
         verify(mockedFilterChain).doFilter(mockedRequest, mockedResponse);
     }
 
@@ -130,7 +163,7 @@ class JwtAuthenticationFilterTest {
         String invalidJwt = "invalidToken";
         mockedRequest.addHeader("Authorization", "Bearer " + invalidJwt);
 
-        when(tokenProvider.validateToken(invalidJwt)).thenReturn(false);
+        when(tokenProvider.verify(invalidJwt)).thenReturn(null);
 
         // when
         jwtAuthenticationFilter.doFilterInternal(mockedRequest, mockedResponse, mockedFilterChain);
@@ -139,36 +172,29 @@ class JwtAuthenticationFilterTest {
         Authentication result = SecurityContextHolder.getContext().getAuthentication();
         assertNull(result);
 
-        verify(tokenProvider).validateToken(invalidJwt);
-        verify(tokenProvider, never()).extractMemberNameFromToken(any());
-        verify(memberService, never()).loadUserByUsername(any());
+        verify(tokenProvider).verify(invalidJwt);
         verify(mockedFilterChain).doFilter(mockedRequest, mockedResponse);
     }
 
-    @DisplayName("JWT 는 유효하지만 멤버를 찾을 수 없을 때 예외가 발생한다.")
+    @DisplayName("roles 클레임이 없는 JWT 는 기본 권한을 부여하지 않고 인증에 실패한다.")
     @Test
-    void testAuthenticationThrowExceptionWithValidJwt() throws Exception {
+    void testAuthenticationFailedWithoutRoles() throws Exception {
         // given
-        String validJwt = "validJwt";
-        String memberName = "invalidMemberName";
-
-        mockedRequest.addHeader("Authorization", "Bearer " + validJwt);
+        String jwtWithoutRoles = "jwtWithoutRoles";
+        mockedRequest.addHeader("Authorization", "Bearer " + jwtWithoutRoles);
 
-        when(tokenProvider.validateToken(validJwt)).thenReturn(true);
-        when(tokenProvider.extractMemberNameFromToken(validJwt)).thenReturn(memberName);
-        when(memberService.loadUserByUsername(memberName)).thenThrow(new RuntimeException());
+        when(tokenProvider.verify(jwtWithoutRoles)).thenReturn(
+            new TokenClaims("jti", TokenClaims.Type.ACCESS, "testMember", 1L, null,
+                Instant.now().plusSeconds(60)));
 
-        // when & then
-        assertThrows(RuntimeException.class,
-            () -> jwtAuthenticationFilter.doFilterInternal(mockedRequest, mockedResponse,
-                mockedFilterChain));
+        // when
+        jwtAuthenticationFilter.doFilterInternal(mockedRequest, mockedResponse, mockedFilterChain);
 
+        // then
         Authentication result = SecurityContextHolder.getContext().getAuthentication();
         assertNull(result);
 
-        verify(tokenProvider).validateToken(validJwt);
-        verify(tokenProvider).extractMemberNameFromToken(validJwt);
-        verify(memberService).loadUserByUsername(memberName);
+        verify(mockedFilterChain).doFilter(mockedRequest, mockedResponse);
     }
 
 }
@@ -0,0 +1,88 @@
+package com.sssukho.api.unit.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sssukho.api.config.properties.RateLimitConfigurationProperties;
+import com.sssukho.api.config.properties.RateLimitConfigurationProperties.KeyType;
+import com.sssukho.api.config.properties.RateLimitConfigurationProperties.Route;
+import com.sssukho.api.security.RateLimiter;
+import com.sssukho.api.security.TokenBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(new RateLimitConfigurationProperties(true, 1000, List.of(
+            new Route(null, "/auth/**", null, KeyType.IP, 1, 1, Duration.ofHours(1)),
+            new Route("GET", "/rooms", List.of("!ids"), KeyType.MEMBER, 2, 1,
+                Duration.ofHours(1)))),
+            meterRegistry, () -> 0L);
+    }
+
+    @DisplayName("회원 기준 규칙은 회원마다 버킷을 따로 사용한다.")
+    @Test
+    void testPerMemberBucket() {
+        // when
+        rateLimiter.tryAcquire("GET", "/rooms", Set.of(), 1L, "127.0.0.1");
+        rateLimiter.tryAcquire("GET", "/rooms", Set.of(), 1L, "127.0.0.1");
+        TokenBucket.Probe exhausted = rateLimiter.tryAcquire("GET", "/rooms", Set.of(),
+            1L, "127.0.0.1");
+        TokenBucket.Probe otherMember = rateLimiter.tryAcquire("GET", "/rooms", Set.of(),
+            2L, "127.0.0.1");
+
+        // then
+        assertFalse(exhausted.consumed());
+        assertTrue(otherMember.consumed());
+        assertEquals(1.0, meterRegistry.get("rate-limit.rejected").tag("route", "GET /rooms [!ids]")
+            .counter().count());
+    }
+
+    @DisplayName("IP 기준 규칙은 인증 여부와 상관없이 IP 로 구분한다.")
+    @Test
+    void testPerIpBucket() {
+        // when
+        rateLimiter.tryAcquire("POST", "/auth/signin", Set.of(), null, "10.0.0.1");
+        TokenBucket.Probe sameIp = rateLimiter.tryAcquire("POST", "/auth/signup", Set.of(),
+            1L, "10.0.0.1");
+        TokenBucket.Probe otherIp = rateLimiter.tryAcquire("POST", "/auth/signin", Set.of(),
+            null, "10.0.0.2");
+
+        // then
+        assertFalse(sameIp.consumed());
+        assertTrue(otherIp.consumed());
+    }
+
+    @DisplayName("params 조건이 맞지 않는 규칙은 건너뛴다.")
+    @Test
+    void testSkipRouteWhenParamsDoNotMatch() {
+        // when
+        TokenBucket.Probe byIds = rateLimiter.tryAcquire("GET", "/rooms", Set.of("ids"), 1L,
+            "127.0.0.1");
+        TokenBucket.Probe search = rateLimiter.tryAcquire("GET", "/rooms", Set.of("roomTypes"), 1L,
+            "127.0.0.1");
+
+        // then
+        assertNull(byIds);
+        assertTrue(search.consumed());
+    }
+
+    @DisplayName("일치하는 규칙이 없으면 제한하지 않는다.")
+    @Test
+    void testNoMatchingRoute() {
+        assertNull(rateLimiter.tryAcquire("POST", "/rooms", Set.of(), 1L, "127.0.0.1"));
+    }
+}
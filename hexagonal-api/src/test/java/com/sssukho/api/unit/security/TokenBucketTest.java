@@ -0,0 +1,93 @@
+package com.sssukho.api.unit.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sssukho.api.security.TokenBucket;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @DisplayName("capacity 만큼 연속으로 사용할 수 있고, 그 이후에는 거절한다.")
+    @Test
+    void testConsumeUpToCapacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(3, 1, Duration.ofSeconds(1), 0);
+
+        // when & then
+        assertEquals(2, bucket.tryConsume(0).remaining());
+        assertEquals(1, bucket.tryConsume(0).remaining());
+        assertEquals(0, bucket.tryConsume(0).remaining());
+
+        TokenBucket.Probe rejected = bucket.tryConsume(0);
+        assertFalse(rejected.consumed());
+        assertEquals(SECOND, rejected.retryAfterNanos());
+    }
+
+    @DisplayName("시간이 지나면 refillPeriod 당 refillTokens 만큼 다시 채워진다.")
+    @Test
+    void testRefill() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 2, Duration.ofSeconds(1), 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+        assertFalse(bucket.tryConsume(0).consumed());
+
+        // when
+        TokenBucket.Probe afterHalfSecond = bucket.tryConsume(SECOND / 2);
+
+        // then
+        assertTrue(afterHalfSecond.consumed());
+        assertEquals(0, afterHalfSecond.remaining());
+        assertFalse(bucket.tryConsume(SECOND / 2).consumed());
+    }
+
+    @DisplayName("오래 사용하지 않아도 capacity 이상으로 쌓이지 않는다.")
+    @Test
+    void testDoesNotExceedCapacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 1, Duration.ofSeconds(1), 0);
+
+        // when
+        TokenBucket.Probe probe = bucket.tryConsume(100 * SECOND);
+
+        // then
+        assertEquals(1, probe.remaining());
+    }
+
+    @DisplayName("여러 스레드에서 동시에 사용해도 capacity 를 넘게 허용하지 않는다.")
+    @Test
+    void testConcurrentConsume() throws InterruptedException {
+        // given
+        int capacity = 100;
+        TokenBucket bucket = new TokenBucket(capacity, 1, Duration.ofHours(1), 0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(1000);
+        AtomicInteger consumed = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (bucket.tryConsume(0).consumed()) {
+                    consumed.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertEquals(capacity, consumed.get());
+    }
+}
@@ -0,0 +1,91 @@
+package com.sssukho.api.unit.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sssukho.api.config.properties.TokenRevocationConfigurationProperties;
+import com.sssukho.api.security.TokenRevocationList;
+import com.sssukho.domain.token.RevokedToken;
+import com.sssukho.domain.token.RevokedTokenRepository;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepository,
+            new TokenRevocationConfigurationProperties(1000, 0.001, 5000, 600000, 1000));
+    }
+
+    @DisplayName("폐기한 토큰만 폐기된 것으로 판단한다.")
+    @Test
+    void testRevokedTokenIsDetected() {
+        // when
+        tokenRevocationList.revoke("revoked", Instant.now().plusSeconds(60));
+
+        // then
+        assertTrue(tokenRevocationList.isRevoked("revoked"));
+        assertFalse(tokenRevocationList.isRevoked("other"));
+        assertFalse(tokenRevocationList.isRevoked(null));
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @DisplayName("만료된 토큰은 폐기 목록에 있어도 폐기된 것으로 보지 않는다.")
+    @Test
+    void testExpiredRevocationIsIgnored() {
+        // when
+        tokenRevocationList.revoke("expired", Instant.now().minusSeconds(1));
+
+        // then
+        assertFalse(tokenRevocationList.isRevoked("expired"));
+    }
+
+    @DisplayName("다른 노드에서 폐기한 토큰을 동기화한다.")
+    @Test
+    void testSyncFromSharedTable() {
+        // given
+        when(revokedTokenRepository.findAllRevokedSince(any(), any())).thenReturn(List.of(
+            RevokedToken.of("revokedByOtherNode", LocalDateTime.now().plusMinutes(1),
+                LocalDateTime.now())));
+
+        // when
+        tokenRevocationList.sync();
+
+        // then
+        assertTrue(tokenRevocationList.isRevoked("revokedByOtherNode"));
+    }
+
+    @DisplayName("재구성하면 만료되지 않은 폐기 내역만 남는다.")
+    @Test
+    void testRebuildKeepsOnlyNotExpired() {
+        // given
+        tokenRevocationList.revoke("dropped", Instant.now().plusSeconds(60));
+        when(revokedTokenRepository.findAllNotExpired(any())).thenReturn(List.of(
+            RevokedToken.of("kept", LocalDateTime.now().plusMinutes(1), LocalDateTime.now())));
+        when(revokedTokenRepository.findAllRevokedSince(any(), any())).thenReturn(List.of());
+
+        // when
+        tokenRevocationList.rebuild();
+
+        // then
+        assertTrue(tokenRevocationList.isRevoked("kept"));
+        assertFalse(tokenRevocationList.isRevoked("dropped"));
+    }
+}
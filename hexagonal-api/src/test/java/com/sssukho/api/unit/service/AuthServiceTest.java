@@ -2,20 +2,29 @@ package com.sssukho.api.unit.service;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sssukho.api.security.JwtTokenProvider;
+import com.sssukho.api.security.TokenRevocationList;
 import com.sssukho.api.service.AuthService;
 import com.sssukho.api.service.MemberService;
+import com.sssukho.api.service.RefreshTokenService;
+import com.sssukho.common.dto.auth.RefreshTokenRequest;
 import com.sssukho.common.dto.auth.SignInRequest;
 import com.sssukho.common.dto.auth.SignInResponse;
 import com.sssukho.common.dto.auth.SignUpRequest;
 import com.sssukho.common.dto.auth.SignupResponse;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.common.security.TokenClaims;
 import com.sssukho.domain.member.Member;
+import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +52,12 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
     @DisplayName("회원가입 성공 테스트")
     @Test
     void testSignUpSucceed() {
@@ -81,14 +96,75 @@ class AuthServiceTest {
         when(memberService.findByEmail(fakeRequest.email())).thenReturn(fakeFoundMember);
         when(passwordEncoder.matches(any(), any())).thenReturn(true);
         when(tokenProvider.generateAccessToken(any())).thenReturn("accessToken");
+        when(refreshTokenService.issue(fakeFoundMember)).thenReturn("refreshToken");
 
         // when
         SignInResponse result = authService.signIn(fakeRequest);
 
         // then
         assertEquals("accessToken", result.accessToken());
+        assertEquals("refreshToken", result.refreshToken());
         assertEquals("Bearer", result.grantType());
 
         verify(tokenProvider, times(1)).generateAccessToken(any());
+        verify(refreshTokenService, times(1)).issue(fakeFoundMember);
+    }
+
+    @DisplayName("토큰 갱신 시 refresh token 도 새로 발급한다.")
+    @Test
+    void testRefreshTokenRotates() {
+        // given
+        RefreshTokenRequest fakeRequest = new RefreshTokenRequest("oldRefreshToken");
+        Member fakeMember = Member.createMemberWithId(1L, "dev.sssukho@gmail.com", "password",
+            "임석호", null);
+
+        when(tokenProvider.verifyRefreshToken(fakeRequest.refreshToken())).thenReturn(
+            new TokenClaims("jti", TokenClaims.Type.REFRESH, fakeMember.getEmail(),
+                fakeMember.getId(), null,
+                Instant.now().plusSeconds(60)));
+        when(memberService.findById(fakeMember.getId())).thenReturn(fakeMember);
+        when(refreshTokenService.rotate(fakeRequest.refreshToken(), fakeMember))
+            .thenReturn("newRefreshToken");
+        when(tokenProvider.generateAccessToken(fakeMember)).thenReturn("newAccessToken");
+
+        // when
+        SignInResponse result = authService.refreshToken(fakeRequest);
+
+        // then
+        assertEquals("newAccessToken", result.accessToken());
+        assertEquals("newRefreshToken", result.refreshToken());
+    }
+
+    @DisplayName("서명이 유효하지 않은 refresh token 이면 갱신에 실패한다.")
+    @Test
+    void testRefreshTokenFailedWithInvalidToken() {
+        // given
+        RefreshTokenRequest fakeRequest = new RefreshTokenRequest("invalidRefreshToken");
+        when(tokenProvider.verifyRefreshToken(fakeRequest.refreshToken())).thenReturn(null);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> authService.refreshToken(fakeRequest));
+
+        // then
+        assertEquals(ErrorCode.UNAUTHORIZED, exception.getErrorCode());
+        verify(refreshTokenService, never()).rotate(any(), any());
+    }
+
+    @DisplayName("로그아웃 시 access token 의 jti 와 refresh token 을 폐기한다.")
+    @Test
+    void testSignOutRevokesTokens() {
+        // given
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        when(tokenProvider.verify("accessToken")).thenReturn(
+            new TokenClaims("jti", TokenClaims.Type.ACCESS, "dev.sssukho@gmail.com", 1L, null,
+                expiresAt));
+
+        // when
+        authService.signOut("accessToken", "refreshToken");
+
+        // then
+        verify(tokenRevocationList, times(1)).revoke("jti", expiresAt);
+        verify(refreshTokenService, times(1)).revoke("refreshToken");
     }
 }
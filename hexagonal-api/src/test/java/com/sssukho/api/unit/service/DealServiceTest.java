@@ -0,0 +1,100 @@
+package com.sssukho.api.unit.service;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.sssukho.api.service.DealService;
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.deal.DealRepository;
+import com.sssukho.domain.room.Room;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class DealServiceTest {
+
+    private static final long ROOM_ID = 1L;
+
+    @InjectMocks
+    private DealService dealService;
+
+    @Mock
+    private DealRepository dealRepository;
+
+    @DisplayName("deal 변경 시 바뀐 deal 만 추가/수정/삭제한다.")
+    @Test
+    void testReplaceAppliesOnlyDifferences() {
+        // given
+        Room fakeFoundRoom = roomWithDeals(
+            Deal.of(10L, DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(1000), BigDecimal.valueOf(50),
+                ROOM_ID),
+            Deal.of(11L, DealTypeDto.YEAR_RENT, BigDecimal.valueOf(200000), null, ROOM_ID),
+            Deal.of(12L, DealTypeDto.YEAR_RENT, BigDecimal.valueOf(300000), null, ROOM_ID));
+
+        List<Deal> fakeRequestedDeals = List.of(
+            // 그대로 유지 (scale 만 다름)
+            Deal.of(DealTypeDto.MONTHLY_RENT, new BigDecimal("1000.0"), BigDecimal.valueOf(50),
+                ROOM_ID),
+            // 전세 가격 수정
+            Deal.of(DealTypeDto.YEAR_RENT, BigDecimal.valueOf(250000), null, ROOM_ID),
+            // 월세 추가
+            Deal.of(DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(500), BigDecimal.valueOf(70),
+                ROOM_ID));
+
+        Deal fakeInsertedDeal = Deal.of(13L, DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(500),
+            BigDecimal.valueOf(70), ROOM_ID);
+        when(dealRepository.saveAll(anyList())).thenReturn(List.of(fakeInsertedDeal));
+
+        // when
+        List<Deal> result = dealService.replace(fakeFoundRoom, fakeRequestedDeals);
+
+        // then
+        verify(dealRepository).deleteAllByIds(List.of(12L));
+        verify(dealRepository).updateAll(
+            argThat(deals -> deals.size() == 1
+                && deals.get(0).getId() == 11L
+                && deals.get(0).getDeposit().compareTo(BigDecimal.valueOf(250000)) == 0));
+        verify(dealRepository).saveAll(
+            argThat(deals -> deals.size() == 1
+                && deals.get(0).getId() == null));
+
+        assertEquals(List.of(10L, 11L, 13L), result.stream().map(Deal::getId).toList());
+    }
+
+    @DisplayName("deal 이 모두 같으면 저장소를 호출하지 않는다.")
+    @Test
+    void testReplaceWithSameDealsDoesNothing() {
+        // given
+        Room fakeFoundRoom = roomWithDeals(
+            Deal.of(10L, DealTypeDto.YEAR_RENT, BigDecimal.valueOf(200000), null, ROOM_ID));
+
+        // when
+        List<Deal> result = dealService.replace(fakeFoundRoom, List.of(
+            Deal.of(DealTypeDto.YEAR_RENT, BigDecimal.valueOf(200000), null, ROOM_ID)));
+
+        // then
+        assertEquals(fakeFoundRoom.getDeals(), result);
+        verifyNoInteractions(dealRepository);
+    }
+
+    private Room roomWithDeals(Deal... deals) {
+        Room room = Room.of(ROOM_ID, "방 제목", "방 설명", "주소", 33.5, RoomTypeDto.ONE_ROOM, 1L,
+            LocalDateTime.now(), LocalDateTime.now());
+        room.setDeals(List.of(deals));
+        return room;
+    }
+}
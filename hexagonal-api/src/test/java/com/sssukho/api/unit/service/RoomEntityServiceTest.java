@@ -3,36 +3,50 @@ package com.sssukho.api.unit.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sssukho.api.cache.RoomJsonCache;
+import com.sssukho.api.cache.RoomSearchCache;
 import com.sssukho.api.service.DealService;
-import com.sssukho.api.service.MemberService;
 import com.sssukho.api.service.RoomService;
+import com.sssukho.common.dto.common.CursorPage;
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
 import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomCursor;
 import com.sssukho.common.dto.room.RoomRegistrationRequest;
 import com.sssukho.common.dto.room.RoomRegistrationRequest.DealRegistrationRequest;
 import com.sssukho.common.dto.room.RoomResponse;
+import com.sssukho.common.dto.room.RoomSearchRequest;
 import com.sssukho.common.dto.room.RoomTypeDto;
 import com.sssukho.common.dto.room.RoomUpdateRequest;
 import com.sssukho.common.dto.room.RoomUpdateRequest.DealUpdateRequest;
+import com.sssukho.common.exception.CustomException;
+import com.sssukho.common.security.MemberPrincipal;
 import com.sssukho.domain.deal.Deal;
-import com.sssukho.domain.member.Member;
 import com.sssukho.domain.room.Room;
 import com.sssukho.domain.room.RoomRepository;
+import com.sssukho.domain.room.RoomVersion;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -44,15 +58,21 @@ class RoomEntityServiceTest {
     @InjectMocks
     private RoomService roomService;
 
-    @Mock
-    private MemberService memberService;
-
     @Mock
     private RoomRepository roomRepository;
 
     @Mock
     private DealService dealService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RoomSearchCache roomSearchCache;
+
+    @Mock
+    private RoomJsonCache roomJsonCache;
+
     @DisplayName("내방 등록 성공 테스트")
     @Test
     void testRegisterMyRoomSucceed() {
@@ -67,12 +87,9 @@ class RoomEntityServiceTest {
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
         when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn(fakeMemberEmail);
+        when(authentication.getPrincipal()).thenReturn(MemberPrincipal.of(1L, fakeMemberEmail));
         SecurityContextHolder.setContext(securityContext);
 
-        Member fakeMember = Member.createMemberWithId(1L, fakeMemberEmail, "password", "임석호", null);
-        when(memberService.findByEmail(any())).thenReturn(fakeMember);
-
         final long fakeMemberId = 123L;
         Room fakeRegisteredRoom = Room.of(1L, fakeRequest.title(), fakeRequest.description(),
             fakeRequest.address(), fakeRequest.area(), fakeRequest.roomType(), fakeMemberId,
@@ -84,7 +101,7 @@ class RoomEntityServiceTest {
 
         when(roomRepository.save(any())).thenReturn(fakeRegisteredRoom);
 
-        doNothing().when(dealService).registerAll(anyList());
+        when(dealService.registerAll(anyList())).thenReturn(List.of(fakeDealInRegisteredRoom));
 
         // when
         RoomResponse result = roomService.register(fakeRequest);
@@ -97,7 +114,6 @@ class RoomEntityServiceTest {
 
         verify(roomRepository, times(1)).save(any(Room.class));
         verify(dealService, times(1)).registerAll(anyList());
-        verify(memberService, times(1)).findByEmail(fakeMemberEmail);
     }
 
     @DisplayName("내방 삭제 성공 테스트")
@@ -111,12 +127,10 @@ class RoomEntityServiceTest {
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
         when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn(fakeMemberEmail);
+        when(authentication.getPrincipal()).thenReturn(
+            MemberPrincipal.of(fakeMemberId, fakeMemberEmail));
         SecurityContextHolder.setContext(securityContext);
 
-        Member fakeMemberDomain = Member.createMemberWithId(fakeMemberId, fakeMemberEmail, "password", "임석호", null);
-        when(memberService.findByEmail(any())).thenReturn(fakeMemberDomain);
-
         Room fakeFoundRoom = Room.of(fakeRoomId, "타이틀1", "설명1", "주소1", 3.14, RoomTypeDto.TWO_ROOM,
             fakeMemberId, LocalDateTime.now(), LocalDateTime.now());
         Deal fakeDealInFoundRoom = Deal.of(DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(2000),
@@ -136,16 +150,14 @@ class RoomEntityServiceTest {
     @Test
     void testUpdateMyRoomMyRoomSucceed() {
         // given
+        final long fakeMemberId = 123L;
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
         when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn("dev.sssukho@gmail.com");
+        when(authentication.getPrincipal()).thenReturn(
+            MemberPrincipal.of(fakeMemberId, "dev.sssukho@gmail.com"));
         SecurityContextHolder.setContext(securityContext);
 
-        final long fakeMemberId = 123L;
-        Member fakeMemberDomain = Member.createMemberWithId(fakeMemberId, "dev.sssukho@gmail.com", "password", "임석호", null);
-        when(memberService.findByEmail(any())).thenReturn(fakeMemberDomain);
-
         final long fakeRoomIdToUpdate = 1L;
         List<DealUpdateRequest> fakeDealUpdateRequests = List.of(
             new DealUpdateRequest(DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(2000),
@@ -163,11 +175,11 @@ class RoomEntityServiceTest {
             BigDecimal.valueOf(50), fakeFoundRoom.getId());
         fakeFoundRoom.setDeals(List.of(fakeDealInFoundRoom));
 
-        when(roomRepository.findById(fakeRoomIdToUpdate)).thenReturn(fakeFoundRoom);
+        when(roomRepository.findByIdWithDeals(fakeRoomIdToUpdate)).thenReturn(fakeFoundRoom);
 
         when(roomRepository.update(fakeFoundRoom)).thenReturn(fakeFoundRoom);
-        doNothing().when(dealService).deleteByRoom(fakeFoundRoom);
-        doNothing().when(dealService).registerAll(anyList());
+        when(dealService.replace(any(Room.class), anyList()))
+            .thenAnswer(invocation -> invocation.getArgument(1));
 
         // when
         RoomResponse result = roomService.updateMyRoom(fakeRoomIdToUpdate, fakeRequest);
@@ -179,9 +191,9 @@ class RoomEntityServiceTest {
         assertEquals(fakeRequest.area(),result.area());
         assertEquals(fakeRequest.roomType(), result.roomType());
 
-        verify(roomRepository).findById(fakeRoomIdToUpdate);
-        verify(dealService).deleteByRoom(fakeFoundRoom);
-        verify(dealService).registerAll(anyList());
+        verify(roomRepository).findByIdWithDeals(fakeRoomIdToUpdate);
+        verify(dealService).replace(any(Room.class), anyList());
+        verify(dealService, never()).deleteByRoom(any());
     }
 
     @DisplayName("내방 단건 조회 성공 테스트")
@@ -189,19 +201,14 @@ class RoomEntityServiceTest {
     void testFindMyRoomMyRoomSucceed() {
         // given
         final String fakeMemberEmail = "dev.sssukho@gmail.com";
+        final long fakeMemberId = 123L;
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
         when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn(fakeMemberEmail);
+        when(authentication.getPrincipal()).thenReturn(
+            MemberPrincipal.of(fakeMemberId, fakeMemberEmail));
         SecurityContextHolder.setContext(securityContext);
 
-        final long fakeMemberId = 123L;
-        Member mockedMember = mock(Member.class);
-        when(mockedMember.getId()).thenReturn(fakeMemberId);
-        when(mockedMember.getEmail()).thenReturn(fakeMemberEmail);
-
-        when(memberService.findByEmail(fakeMemberEmail)).thenReturn(mockedMember);
-
         final long fakeRoomId = 12L;
         Room fakeFoundRoom = Room.of(fakeRoomId, "타이틀", "설명", "주소", 3.14, RoomTypeDto.ONE_ROOM,
             fakeMemberId, LocalDateTime.now(), LocalDateTime.now());
@@ -209,7 +216,7 @@ class RoomEntityServiceTest {
             BigDecimal.valueOf(50), fakeFoundRoom.getId());
         fakeFoundRoom.setDeals(List.of(fakeDealInFoundRoom));
 
-        when(roomRepository.findById(fakeRoomId)).thenReturn(fakeFoundRoom);
+        when(roomRepository.findByIdWithDeals(fakeRoomId)).thenReturn(fakeFoundRoom);
 
         // when
         RoomResponse result = roomService.findMyRoom(fakeRoomId);
@@ -218,26 +225,70 @@ class RoomEntityServiceTest {
         assertEquals(fakeFoundRoom.getId(), result.id());
         assertEquals(fakeFoundRoom.getRoomTypeDto(), result.roomType());
 
-        verify(memberService).findByEmail(fakeMemberEmail);
-        verify(roomRepository).findById(fakeRoomId);
+        verify(roomRepository).findByIdWithDeals(fakeRoomId);
     }
 
-    @DisplayName("내방 목록 조회 성공 테스트")
+    @DisplayName("내방 단건 ETag 는 거래를 조회하지 않고 방의 updated_at 으로 만든다.")
     @Test
-    void testFindMyRoomMyRoomsSucceed() {
+    void testFindMyRoomETag() {
+        // given
+        final long fakeMemberId = 123L;
+        Authentication authentication = mock(Authentication.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(
+            MemberPrincipal.of(fakeMemberId, "dev.sssukho@gmail.com"));
+        SecurityContextHolder.setContext(securityContext);
+
+        final long fakeRoomId = 12L;
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(roomRepository.findVersionById(fakeRoomId))
+            .thenReturn(new RoomVersion(fakeRoomId, fakeMemberId, updatedAt))
+            .thenReturn(new RoomVersion(fakeRoomId, fakeMemberId, updatedAt.plusNanos(1_000)));
+
+        // when
+        String first = roomService.findMyRoomETag(fakeRoomId);
+        String afterUpdate = roomService.findMyRoomETag(fakeRoomId);
+
+        // then
+        assertNotEquals(first, afterUpdate);
+        verify(roomRepository, never()).findByIdWithDeals(any());
+    }
+
+    @DisplayName("내 방이 아니면 ETag 조회도 NOT_FOUND_ROOM 이다.")
+    @Test
+    void testFindMyRoomETagFailedWhenRoomIsNotMine() {
         // given
-        final String fakeMemberEmail = "dev.sssukho@gmail.com";
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
         when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn(fakeMemberEmail);
+        when(authentication.getPrincipal()).thenReturn(
+            MemberPrincipal.of(123L, "dev.sssukho@gmail.com"));
         SecurityContextHolder.setContext(securityContext);
 
-        Member mockedFakeMember = mock(Member.class);
+        when(roomRepository.findVersionById(12L))
+            .thenReturn(new RoomVersion(12L, 999L, LocalDateTime.now()));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> roomService.findMyRoomETag(12L));
 
-        when(memberService.findByEmail(fakeMemberEmail)).thenReturn(mockedFakeMember);
+        // then
+        assertEquals(ErrorCode.NOT_FOUND_ROOM, exception.getErrorCode());
+    }
+
+    @DisplayName("내방 목록 조회 성공 테스트")
+    @Test
+    void testFindMyRoomMyRoomsSucceed() {
+        // given
+        final String fakeMemberEmail = "dev.sssukho@gmail.com";
         final long fakeMemberId = 123L;
-        when(mockedFakeMember.getId()).thenReturn(fakeMemberId);
+        Authentication authentication = mock(Authentication.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(
+            MemberPrincipal.of(fakeMemberId, fakeMemberEmail));
+        SecurityContextHolder.setContext(securityContext);
 
         Room fakeFoundRoom1 = Room.of(1L, "타이틀1", "설명1", "주소1", 3.14, RoomTypeDto.TWO_ROOM,
             fakeMemberId, LocalDateTime.now(), LocalDateTime.now());
@@ -253,19 +304,123 @@ class RoomEntityServiceTest {
 
         List<Room> fakeFoundMyRooms = List.of(fakeFoundRoom1, fakeFoundRoom2);
 
-        when(roomRepository.findAllByOwnerId(fakeMemberId)).thenReturn(fakeFoundMyRooms);
-        when(dealService.findAllDealsByRoomIds(
-            List.of(fakeFoundRoom1.getId(), fakeFoundRoom2.getId()))).thenReturn(
-            List.of(fakeDealInFoundRoom1, fakeDealInFoundRoom2));
+        doAnswer(invocation -> {
+            Consumer<Room> action = invocation.getArgument(1);
+            fakeFoundMyRooms.forEach(action);
+            return null;
+        }).when(roomRepository).forEachByOwnerId(eq(fakeMemberId), any());
 
         // when
-        List<RoomResponse> result = roomService.findMyRooms();
+        List<RoomResponse> result = new ArrayList<>();
+        roomService.forEachMyRoom(result::add);
 
         // then
         assertEquals(fakeFoundMyRooms.get(0).getId(),result.get(0).id());
         assertEquals(fakeFoundMyRooms.get(1).getId(),result.get(1).id());
 
-        verify(memberService).findByEmail(fakeMemberEmail);
-        verify(roomRepository).findAllByOwnerId(fakeMemberId);
+        verify(roomRepository).forEachByOwnerId(eq(fakeMemberId), any());
+    }
+
+    @DisplayName("내방 여러 건 조회는 한 번에 조회하고 내 방만 요청한 순서대로 반환한다.")
+    @Test
+    void testFindMyRoomsByIdsSucceed() {
+        // given
+        final String fakeMemberEmail = "dev.sssukho@gmail.com";
+        final long fakeMemberId = 123L;
+        Authentication authentication = mock(Authentication.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(
+            MemberPrincipal.of(fakeMemberId, fakeMemberEmail));
+        SecurityContextHolder.setContext(securityContext);
+
+        Room fakeMyRoom1 = Room.of(1L, "타이틀1", "설명1", "주소1", 3.14, RoomTypeDto.TWO_ROOM,
+            fakeMemberId, LocalDateTime.now(), LocalDateTime.now());
+        fakeMyRoom1.setDeals(List.of());
+        Room fakeOtherRoom = Room.of(2L, "타이틀2", "설명2", "주소2", 3.15, RoomTypeDto.ONE_ROOM,
+            999L, LocalDateTime.now(), LocalDateTime.now());
+        fakeOtherRoom.setDeals(List.of());
+        Room fakeMyRoom3 = Room.of(3L, "타이틀3", "설명3", "주소3", 3.16, RoomTypeDto.ONE_ROOM,
+            fakeMemberId, LocalDateTime.now(), LocalDateTime.now());
+        fakeMyRoom3.setDeals(List.of());
+
+        when(roomRepository.findAllByIds(List.of(3L, 2L, 1L, 4L))).thenReturn(
+            List.of(fakeMyRoom1, fakeOtherRoom, fakeMyRoom3));
+
+        // when
+        List<RoomResponse> result = roomService.findMyRoomsByIds(List.of(3L, 2L, 1L, 3L, 4L));
+
+        // then
+        assertEquals(List.of(3L, 1L), result.stream().map(RoomResponse::id).toList());
+        verify(roomRepository).findAllByIds(List.of(3L, 2L, 1L, 4L));
+    }
+
+    @DisplayName("내보내기는 검색 조건에 맞는 방을 방 JSON 캐시 없이 하나씩 전달한다.")
+    @Test
+    void testExportRoomsSucceed() {
+        // given
+        RoomSearchRequest fakeRequest = new RoomSearchRequest(List.of(RoomTypeDto.ONE_ROOM), null,
+            null, null, null, null, 0, 0);
+
+        Room fakeFoundRoom = Room.of(1L, "타이틀1", "설명1", "주소1", 3.14, RoomTypeDto.ONE_ROOM,
+            123L, LocalDateTime.now(), LocalDateTime.now());
+        fakeFoundRoom.setDeals(List.of(Deal.of(DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(2000),
+            BigDecimal.valueOf(50), fakeFoundRoom.getId())));
+
+        doAnswer(invocation -> {
+            Consumer<Room> action = invocation.getArgument(1);
+            action.accept(fakeFoundRoom);
+            return null;
+        }).when(roomRepository).forEachMatching(eq(fakeRequest), any());
+
+        // when
+        List<RoomResponse> result = new ArrayList<>();
+        roomService.exportRooms(fakeRequest, result::add);
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(fakeFoundRoom.getId(), result.get(0).id());
+        assertEquals(1, result.get(0).deals().size());
+        verify(roomJsonCache, never()).get(any(), any());
+    }
+
+    @DisplayName("내방 목록 커서 조회 성공 테스트")
+    @Test
+    void testFindMyRoomsWithCursorSucceed() {
+        // given
+        final String fakeMemberEmail = "dev.sssukho@gmail.com";
+        final long fakeMemberId = 123L;
+        Authentication authentication = mock(Authentication.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(
+            MemberPrincipal.of(fakeMemberId, fakeMemberEmail));
+        SecurityContextHolder.setContext(securityContext);
+
+        LocalDateTime fakeCreatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        Room fakeFoundRoom1 = Room.of(1L, "타이틀1", "설명1", "주소1", 3.14, RoomTypeDto.TWO_ROOM,
+            fakeMemberId, fakeCreatedAt, fakeCreatedAt);
+        Room fakeFoundRoom2 = Room.of(2L, "타이틀2", "설명2", "주소2", 3.15, RoomTypeDto.ONE_ROOM,
+            fakeMemberId, fakeCreatedAt, fakeCreatedAt);
+        Deal fakeDeal1 = Deal.of(DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(2000),
+            BigDecimal.valueOf(50), fakeFoundRoom1.getId());
+        Deal fakeDeal2 = Deal.of(DealTypeDto.YEAR_RENT, BigDecimal.valueOf(200000),
+            null, fakeFoundRoom2.getId());
+
+        final int fakeSize = 2;
+        fakeFoundRoom1.setDeals(List.of(fakeDeal1));
+        fakeFoundRoom2.setDeals(List.of(fakeDeal2));
+
+        when(roomRepository.findAllByOwnerId(fakeMemberId, null, fakeSize)).thenReturn(
+            List.of(fakeFoundRoom1, fakeFoundRoom2));
+
+        // when
+        CursorPage<RoomResponse> result = roomService.findMyRooms(null, fakeSize);
+
+        // then
+        assertEquals(2, result.contents().size());
+        assertEquals(new RoomCursor(fakeCreatedAt, 2L), RoomCursor.decode(result.nextCursor()));
+
+        verify(roomRepository).findAllByOwnerId(fakeMemberId, null, fakeSize);
     }
 }
@@ -0,0 +1,13 @@
+package com.sssukho.common.dto.common;
+
+import java.util.List;
+
+public record CursorPage<T>(
+    List<T> contents,
+    String nextCursor
+) {
+
+    public static <T> CursorPage<T> of(List<T> contents, String nextCursor) {
+        return new CursorPage<>(contents, nextCursor);
+    }
+}
@@ -1,11 +1,21 @@
 package com.sssukho.common.dto.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.List;
+
 public record ResponseMessage<T>(
-    T data
+    T data,
+    @JsonInclude(Include.NON_NULL)
+    String nextCursor
 ){
 
     public static <T> ResponseMessage<T> create(final T responseBody) {
-        return new ResponseMessage<>(responseBody);
+        return new ResponseMessage<>(responseBody, null);
+    }
+
+    public static <T> ResponseMessage<List<T>> createPage(final CursorPage<T> page) {
+        return new ResponseMessage<>(page.contents(), page.nextCursor());
     }
 
 }
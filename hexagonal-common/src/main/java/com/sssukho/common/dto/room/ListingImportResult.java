@@ -0,0 +1,14 @@
+package com.sssukho.common.dto.room;
+
+/**
+ * 매물 파일 가져오기 결과
+ */
+public record ListingImportResult(
+    long readCount,
+    long importedCount,
+    long failedCount,
+    long elapsedMillis,
+    long roomsPerSecond
+) {
+
+}
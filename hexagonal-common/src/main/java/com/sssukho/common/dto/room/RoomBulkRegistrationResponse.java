@@ -0,0 +1,51 @@
+package com.sssukho.common.dto.room;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.List;
+
+/**
+ * 방 일괄 등록 결과
+ * - results 는 요청 순서와 같으며, 항목별로 성공 시 roomId, 실패 시 errorCode/errorMessage 를 가짐
+ */
+public record RoomBulkRegistrationResponse(
+    int requestedCount,
+    int registeredCount,
+    int failedCount,
+    List<ItemResult> results
+) {
+
+    public static RoomBulkRegistrationResponse of(List<ItemResult> results) {
+        int registeredCount = (int) results.stream().filter(ItemResult::isRegistered).count();
+        return new RoomBulkRegistrationResponse(results.size(), registeredCount,
+            results.size() - registeredCount, results);
+    }
+
+    public record ItemResult(
+        int index,
+        Status status,
+        @JsonInclude(Include.NON_NULL)
+        Long roomId,
+        @JsonInclude(Include.NON_NULL)
+        String errorCode,
+        @JsonInclude(Include.NON_NULL)
+        String errorMessage
+    ) {
+
+        public static ItemResult registered(int index, Long roomId) {
+            return new ItemResult(index, Status.REGISTERED, roomId, null, null);
+        }
+
+        public static ItemResult failed(int index, String errorCode, String errorMessage) {
+            return new ItemResult(index, Status.FAILED, null, errorCode, errorMessage);
+        }
+
+        public boolean isRegistered() {
+            return status == Status.REGISTERED;
+        }
+    }
+
+    public enum Status {
+        REGISTERED, FAILED
+    }
+}
@@ -0,0 +1,41 @@
+package com.sssukho.common.dto.room;
+
+import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
+import com.sssukho.common.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 방 목록 keyset 페이징 커서 (created_at + id)
+ * - 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로 전달
+ */
+public record RoomCursor(
+    LocalDateTime createdAt,
+    Long id
+) {
+
+    private static final String DELIMITER = "|";
+    private static final String MSG_INVALID_CURSOR = "파라미터 'cursor' 의 값이 유효하지 않습니다.";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RoomCursor decode(String encodedCursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encodedCursor),
+                StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, delimiterIndex));
+            Long id = Long.parseLong(raw.substring(delimiterIndex + 1));
+            return new RoomCursor(createdAt, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException
+                 | DateTimeParseException | NullPointerException ex) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER, MSG_INVALID_CURSOR);
+        }
+    }
+}
@@ -11,7 +11,21 @@ public record RoomSearchRequest(
     BigDecimal minMonthlyRent,
     BigDecimal maxMonthlyRent,
     int page,
-    int size
+    int size,
+    RoomCursor cursor
     ) {
 
+    public RoomSearchRequest(List<RoomTypeDto> roomTypes, List<DealTypeDto> dealTypes,
+        BigDecimal minDeposit, BigDecimal maxDeposit, BigDecimal minMonthlyRent,
+        BigDecimal maxMonthlyRent, int page, int size) {
+        this(roomTypes, dealTypes, minDeposit, maxDeposit, minMonthlyRent, maxMonthlyRent, page,
+            size, null);
+    }
+
+    /**
+     * cursor 가 있으면 page 값은 무시하고 keyset 방식으로 조회
+     */
+    public boolean hasCursor() {
+        return cursor != null;
+    }
 }
@@ -0,0 +1,87 @@
+package com.sssukho.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 클레임 구성과 서명/검증 (blocking / reactive API 공통)
+ * - 두 API 가 같은 secret 으로 이 클래스를 사용하므로 어느 API 에서 발급한 토큰이든 양쪽에서 검증됨
+ * - 만료 전에 개별 폐기할 수 있도록 jti 를 포함하고, 같은 키로 서명하는 access / refresh 토큰은 typ 클레임으로 구분
+ * - 서명 검증은 CPU 만 사용하므로 호출 스레드에서 바로 수행
+ */
+@Slf4j
+public class JwtTokenCodec {
+
+    private static final String CLAIM_MEMBER_ID = "memberId";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_TYPE = "typ";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+
+    public JwtTokenCodec(String secret) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // JwtParser 는 불변이고 thread-safe 하므로 한번만 생성
+        this.parser = Jwts.parser().verifyWith(key).build();
+    }
+
+    public String generateAccessToken(Long memberId, String email, long expirationInMs) {
+        return Jwts.builder()
+            .id(UUID.randomUUID().toString())
+            .subject(email)
+            .claim(CLAIM_TYPE, TokenClaims.Type.ACCESS.claimValue())
+            .claim(CLAIM_MEMBER_ID, memberId)
+            .claim(CLAIM_ROLES, List.of(MemberPrincipal.ROLE_MEMBER))
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + expirationInMs))
+            .signWith(key)
+            .compact();
+    }
+
+    /**
+     * 같은 회원이 동시에 로그인해도 세션마다 다른 토큰이 되도록 jti 를 포함
+     * - typ 클레임이 refresh 이므로 API 요청 인증에는 사용할 수 없음
+     */
+    public String generateRefreshToken(Long memberId, String email, long expirationInMs) {
+        return Jwts.builder()
+            .id(UUID.randomUUID().toString())
+            .subject(email)
+            .claim(CLAIM_TYPE, TokenClaims.Type.REFRESH.claimValue())
+            .claim(CLAIM_MEMBER_ID, memberId)
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + expirationInMs))
+            .signWith(key)
+            .compact();
+    }
+
+    /**
+     * 토큰 서명/만료 검증과 클레임 추출을 한번에 수행
+     * - 유효하지 않은 토큰이면 null (토큰 종류는 호출측에서 확인)
+     */
+    public TokenClaims parse(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+
+            List<?> roles = claims.get(CLAIM_ROLES, List.class);
+            return new TokenClaims(
+                claims.getId(),
+                TokenClaims.Type.fromClaimValue(claims.get(CLAIM_TYPE, String.class)),
+                claims.getSubject(),
+                claims.get(CLAIM_MEMBER_ID, Long.class),
+                roles == null ? null : roles.stream().map(String::valueOf).toList(),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Failed to validate token", e);
+            return null;
+        }
+    }
+}
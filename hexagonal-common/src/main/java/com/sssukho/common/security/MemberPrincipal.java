@@ -0,0 +1,35 @@
+package com.sssukho.common.security;
+
+import java.security.Principal;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 액세스 토큰 클레임으로 만든 인증 사용자 정보
+ * - 요청마다 member 를 조회하지 않도록 SecurityContext 에는 이 값만 둠
+ * - 현재 요청의 인증 사용자는 API 마다 CurrentMember 로 꺼냄 (servlet / Reactor Context)
+ */
+public record MemberPrincipal(
+    Long memberId,
+    String email,
+    List<String> roles
+) implements Principal {
+
+    public static final String ROLE_MEMBER = "MEMBER";
+
+    public static MemberPrincipal of(Long memberId, String email) {
+        return new MemberPrincipal(memberId, email, List.of(ROLE_MEMBER));
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return roles.stream()
+            .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+            .toList();
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
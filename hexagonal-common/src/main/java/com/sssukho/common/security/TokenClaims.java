@@ -0,0 +1,65 @@
+package com.sssukho.common.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임 (blocking / reactive API 공통)
+ * - type 이 null 이면 typ 클레임 추가 이전에 발급된 토큰
+ * - tokenId(jti) 가 null 이면 개별 폐기를 할 수 없는 이전 토큰
+ */
+public record TokenClaims(
+    String tokenId,
+    Type type,
+    String subject,
+    Long memberId,
+    List<String> roles,
+    Instant expiresAt
+) {
+
+    /**
+     * 같은 키로 서명하는 access / refresh 토큰을 구분하는 typ 클레임 값
+     */
+    public enum Type {
+        ACCESS("access"),
+        REFRESH("refresh");
+
+        private final String claimValue;
+
+        Type(String claimValue) {
+            this.claimValue = claimValue;
+        }
+
+        public String claimValue() {
+            return claimValue;
+        }
+
+        public static Type fromClaimValue(String claimValue) {
+            for (Type type : values()) {
+                if (type.claimValue.equals(claimValue)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    public boolean isAccessToken() {
+        return type == Type.ACCESS;
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 클레임으로 인증 사용자 정보를 만듦
+     * - access token 이 아니거나 memberId / roles 클레임이 없으면 null
+     */
+    public MemberPrincipal toPrincipal() {
+        if (!isAccessToken() || memberId == null || roles == null || roles.isEmpty()) {
+            return null;
+        }
+        return new MemberPrincipal(memberId, subject, roles);
+    }
+}
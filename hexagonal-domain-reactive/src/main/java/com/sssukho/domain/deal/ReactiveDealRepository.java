@@ -0,0 +1,24 @@
+package com.sssukho.domain.deal;
+
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+/**
+ * DealRepository 의 non-blocking 버전
+ */
+public interface ReactiveDealRepository {
+
+    /**
+     * 생성된 id 가 채워진 deal 목록을 저장 순서대로 반환
+     */
+    Mono<List<Deal>> saveAll(List<Deal> dealsToRegister);
+
+    /**
+     * 보증금/월세만 수정
+     */
+    Mono<Void> updateAll(List<Deal> dealsToUpdate);
+
+    Mono<Void> deleteAllByRoomId(Long roomIdToDelete);
+
+    Mono<Void> deleteAllByIds(List<Long> dealIdsToDelete);
+}
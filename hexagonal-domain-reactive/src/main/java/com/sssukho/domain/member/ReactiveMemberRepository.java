@@ -0,0 +1,18 @@
+package com.sssukho.domain.member;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * MemberRepository 의 non-blocking 버전
+ * - 없는 회원은 예외 대신 빈 Mono 로 반환
+ */
+public interface ReactiveMemberRepository {
+
+    Mono<Member> findByEmail(String email);
+
+    Mono<Member> findById(Long id);
+
+    Mono<Member> save(Member member);
+
+    Mono<Boolean> existsByEmail(String email);
+}
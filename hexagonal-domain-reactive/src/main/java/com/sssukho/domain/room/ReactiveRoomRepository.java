@@ -0,0 +1,55 @@
+package com.sssukho.domain.room;
+
+import com.sssukho.common.dto.room.RoomCursor;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * RoomRepository 의 non-blocking 버전
+ * - 없는 방은 예외 대신 빈 Mono 로 반환 (NOT_FOUND_ROOM 변환은 호출하는 쪽에서 수행)
+ * - 목록은 DB 에서 읽는 대로 방 단위로 전달
+ */
+public interface ReactiveRoomRepository {
+
+    /**
+     * 새 id 와 저장 시각이 채워진 방을 반환
+     * - deals 는 저장하지 않음
+     */
+    Mono<Room> save(Room roomToSave);
+
+    /**
+     * 거래가 포함된 방 조회 (방/거래 한 번의 조회)
+     */
+    Mono<Room> findByIdWithDeals(Long roomId);
+
+    /**
+     * 방 정보만 수정하고 변경 시각이 채워진 방을 반환 (거래는 수정하지 않음)
+     */
+    Mono<Room> update(Room roomToUpdate);
+
+    Mono<Void> deleteById(Long roomId);
+
+    /**
+     * 거래가 포함된 여러 방을 한 번에 조회 (방/거래 한 번의 조회, id 오름차순)
+     * - 없는 id 는 결과에서 제외
+     */
+    Flux<Room> findAllByIds(List<Long> roomIds);
+
+    /**
+     * 거래가 포함된 소유자의 방 목록 (id 오름차순)
+     */
+    Flux<Room> findAllByOwnerId(Long ownerId);
+
+    /**
+     * 거래가 포함된 소유자의 방 목록을 (created_at, id) 오름차순 keyset 방식으로 조회
+     * - cursor 가 null 이면 첫 페이지
+     */
+    Flux<Room> findAllByOwnerId(Long ownerId, RoomCursor cursor, int size);
+
+    /**
+     * 거래가 포함된 방 검색 결과 조회
+     */
+    Flux<Room> searchRooms(RoomSearchRequest roomSearchRequest);
+}
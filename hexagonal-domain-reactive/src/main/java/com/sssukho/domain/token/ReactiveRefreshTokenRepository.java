@@ -0,0 +1,25 @@
+package com.sssukho.domain.token;
+
+import java.time.LocalDateTime;
+import reactor.core.publisher.Mono;
+
+/**
+ * RefreshTokenRepository 의 non-blocking 버전
+ * - 만료된 토큰 정리는 blocking API 의 정리 작업이 같은 테이블에 대해 수행
+ */
+public interface ReactiveRefreshTokenRepository {
+
+    Mono<Void> save(RefreshToken refreshToken);
+
+    /**
+     * 기존 토큰을 삭제하고 새 토큰을 저장
+     * - 기존 토큰이 없거나 만료되었으면 저장하지 않고 false (이미 사용된 토큰 재사용 포함)
+     * - 같은 토큰으로 동시에 요청해도 하나만 성공
+     */
+    Mono<Boolean> rotate(String tokenHashToReplace, RefreshToken newRefreshToken,
+        LocalDateTime now);
+
+    Mono<Void> delete(String tokenHash);
+
+    Mono<Long> deleteAllByMemberId(Long memberId);
+}
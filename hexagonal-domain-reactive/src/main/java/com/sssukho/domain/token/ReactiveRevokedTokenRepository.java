@@ -0,0 +1,21 @@
+package com.sssukho.domain.token;
+
+import java.time.LocalDateTime;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * RevokedTokenRepository 의 non-blocking 버전
+ * - 만료된 토큰 정리는 blocking API 의 정리 작업이 같은 테이블에 대해 수행
+ */
+public interface ReactiveRevokedTokenRepository {
+
+    Mono<Void> save(RevokedToken revokedToken);
+
+    Flux<RevokedToken> findAllNotExpired(LocalDateTime now);
+
+    /**
+     * since 이후에 폐기된 토큰 중 아직 만료되지 않은 토큰 (다른 노드의 폐기 내역 동기화용)
+     */
+    Flux<RevokedToken> findAllRevokedSince(LocalDateTime since, LocalDateTime now);
+}
@@ -0,0 +1,84 @@
+package com.sssukho.domain.deal;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 저장된 deal 목록을 요청된 deal 목록으로 바꾸기 위한 최소 변경분
+ * - 거래 유형/보증금/월세가 모두 같은 deal 은 그대로 유지
+ * - 남은 deal 중 거래 유형이 같은 deal 은 가격만 수정
+ * - 그래도 남는 저장된 deal 은 삭제, 요청된 deal 은 추가
+ */
+public record DealChanges(
+    List<Deal> dealsToInsert,
+    List<Deal> dealsToUpdate,
+    List<Deal> dealsToDelete,
+    List<Deal> unchangedDeals
+) {
+
+    public static DealChanges diff(List<Deal> storedDeals, List<Deal> requestedDeals) {
+        List<Deal> remainingStored = new ArrayList<>(storedDeals);
+        List<Deal> remainingRequested = new ArrayList<>();
+        List<Deal> unchanged = new ArrayList<>();
+
+        for (Deal requested : requestedDeals) {
+            Deal sameDeal = removeFirst(remainingStored, stored -> isSame(stored, requested));
+            if (sameDeal != null) {
+                unchanged.add(sameDeal);
+            } else {
+                remainingRequested.add(requested);
+            }
+        }
+
+        List<Deal> toUpdate = new ArrayList<>();
+        List<Deal> toInsert = new ArrayList<>();
+        for (Deal requested : remainingRequested) {
+            Deal sameType = removeFirst(remainingStored,
+                stored -> stored.getDealTypeDto() == requested.getDealTypeDto());
+            if (sameType != null) {
+                toUpdate.add(Deal.of(sameType.getId(), requested.getDealTypeDto(),
+                    requested.getDeposit(), requested.getMonthlyRent(), sameType.getRoomId()));
+            } else {
+                toInsert.add(requested);
+            }
+        }
+
+        return new DealChanges(toInsert, toUpdate, remainingStored, unchanged);
+    }
+
+    public boolean isEmpty() {
+        return dealsToInsert.isEmpty() && dealsToUpdate.isEmpty() && dealsToDelete.isEmpty();
+    }
+
+    public List<Long> idsToDelete() {
+        return dealsToDelete.stream().map(Deal::getId).toList();
+    }
+
+    private static Deal removeFirst(List<Deal> deals, Predicate<Deal> condition) {
+        Iterator<Deal> iterator = deals.iterator();
+        while (iterator.hasNext()) {
+            Deal deal = iterator.next();
+            if (condition.test(deal)) {
+                iterator.remove();
+                return deal;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSame(Deal stored, Deal requested) {
+        return stored.getDealTypeDto() == requested.getDealTypeDto()
+            && isSameAmount(stored.getDeposit(), requested.getDeposit())
+            && isSameAmount(stored.getMonthlyRent(), requested.getMonthlyRent());
+    }
+
+    private static boolean isSameAmount(BigDecimal stored, BigDecimal requested) {
+        if (stored == null || requested == null) {
+            return stored == requested;
+        }
+        return stored.compareTo(requested) == 0;
+    }
+}
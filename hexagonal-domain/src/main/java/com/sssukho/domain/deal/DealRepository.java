@@ -3,10 +3,20 @@ package com.sssukho.domain.deal;
 import java.util.List;
 
 public interface DealRepository {
-    void saveAll(List<Deal> dealsToRegister);
+    /**
+     * 생성된 id 가 채워진 deal 목록을 저장 순서대로 반환
+     */
+    List<Deal> saveAll(List<Deal> dealsToRegister);
+
+    /**
+     * 보증금/월세만 수정
+     */
+    void updateAll(List<Deal> dealsToUpdate);
 
     void deleteAllByRoomId(Long roomIdToDelete);
 
+    void deleteAllByIds(List<Long> dealIdsToDelete);
+
     List<Deal> findByRoomIdIn(List<Long> roomIdsToFind);
 
     List<Deal> findByRoomId(Long roomIdToFind);
@@ -0,0 +1,15 @@
+package com.sssukho.domain.member;
+
+/**
+ * 회원이 등록되거나 회원 정보(프로필 등)가 변경되었을 때 발행되는 이벤트
+ * - memberId 를 모르는 경우 null 이며, email 로만 식별
+ */
+public record MemberChangedEvent(
+    Long memberId,
+    String email
+) {
+
+    public static MemberChangedEvent of(Member member) {
+        return new MemberChangedEvent(member.getId(), member.getEmail());
+    }
+}
@@ -4,10 +4,10 @@ public interface MemberRepository {
 
     Member findByEmail(String email);
 
+    Member findById(Long id);
+
     Member save(Member member);
 
     boolean existsByEmail(String email);
 
-    Member updateRefreshToken(String email, String refreshToken);
-
 }
@@ -44,6 +44,18 @@ public class Room {
             updatedAt);
     }
 
+    /**
+     * 변경 전 상태 보관용 복사본
+     */
+    public Room copy() {
+        Room copied = new Room(id, title, description, address, area, roomTypeDto, ownerId,
+            createdAt, updatedAt);
+        if (deals != null) {
+            copied.setDeals(deals);
+        }
+        return copied;
+    }
+
     public void setDeals(List<Deal> deals) {
         this.deals = new ArrayList<>(deals);
     }
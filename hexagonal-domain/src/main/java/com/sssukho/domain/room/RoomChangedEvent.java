@@ -0,0 +1,29 @@
+package com.sssukho.domain.room;
+
+/**
+ * 방(및 방에 속한 거래)이 등록/수정/삭제되었을 때 발행되는 이벤트
+ * - previousRoom 은 변경 전 상태 (등록이면 null), changedRoom 은 변경 후 상태 (삭제면 null)
+ * - 방의 deals 가 null 이면 거래 정보를 알 수 없음
+ */
+public record RoomChangedEvent(
+    Long roomId,
+    Room previousRoom,
+    Room changedRoom
+) {
+
+    public static RoomChangedEvent registered(Room registeredRoom) {
+        return new RoomChangedEvent(registeredRoom.getId(), null, registeredRoom);
+    }
+
+    public static RoomChangedEvent updated(Room previousRoom, Room updatedRoom) {
+        return new RoomChangedEvent(updatedRoom.getId(), previousRoom, updatedRoom);
+    }
+
+    public static RoomChangedEvent deleted(Room deletedRoom) {
+        return new RoomChangedEvent(deletedRoom.getId(), deletedRoom, null);
+    }
+
+    public boolean isDeleted() {
+        return changedRoom == null;
+    }
+}
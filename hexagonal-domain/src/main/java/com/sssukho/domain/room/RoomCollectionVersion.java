@@ -0,0 +1,15 @@
+package com.sssukho.domain.room;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방 목록의 변경 여부만 확인하기 위한 정보
+ * - 등록/수정은 lastUpdatedAt 을, 삭제는 count 를 바꾸므로 둘 중 하나는 항상 달라짐
+ * - 방이 없으면 lastUpdatedAt 은 null
+ */
+public record RoomCollectionVersion(
+    long count,
+    LocalDateTime lastUpdatedAt
+) {
+
+}
@@ -1,20 +1,74 @@
 package com.sssukho.domain.room;
 
+import com.sssukho.common.dto.room.RoomCursor;
 import com.sssukho.common.dto.room.RoomSearchRequest;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface RoomRepository {
 
     Room save(Room roomToSave);
 
+    /**
+     * 여러 방을 한번에 저장하고 생성된 id 가 채워진 방 목록을 저장 순서대로 반환
+     * - deals 는 저장하지 않음
+     */
+    List<Room> saveAll(List<Room> roomsToSave);
+
     Room findById(Long roomId);
 
+    /**
+     * 거래가 포함된 방 조회 (방/거래 한 번의 조회)
+     */
+    Room findByIdWithDeals(Long roomId);
+
+    /**
+     * 방의 소유자와 마지막 변경 시각만 조회 (거래는 조회하지 않음)
+     */
+    RoomVersion findVersionById(Long roomId);
+
+    /**
+     * 소유자의 방 수와 가장 최근 변경 시각 조회
+     */
+    RoomCollectionVersion findCollectionVersionByOwnerId(Long ownerId);
+
+    /**
+     * 거래가 포함된 여러 방을 한 번에 조회 (방/거래 한 번의 조회, id 오름차순)
+     * - 없는 id 는 결과에서 제외
+     */
+    List<Room> findAllByIds(List<Long> roomIds);
+
     void deleteById(Long roomId);
 
     Room update(Room roomToUpdate);
 
+    /**
+     * 거래가 포함된 소유자의 방 목록 조회
+     */
     List<Room> findAllByOwnerId(Long ownerId);
 
+    /**
+     * 거래가 포함된 소유자의 방 목록을 DB 에서 읽는 대로 하나씩 전달
+     * - 목록을 만들지 않으므로 방 수와 관계없이 메모리 사용량이 일정함
+     * - action 이 끝날 때까지 조회 커넥션을 사용하므로 action 에서 오래 대기하지 않아야 함
+     */
+    void forEachByOwnerId(Long ownerId, Consumer<Room> action);
+
+    /**
+     * 거래가 포함된 소유자의 방 목록을 (created_at, id) 오름차순 keyset 방식으로 조회
+     * - cursor 가 null 이면 첫 페이지
+     */
+    List<Room> findAllByOwnerId(Long ownerId, RoomCursor cursor, int size);
+
+    /**
+     * 거래가 포함된 방 검색 결과 조회
+     */
     List<Room> searchRooms(RoomSearchRequest roomSearchRequest);
-}
 
+    /**
+     * 검색 조건에 맞는 모든 방을 거래를 포함해서 id 순으로 DB 에서 읽는 대로 하나씩 전달
+     * - 페이징(page, size, cursor)은 무시
+     * - 목록을 만들지 않으므로 방 수와 관계없이 메모리 사용량이 일정함
+     */
+    void forEachMatching(RoomSearchRequest roomSearchRequest, Consumer<Room> action);
+}
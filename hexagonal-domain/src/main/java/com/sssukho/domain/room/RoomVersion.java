@@ -0,0 +1,15 @@
+package com.sssukho.domain.room;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방의 변경 여부만 확인하기 위한 정보 (거래는 조회하지 않음)
+ * - 거래가 바뀌어도 방의 updatedAt 이 갱신됨
+ */
+public record RoomVersion(
+    Long roomId,
+    Long ownerId,
+    LocalDateTime updatedAt
+) {
+
+}
@@ -0,0 +1,17 @@
+package com.sssukho.domain.room;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 가져오기가 끝났을 때 한번 발행되는 이벤트
+ * - 가져오는 동안에는 batch 마다 이벤트를 발행하지 않으므로, 구독측은 방 단위가 아닌 가져오기 단위로 반영
+ * - 등록된 방 목록은 파일 크기만큼 커질 수 있으므로 포함하지 않고,
+ *   필요하면 ownerId 의 방 중 startedAt 이후에 변경된 방을 DB 에서 나누어 읽음
+ */
+public record RoomsImportedEvent(
+    Long ownerId,
+    LocalDateTime startedAt,
+    long importedCount
+) {
+
+}
@@ -0,0 +1,17 @@
+package com.sssukho.domain.room;
+
+import java.util.List;
+
+/**
+ * 방 여러개가 트랜잭션 하나로 등록되었을 때 발행되는 이벤트 (일괄 등록, 파일 가져오기)
+ * - 방마다 RoomChangedEvent 를 발행하면 구독측이 방 수만큼 캐시/인덱스를 갱신하므로 묶어서 한번만 발행
+ * - registeredRooms 의 deals 는 등록된 거래 목록 (없으면 빈 목록)
+ */
+public record RoomsRegisteredEvent(
+    List<Room> registeredRooms
+) {
+
+    public RoomsRegisteredEvent {
+        registeredRooms = List.copyOf(registeredRooms);
+    }
+}
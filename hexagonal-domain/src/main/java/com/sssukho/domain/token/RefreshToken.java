@@ -0,0 +1,35 @@
+package com.sssukho.domain.token;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 발급된 refresh token
+ * - 토큰 원문은 저장하지 않고 SHA-256 해시만 보관
+ * - 회원당 여러 개가 존재할 수 있음 (기기/세션별)
+ */
+@Getter
+public class RefreshToken {
+
+    private final String tokenHash;
+    private final Long memberId;
+    private final LocalDateTime expiresAt;
+    private final LocalDateTime createdAt;
+
+    private RefreshToken(String tokenHash, Long memberId, LocalDateTime expiresAt,
+        LocalDateTime createdAt) {
+        this.tokenHash = tokenHash;
+        this.memberId = memberId;
+        this.expiresAt = expiresAt;
+        this.createdAt = createdAt;
+    }
+
+    public static RefreshToken of(String tokenHash, Long memberId, LocalDateTime expiresAt,
+        LocalDateTime createdAt) {
+        return new RefreshToken(tokenHash, memberId, expiresAt, createdAt);
+    }
+
+    public boolean isExpiredAt(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,24 @@
+package com.sssukho.domain.token;
+
+import java.time.LocalDateTime;
+
+public interface RefreshTokenRepository {
+
+    void save(RefreshToken refreshToken);
+
+    /**
+     * 기존 토큰을 삭제하고 새 토큰을 저장
+     * - 기존 토큰이 없거나 만료되었으면 저장하지 않고 false (이미 사용된 토큰 재사용 포함)
+     * - 같은 토큰으로 동시에 요청해도 하나만 성공
+     */
+    boolean rotate(String tokenHashToReplace, RefreshToken newRefreshToken, LocalDateTime now);
+
+    void delete(String tokenHash);
+
+    int deleteAllByMemberId(Long memberId);
+
+    /**
+     * 만료된 토큰을 최대 limit 개 삭제하고 삭제한 수를 반환
+     */
+    int deleteExpired(LocalDateTime now, int limit);
+}
@@ -0,0 +1,31 @@
+package com.sssukho.domain.token;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰
+ * - 토큰의 jti 만 보관하며, 토큰이 만료되면 더 이상 보관할 필요 없음
+ */
+@Getter
+public class RevokedToken {
+
+    private final String tokenId;
+    private final LocalDateTime expiresAt;
+    private final LocalDateTime revokedAt;
+
+    private RevokedToken(String tokenId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    public static RevokedToken of(String tokenId, LocalDateTime expiresAt,
+        LocalDateTime revokedAt) {
+        return new RevokedToken(tokenId, expiresAt, revokedAt);
+    }
+
+    public boolean isExpiredAt(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
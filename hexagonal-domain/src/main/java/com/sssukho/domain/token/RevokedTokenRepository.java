@@ -0,0 +1,21 @@
+package com.sssukho.domain.token;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository {
+
+    void save(RevokedToken revokedToken);
+
+    List<RevokedToken> findAllNotExpired(LocalDateTime now);
+
+    /**
+     * since 이후에 폐기된 토큰 중 아직 만료되지 않은 토큰 (다른 노드의 폐기 내역 동기화용)
+     */
+    List<RevokedToken> findAllRevokedSince(LocalDateTime since, LocalDateTime now);
+
+    /**
+     * 만료된 토큰을 최대 limit 개 삭제하고 삭제한 수를 반환
+     */
+    int deleteExpired(LocalDateTime now, int limit);
+}
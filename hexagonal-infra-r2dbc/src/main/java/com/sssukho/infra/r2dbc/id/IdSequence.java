@@ -0,0 +1,22 @@
+package com.sssukho.infra.r2dbc.id;
+
+/**
+ * id_sequence 테이블에서 관리하는 sequence
+ * - blocking API 의 할당기와 같은 행을 사용하므로 이름이 같아야 함
+ * - 처음 사용할 때 대상 테이블의 MAX(id) + 1 부터 시작
+ */
+public enum IdSequence {
+    ROOM("room"),
+    DEAL("deal"),
+    MEMBER("member");
+
+    private final String tableName;
+
+    IdSequence(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+}
@@ -0,0 +1,151 @@
+package com.sssukho.infra.r2dbc.id;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * hi-lo 방식 id 할당기 (R2DBC)
+ * - blocking API 의 BlockIdAllocator 와 같은 id_sequence 행에서 구간을 가져오므로 두 API 가 같은 DB 를 써도 id 가 겹치지 않음
+ * - 구간 할당은 애플리케이션 풀과 분리된 커넥션 하나짜리 풀에서 바로 커밋되므로, 트랜잭션이 롤백되어도 id 는 재사용되지 않음
+ *   (트랜잭션이 커넥션을 쥔 채 같은 풀에서 하나 더 기다리면 풀이 고갈될 때 서로를 기다리게 됨)
+ * - 메모리의 구간은 짧은 synchronized 구간에서만 읽고 바꾸며, DB I/O 를 기다리는 동안에는 잠그지 않음
+ * - 구간이 모자란 요청이 동시에 들어오면 각자 새 구간을 가져오고 먼저 받은 구간의 남은 id 는 버려짐
+ */
+@Slf4j
+public class ReactiveBlockIdAllocator implements AutoCloseable {
+
+    private static final String INITIALIZE_SEQUENCE_QUERY = """
+        INSERT IGNORE INTO id_sequence (name, next_val)
+        SELECT ?, COALESCE(MAX(id), 0) + 1 FROM %s
+        """;
+
+    // LAST_INSERT_ID(expr) 는 커넥션 단위로 값을 기억하므로 UPDATE 한번으로 원자적으로 구간을 가져올 수 있음
+    private static final String ALLOCATE_BLOCK_QUERY = """
+        UPDATE id_sequence SET next_val = LAST_INSERT_ID(next_val + ?) WHERE name = ?
+        """;
+
+    private final ConnectionFactory connectionFactory;
+    private final int blockSize;
+    private final Map<IdSequence, Block> blocks = new EnumMap<>(IdSequence.class);
+
+    /**
+     * @param connectionFactory 구간 할당 전용 ConnectionFactory (애플리케이션 트랜잭션이 쓰는 풀과 분리)
+     */
+    public ReactiveBlockIdAllocator(ConnectionFactory connectionFactory, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        this.connectionFactory = connectionFactory;
+        this.blockSize = blockSize;
+        for (IdSequence sequence : IdSequence.values()) {
+            blocks.put(sequence, new Block());
+        }
+    }
+
+    public Mono<Long> nextId(IdSequence sequence) {
+        return nextIds(sequence, 1).map(ids -> ids.get(0));
+    }
+
+    /**
+     * count 개의 id 를 발급 (현재 구간에 남은 id 를 먼저 쓰고, 모자라면 새 구간에서 이어서 발급)
+     */
+    public Mono<List<Long>> nextIds(IdSequence sequence, int count) {
+        return Mono.defer(() -> {
+            Block block = blocks.get(sequence);
+            List<Long> ids = block.take(count);
+            if (ids.size() == count) {
+                return Mono.just(ids);
+            }
+
+            int missing = count - ids.size();
+            int size = Math.max(blockSize, missing);
+            return allocateBlock(sequence, block, size).map(blockEnd -> {
+                long blockStart = blockEnd - size;
+                for (long id = blockStart; id < blockStart + missing; id++) {
+                    ids.add(id);
+                }
+                block.reset(blockStart + missing, blockEnd);
+                return ids;
+            });
+        });
+    }
+
+    private Mono<Long> allocateBlock(IdSequence sequence, Block block, int size) {
+        return Mono.usingWhen(connectionFactory.create(),
+                connection -> initialize(connection, sequence, block)
+                    .then(execute(connection.createStatement(ALLOCATE_BLOCK_QUERY)
+                        .bind(0, size)
+                        .bind(1, sequence.tableName())))
+                    .then(lastInsertId(connection)),
+                Connection::close)
+            .doOnNext(blockEnd -> log.debug("{} id 구간 할당 [{}, {})", sequence.tableName(),
+                blockEnd - size, blockEnd))
+            .onErrorMap(e -> new DataAccessResourceFailureException(
+                sequence.tableName() + " id 구간 할당에 실패했습니다.", e));
+    }
+
+    private static Mono<Void> initialize(Connection connection, IdSequence sequence,
+        Block block) {
+        if (block.initialized) {
+            return Mono.empty();
+        }
+        String query = String.format(INITIALIZE_SEQUENCE_QUERY, sequence.tableName());
+        return execute(connection.createStatement(query).bind(0, sequence.tableName()))
+            .doOnSuccess(ignored -> block.initialized = true)
+            .then();
+    }
+
+    private static Mono<Long> execute(Statement statement) {
+        return Mono.from(statement.execute())
+            .flatMap(result -> Mono.from(result.getRowsUpdated()));
+    }
+
+    // LAST_INSERT_ID() 는 BIGINT UNSIGNED 이므로 드라이버 기본 타입으로 읽어서 변환
+    private static Mono<Long> lastInsertId(Connection connection) {
+        return Mono.from(connection.createStatement("SELECT LAST_INSERT_ID()").execute())
+            .flatMap(result -> Mono.from(
+                result.map((row, metadata) -> ((Number) row.get(0)).longValue())));
+    }
+
+    /**
+     * 전용 풀을 닫음 (빈 소멸 시 호출)
+     */
+    @Override
+    public void close() {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    private static class Block {
+
+        private long next;
+        private long end;
+        private volatile boolean initialized;
+
+        /**
+         * 현재 구간에서 최대 count 개를 꺼냄 (남은 id 가 모자라면 있는 만큼만)
+         */
+        synchronized List<Long> take(int count) {
+            List<Long> ids = new ArrayList<>(count);
+            while (ids.size() < count && next < end) {
+                ids.add(next++);
+            }
+            return ids;
+        }
+
+        synchronized void reset(long next, long end) {
+            this.next = next;
+            this.end = end;
+        }
+    }
+}
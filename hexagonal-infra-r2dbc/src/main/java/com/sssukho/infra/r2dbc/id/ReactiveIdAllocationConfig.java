@@ -0,0 +1,40 @@
+package com.sssukho.infra.r2dbc.id;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReactiveIdAllocationConfig {
+
+    private static final String ALLOCATOR_POOL_NAME = "id-allocator";
+
+    /**
+     * 구간 할당은 애플리케이션 풀과 분리된 커넥션 하나짜리 풀을 사용
+     * - ConnectionFactory 빈으로 등록하지 않으므로 기본 ConnectionFactory 자동 설정에 영향을 주지 않음
+     * - 풀은 할당기 빈이 소멸될 때 함께 닫힘
+     */
+    @Bean
+    public ReactiveBlockIdAllocator reactiveBlockIdAllocator(R2dbcProperties r2dbcProperties,
+        IdAllocationProperties properties) {
+        ConnectionFactoryBuilder builder = ConnectionFactoryBuilder.withUrl(
+            r2dbcProperties.getUrl());
+        if (r2dbcProperties.getUsername() != null) {
+            builder = builder.username(r2dbcProperties.getUsername());
+        }
+        if (r2dbcProperties.getPassword() != null) {
+            builder = builder.password(r2dbcProperties.getPassword());
+        }
+
+        ConnectionPool connectionPool = new ConnectionPool(
+            ConnectionPoolConfiguration.builder(builder.build())
+                .name(ALLOCATOR_POOL_NAME)
+                .initialSize(1)
+                .maxSize(1)
+                .build());
+        return new ReactiveBlockIdAllocator(connectionPool, properties.blockSize());
+    }
+}
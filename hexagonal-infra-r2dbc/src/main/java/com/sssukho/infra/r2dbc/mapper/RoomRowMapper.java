@@ -0,0 +1,67 @@
+package com.sssukho.infra.r2dbc.mapper;
+
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.room.Room;
+import io.r2dbc.spi.Readable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import reactor.core.publisher.Flux;
+
+public class RoomRowMapper {
+
+    /**
+     * 방/거래 조인 결과의 한 행
+     * - LEFT JOIN 이므로 거래가 없는 방은 deal 이 null
+     */
+    public record JoinedRow(Room room, Deal deal) {
+
+    }
+
+    /**
+     * 조인 행을 변환 (컬럼 이름은 다음과 같음)
+     *   room_id, title, description, address, area, room_type, owner_id, created_at, updated_at,
+     *   deal_id, deal_type, deposit, monthly_rent
+     */
+    public static JoinedRow toJoinedRow(Readable row) {
+        Long roomId = row.get("room_id", Long.class);
+        Room room = Room.of(roomId,
+            row.get("title", String.class),
+            row.get("description", String.class),
+            row.get("address", String.class),
+            row.get("area", Double.class),
+            RoomTypeDto.valueOf(row.get("room_type", String.class)),
+            row.get("owner_id", Long.class),
+            row.get("created_at", LocalDateTime.class),
+            row.get("updated_at", LocalDateTime.class));
+
+        Long dealId = row.get("deal_id", Long.class);
+        Deal deal = dealId == null ? null : Deal.of(dealId,
+            DealTypeDto.valueOf(row.get("deal_type", String.class)),
+            row.get("deposit", BigDecimal.class),
+            row.get("monthly_rent", BigDecimal.class),
+            roomId);
+
+        return new JoinedRow(room, deal);
+    }
+
+    /**
+     * 방/거래 조인 행을 방 단위로 묶어 거래가 포함된 Room 으로 변환
+     * - 같은 방의 행은 연속되어 있어야 함
+     * - 다음 방의 첫 행(또는 마지막 행)을 읽은 시점에 이전 방을 전달하므로 방 하나 분량만 메모리에 둠
+     */
+    public static Flux<Room> toAggregates(Flux<JoinedRow> joinedRows) {
+        return joinedRows
+            .bufferUntilChanged(joinedRow -> joinedRow.room().getId())
+            .map(RoomRowMapper::toAggregate);
+    }
+
+    private static Room toAggregate(List<JoinedRow> rowsOfRoom) {
+        Room room = rowsOfRoom.get(0).room();
+        room.setDeals(rowsOfRoom.stream().map(JoinedRow::deal).filter(Objects::nonNull).toList());
+        return room;
+    }
+}
@@ -0,0 +1,14 @@
+package com.sssukho.infra.r2dbc.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+
+public class R2dbcBinds {
+
+    /**
+     * DatabaseClient 는 null 을 bind 할 수 없으므로 null 이면 타입을 지정해서 bindNull
+     */
+    public static GenericExecuteSpec bindNullable(GenericExecuteSpec spec, String name,
+        Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+}
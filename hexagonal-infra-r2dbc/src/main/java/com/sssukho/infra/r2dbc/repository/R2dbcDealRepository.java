@@ -0,0 +1,119 @@
+package com.sssukho.infra.r2dbc.repository;
+
+import static com.sssukho.infra.r2dbc.repository.R2dbcBinds.bindNullable;
+
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.deal.ReactiveDealRepository;
+import com.sssukho.infra.r2dbc.id.IdSequence;
+import com.sssukho.infra.r2dbc.id.ReactiveBlockIdAllocator;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class R2dbcDealRepository implements ReactiveDealRepository {
+
+    private static final String INSERT_DEAL_QUERY = """
+        INSERT INTO deal (id, deal_type, deposit, monthly_rent, room_id, created_at)
+        VALUES\s""";
+
+    private static final String INSERT_DEAL_ROW = """
+        (:id%1$d, :dealType%1$d, :deposit%1$d, :monthlyRent%1$d, :roomId%1$d, :createdAt)""";
+
+    private static final String UPDATE_DEAL_PRICE_QUERY = """
+        UPDATE deal SET deposit = :deposit, monthly_rent = :monthlyRent WHERE id = :id
+        """;
+
+    private static final String DELETE_BY_ROOM_ID_QUERY = "DELETE FROM deal WHERE room_id = :roomId";
+
+    private static final String DELETE_BY_IDS_QUERY = "DELETE FROM deal WHERE id IN (:ids)";
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveBlockIdAllocator idAllocator;
+
+    /**
+     * multi-row INSERT 한 번으로 저장
+     */
+    @Override
+    public Mono<List<Deal>> saveAll(List<Deal> dealsToRegister) {
+        if (dealsToRegister.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        return idAllocator.nextIds(IdSequence.DEAL, dealsToRegister.size()).flatMap(ids -> {
+            StringJoiner rows = new StringJoiner(", ");
+            for (int i = 0; i < dealsToRegister.size(); i++) {
+                rows.add(String.format(INSERT_DEAL_ROW, i));
+            }
+
+            GenericExecuteSpec insert = databaseClient.sql(INSERT_DEAL_QUERY + rows)
+                .bind("createdAt", LocalDateTime.now());
+            for (int i = 0; i < dealsToRegister.size(); i++) {
+                Deal deal = dealsToRegister.get(i);
+                insert = insert
+                    .bind("id" + i, ids.get(i))
+                    .bind("dealType" + i, deal.getDealTypeDto().name())
+                    .bind("roomId" + i, deal.getRoomId());
+                insert = bindNullable(insert, "deposit" + i, deal.getDeposit(), BigDecimal.class);
+                insert = bindNullable(insert, "monthlyRent" + i, deal.getMonthlyRent(),
+                    BigDecimal.class);
+            }
+
+            return insert.fetch().rowsUpdated()
+                .thenReturn(toDomainsWithIds(dealsToRegister, ids));
+        });
+    }
+
+    @Override
+    public Mono<Void> updateAll(List<Deal> dealsToUpdate) {
+        return Flux.fromIterable(dealsToUpdate)
+            .concatMap(deal -> {
+                GenericExecuteSpec update = databaseClient.sql(UPDATE_DEAL_PRICE_QUERY)
+                    .bind("id", deal.getId());
+                update = bindNullable(update, "deposit", deal.getDeposit(), BigDecimal.class);
+                update = bindNullable(update, "monthlyRent", deal.getMonthlyRent(),
+                    BigDecimal.class);
+                return update.fetch().rowsUpdated();
+            })
+            .then();
+    }
+
+    @Override
+    public Mono<Void> deleteAllByRoomId(Long roomIdToDelete) {
+        return databaseClient.sql(DELETE_BY_ROOM_ID_QUERY)
+            .bind("roomId", roomIdToDelete)
+            .then();
+    }
+
+    @Override
+    public Mono<Void> deleteAllByIds(List<Long> dealIdsToDelete) {
+        if (dealIdsToDelete.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(DELETE_BY_IDS_QUERY)
+            .bind("ids", dealIdsToDelete)
+            .then();
+    }
+
+    /**
+     * 저장 후 생성된 id 를 순서대로 붙여 변환
+     */
+    private static List<Deal> toDomainsWithIds(List<Deal> domains, List<Long> ids) {
+        List<Deal> result = new ArrayList<>(domains.size());
+        for (int i = 0; i < domains.size(); i++) {
+            Deal domain = domains.get(i);
+            result.add(Deal.of(ids.get(i), domain.getDealTypeDto(), domain.getDeposit(),
+                domain.getMonthlyRent(), domain.getRoomId()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+package com.sssukho.infra.r2dbc.repository;
+
+import com.sssukho.domain.member.Member;
+import com.sssukho.domain.member.ReactiveMemberRepository;
+import com.sssukho.infra.r2dbc.id.IdSequence;
+import com.sssukho.infra.r2dbc.id.ReactiveBlockIdAllocator;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class R2dbcMemberRepository implements ReactiveMemberRepository {
+
+    private static final String MEMBER_COLUMNS = "id, email, password, name, refresh_token";
+
+    private static final String FIND_BY_EMAIL_QUERY =
+        "SELECT " + MEMBER_COLUMNS + " FROM member WHERE email = :email";
+
+    private static final String FIND_BY_ID_QUERY =
+        "SELECT " + MEMBER_COLUMNS + " FROM member WHERE id = :id";
+
+    private static final String INSERT_MEMBER_QUERY = """
+        INSERT INTO member (id, email, password, name, created_at)
+        VALUES (:id, :email, :password, :name, :createdAt)
+        """;
+
+    private static final String EXISTS_BY_EMAIL_QUERY =
+        "SELECT EXISTS (SELECT 1 FROM member WHERE email = :email)";
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveBlockIdAllocator idAllocator;
+
+    @Override
+    public Mono<Member> findByEmail(String email) {
+        return databaseClient.sql(FIND_BY_EMAIL_QUERY)
+            .bind("email", email)
+            .map(R2dbcMemberRepository::toDomain)
+            .one();
+    }
+
+    @Override
+    public Mono<Member> findById(Long id) {
+        return databaseClient.sql(FIND_BY_ID_QUERY)
+            .bind("id", id)
+            .map(R2dbcMemberRepository::toDomain)
+            .one();
+    }
+
+    @Override
+    public Mono<Member> save(Member member) {
+        return idAllocator.nextId(IdSequence.MEMBER).flatMap(id -> databaseClient
+            .sql(INSERT_MEMBER_QUERY)
+            .bind("id", id)
+            .bind("email", member.getEmail())
+            .bind("password", member.getHashedPassword())
+            .bind("name", member.getName())
+            .bind("createdAt", LocalDateTime.now())
+            .fetch().rowsUpdated()
+            .thenReturn(Member.createMemberWithId(id, member.getEmail(),
+                member.getHashedPassword(), member.getName(), null)));
+    }
+
+    // EXISTS 결과는 0/1 정수
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return databaseClient.sql(EXISTS_BY_EMAIL_QUERY)
+            .bind("email", email)
+            .map(row -> ((Number) row.get(0)).longValue() == 1)
+            .one();
+    }
+
+    private static Member toDomain(Readable row) {
+        return Member.createMemberWithId(
+            row.get("id", Long.class),
+            row.get("email", String.class),
+            row.get("password", String.class),
+            row.get("name", String.class),
+            row.get("refresh_token", String.class));
+    }
+}
@@ -0,0 +1,281 @@
+package com.sssukho.infra.r2dbc.repository;
+
+import static com.sssukho.infra.r2dbc.repository.R2dbcBinds.bindNullable;
+
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomCursor;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.room.ReactiveRoomRepository;
+import com.sssukho.domain.room.Room;
+import com.sssukho.infra.r2dbc.id.IdSequence;
+import com.sssukho.infra.r2dbc.id.ReactiveBlockIdAllocator;
+import com.sssukho.infra.r2dbc.mapper.RoomRowMapper;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * RoomRepositoryImpl 과 같은 쿼리를 R2DBC 로 실행
+ * - 조회 결과는 DB 에서 읽는 대로 방 단위로 묶어서 전달 (목록을 만들지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcRoomRepository implements ReactiveRoomRepository {
+
+    private static final String ROOM_COLUMNS = """
+        r.id, r.title, r.description, r.address, r.area, r.room_type, r.owner_id,
+        r.created_at, r.updated_at
+        """;
+
+    // RoomRowMapper.toJoinedRow 의 컬럼 이름과 일치해야 함
+    private static final String AGGREGATE_COLUMNS = """
+        r.id AS room_id, r.title, r.description, r.address, r.area, r.room_type, r.owner_id,
+        r.created_at, r.updated_at,
+        d.id AS deal_id, d.deal_type, d.deposit, d.monthly_rent
+        """;
+
+    private static final String INSERT_ROOM_QUERY = """
+        INSERT INTO room (id, title, description, address, area, room_type, owner_id,
+            created_at, updated_at)
+        VALUES (:id, :title, :description, :address, :area, :roomType, :ownerId,
+            :createdAt, :updatedAt)
+        """;
+
+    private static final String UPDATE_ROOM_QUERY = """
+        UPDATE room SET title = :title, description = :description, address = :address,
+            area = :area, room_type = :roomType, updated_at = :updatedAt
+        WHERE id = :id
+        """;
+
+    private static final String DELETE_ROOM_QUERY = "DELETE FROM room WHERE id = :id";
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveBlockIdAllocator idAllocator;
+
+    @Override
+    public Mono<Room> save(Room roomToSave) {
+        return idAllocator.nextId(IdSequence.ROOM).flatMap(id -> {
+            LocalDateTime now = LocalDateTime.now();
+            GenericExecuteSpec insert = bindRoomColumns(databaseClient.sql(INSERT_ROOM_QUERY),
+                roomToSave)
+                .bind("id", id)
+                .bind("ownerId", roomToSave.getOwnerId())
+                .bind("createdAt", now)
+                .bind("updatedAt", now);
+
+            return insert.fetch().rowsUpdated()
+                .thenReturn(Room.of(id, roomToSave.getTitle(), roomToSave.getDescription(),
+                    roomToSave.getAddress(), roomToSave.getArea(), roomToSave.getRoomTypeDto(),
+                    roomToSave.getOwnerId(), now, now));
+        });
+    }
+
+    @Override
+    public Mono<Room> update(Room roomToUpdate) {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            GenericExecuteSpec update = bindRoomColumns(databaseClient.sql(UPDATE_ROOM_QUERY),
+                roomToUpdate)
+                .bind("id", roomToUpdate.getId())
+                .bind("updatedAt", now);
+
+            Room updatedRoom = Room.of(roomToUpdate.getId(), roomToUpdate.getTitle(),
+                roomToUpdate.getDescription(), roomToUpdate.getAddress(), roomToUpdate.getArea(),
+                roomToUpdate.getRoomTypeDto(), roomToUpdate.getOwnerId(),
+                roomToUpdate.getCreatedAt(), now);
+            return update.fetch().rowsUpdated().thenReturn(updatedRoom);
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long roomId) {
+        return databaseClient.sql(DELETE_ROOM_QUERY)
+            .bind("id", roomId)
+            .then();
+    }
+
+    @Override
+    public Mono<Room> findByIdWithDeals(Long roomId) {
+        String aggregateQuery = "SELECT " + AGGREGATE_COLUMNS + """
+            FROM room r
+            LEFT JOIN deal d ON d.room_id = r.id
+            WHERE r.id = :roomId
+            ORDER BY d.id
+            """;
+
+        return findAggregates(aggregateQuery, Map.of("roomId", roomId)).next();
+    }
+
+    @Override
+    public Flux<Room> findAllByIds(List<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        String aggregateQuery = "SELECT " + AGGREGATE_COLUMNS + """
+            FROM room r
+            LEFT JOIN deal d ON d.room_id = r.id
+            WHERE r.id IN (:roomIds)
+            ORDER BY r.id, d.id
+            """;
+
+        return findAggregates(aggregateQuery, Map.of("roomIds", roomIds));
+    }
+
+    @Override
+    public Flux<Room> findAllByOwnerId(Long ownerId) {
+        String aggregateQuery = "SELECT " + AGGREGATE_COLUMNS + """
+            FROM room r
+            LEFT JOIN deal d ON d.room_id = r.id
+            WHERE r.owner_id = :ownerId
+            ORDER BY r.id, d.id
+            """;
+
+        return findAggregates(aggregateQuery, Map.of("ownerId", ownerId));
+    }
+
+    @Override
+    public Flux<Room> findAllByOwnerId(Long ownerId, RoomCursor cursor, int size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ownerId", ownerId);
+        parameters.put("limit", size);
+
+        String cursorClause = "";
+        if (cursor != null) {
+            cursorClause = """
+                 AND (r.created_at > :cursorCreatedAt
+                      OR (r.created_at = :cursorCreatedAt AND r.id > :cursorId))
+                """;
+            parameters.put("cursorCreatedAt", cursor.createdAt());
+            parameters.put("cursorId", cursor.id());
+        }
+
+        String roomOrder = "r.created_at ASC, r.id ASC";
+        String roomPageQuery = "SELECT " + ROOM_COLUMNS + " FROM room r"
+            + " WHERE r.owner_id = :ownerId " + cursorClause
+            + " ORDER BY " + roomOrder
+            + " LIMIT :limit";
+
+        return findAggregates(joinDealsToRoomPage(roomPageQuery, roomOrder), parameters);
+    }
+
+    @Override
+    public Flux<Room> searchRooms(RoomSearchRequest roomSearchRequest) {
+        // 동적 쿼리 조건 구성
+        Map<String, Object> parameters = new HashMap<>();
+        String whereClause = createWhereClause(roomSearchRequest, parameters);
+
+        // 페이징 조건 (cursor 가 있으면 keyset, 없으면 기존 offset 방식)
+        String pagingClause = "LIMIT :limit";
+        parameters.put("limit", roomSearchRequest.size());
+        if (roomSearchRequest.hasCursor()) {
+            whereClause += """
+                 AND (r.created_at < :cursorCreatedAt
+                      OR (r.created_at = :cursorCreatedAt AND r.id < :cursorId))
+                """;
+            parameters.put("cursorCreatedAt", roomSearchRequest.cursor().createdAt());
+            parameters.put("cursorId", roomSearchRequest.cursor().id());
+        } else {
+            pagingClause += " OFFSET :offset";
+            parameters.put("offset", roomSearchRequest.page() * roomSearchRequest.size());
+        }
+
+        // deal 조건은 EXISTS 로 평가하여 DISTINCT 없이 idx_room_created_at_desc 순서대로 읽고 LIMIT 에서 멈춤
+        String roomOrder = "r.created_at DESC, r.id DESC";
+        String roomPageQuery = "SELECT " + ROOM_COLUMNS + " FROM room r"
+            + whereClause
+            + " ORDER BY " + roomOrder + " "
+            + pagingClause;
+
+        return findAggregates(joinDealsToRoomPage(roomPageQuery, roomOrder), parameters);
+    }
+
+    /**
+     * 방 한 페이지를 먼저 잘라낸 derived table 에 거래를 조인하여 한 번의 조회로 방과 거래를 함께 가져옴
+     */
+    private static String joinDealsToRoomPage(String roomPageQuery, String roomOrder) {
+        return "SELECT " + AGGREGATE_COLUMNS
+            + " FROM (" + roomPageQuery + ") r"
+            + " LEFT JOIN deal d ON d.room_id = r.id"
+            + " ORDER BY " + roomOrder + ", d.id";
+    }
+
+    /**
+     * 방/거래 조인 결과를 읽는 대로 방 단위로 묶음
+     * - 쿼리는 같은 방의 행이 연속되도록 정렬되어 있어야 함
+     */
+    private Flux<Room> findAggregates(String aggregateQuery, Map<String, Object> parameters) {
+        GenericExecuteSpec query = databaseClient.sql(aggregateQuery);
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            query = query.bind(parameter.getKey(), parameter.getValue());
+        }
+
+        return RoomRowMapper.toAggregates(query.map(RoomRowMapper::toJoinedRow).all());
+    }
+
+    private static GenericExecuteSpec bindRoomColumns(GenericExecuteSpec spec, Room room) {
+        GenericExecuteSpec bound = spec
+            .bind("title", room.getTitle())
+            .bind("address", room.getAddress())
+            .bind("roomType", room.getRoomTypeDto().name());
+        bound = bindNullable(bound, "description", room.getDescription(), String.class);
+        return bindNullable(bound, "area", room.getArea(), Double.class);
+    }
+
+    private static String createWhereClause(RoomSearchRequest request,
+        Map<String, Object> parameters) {
+        StringBuilder whereClause = new StringBuilder(" WHERE 1=1 ");
+
+        // 방 유형 IN 조건
+        if (request.roomTypes() != null && !request.roomTypes().isEmpty()) {
+            whereClause.append(" AND r.room_type IN (:roomTypes) ");
+            parameters.put("roomTypes",
+                request.roomTypes().stream().map(RoomTypeDto::name).toList());
+        }
+
+        // 거래 조건 - 하나의 deal 이 모든 조건을 만족해야 함
+        whereClause.append(" AND EXISTS (SELECT 1 FROM deal d WHERE d.room_id = r.id ");
+
+        // 거래 유형 IN 조건
+        if (request.dealTypes() != null && !request.dealTypes().isEmpty()) {
+            whereClause.append(" AND d.deal_type IN (:dealTypes) ");
+            parameters.put("dealTypes",
+                request.dealTypes().stream().map(DealTypeDto::name).toList());
+        }
+
+        // 보증금 최소값 조건
+        if (request.minDeposit() != null) {
+            whereClause.append(" AND d.deposit >= :minDeposit ");
+            parameters.put("minDeposit", request.minDeposit());
+        }
+
+        // 보증금 최대값 조건
+        if (request.maxDeposit() != null) {
+            whereClause.append(" AND d.deposit <= :maxDeposit ");
+            parameters.put("maxDeposit", request.maxDeposit());
+        }
+
+        // 월세 최소값 조건
+        if (request.minMonthlyRent() != null) {
+            whereClause.append(" AND d.monthly_rent >= :minMonthlyRent ");
+            parameters.put("minMonthlyRent", request.minMonthlyRent());
+        }
+
+        // 월세 최대값 조건
+        if (request.maxMonthlyRent() != null) {
+            whereClause.append(" AND d.monthly_rent <= :maxMonthlyRent ");
+            parameters.put("maxMonthlyRent", request.maxMonthlyRent());
+        }
+
+        whereClause.append(") ");
+        return whereClause.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.sssukho.infra.r2dbc.token;
+
+import com.sssukho.domain.token.ReactiveRefreshTokenRepository;
+import com.sssukho.domain.token.RefreshToken;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+/**
+ * refresh_token 테이블 기반 저장소 (JdbcRefreshTokenRepository 와 같은 테이블/쿼리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcRefreshTokenRepository implements ReactiveRefreshTokenRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO refresh_token (token_hash, member_id, expires_at, created_at) "
+            + "VALUES (:tokenHash, :memberId, :expiresAt, :createdAt)";
+    private static final String DELETE_VALID_SQL =
+        "DELETE FROM refresh_token WHERE token_hash = :tokenHash AND expires_at > :now";
+    private static final String DELETE_SQL =
+        "DELETE FROM refresh_token WHERE token_hash = :tokenHash";
+    private static final String DELETE_BY_MEMBER_ID_SQL =
+        "DELETE FROM refresh_token WHERE member_id = :memberId";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> save(RefreshToken refreshToken) {
+        return databaseClient.sql(INSERT_SQL)
+            .bind("tokenHash", refreshToken.getTokenHash())
+            .bind("memberId", refreshToken.getMemberId())
+            .bind("expiresAt", refreshToken.getExpiresAt())
+            .bind("createdAt", refreshToken.getCreatedAt())
+            .then();
+    }
+
+    /**
+     * 삭제된 행이 있을 때만 새 토큰을 저장
+     * - DELETE 가 행 잠금을 잡으므로 같은 토큰으로 동시에 요청하면 한쪽만 1건 삭제에 성공
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<Boolean> rotate(String tokenHashToReplace, RefreshToken newRefreshToken,
+        LocalDateTime now) {
+        return databaseClient.sql(DELETE_VALID_SQL)
+            .bind("tokenHash", tokenHashToReplace)
+            .bind("now", now)
+            .fetch().rowsUpdated()
+            .flatMap(deleted -> deleted == 0
+                ? Mono.just(false)
+                : save(newRefreshToken).thenReturn(true));
+    }
+
+    @Override
+    public Mono<Void> delete(String tokenHash) {
+        return databaseClient.sql(DELETE_SQL)
+            .bind("tokenHash", tokenHash)
+            .then();
+    }
+
+    @Override
+    public Mono<Long> deleteAllByMemberId(Long memberId) {
+        return databaseClient.sql(DELETE_BY_MEMBER_ID_SQL)
+            .bind("memberId", memberId)
+            .fetch().rowsUpdated();
+    }
+}
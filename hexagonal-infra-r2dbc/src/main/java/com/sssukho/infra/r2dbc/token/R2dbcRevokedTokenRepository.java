@@ -0,0 +1,64 @@
+package com.sssukho.infra.r2dbc.token;
+
+import com.sssukho.domain.token.ReactiveRevokedTokenRepository;
+import com.sssukho.domain.token.RevokedToken;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * revoked_token 테이블 기반 저장소
+ * - blocking API 노드와 같은 테이블을 읽으므로 어느 쪽에서 폐기해도 모든 노드에 반영됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcRevokedTokenRepository implements ReactiveRevokedTokenRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT IGNORE INTO revoked_token (token_id, expires_at, revoked_at) "
+            + "VALUES (:tokenId, :expiresAt, :revokedAt)";
+    private static final String SELECT_NOT_EXPIRED_SQL =
+        "SELECT token_id, expires_at, revoked_at FROM revoked_token WHERE expires_at > :now";
+    private static final String SELECT_REVOKED_SINCE_SQL =
+        "SELECT token_id, expires_at, revoked_at FROM revoked_token "
+            + "WHERE revoked_at >= :since AND expires_at > :now";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> save(RevokedToken revokedToken) {
+        return databaseClient.sql(INSERT_SQL)
+            .bind("tokenId", revokedToken.getTokenId())
+            .bind("expiresAt", revokedToken.getExpiresAt())
+            .bind("revokedAt", revokedToken.getRevokedAt())
+            .then();
+    }
+
+    @Override
+    public Flux<RevokedToken> findAllNotExpired(LocalDateTime now) {
+        return databaseClient.sql(SELECT_NOT_EXPIRED_SQL)
+            .bind("now", now)
+            .map(R2dbcRevokedTokenRepository::toDomain)
+            .all();
+    }
+
+    @Override
+    public Flux<RevokedToken> findAllRevokedSince(LocalDateTime since, LocalDateTime now) {
+        return databaseClient.sql(SELECT_REVOKED_SINCE_SQL)
+            .bind("since", since)
+            .bind("now", now)
+            .map(R2dbcRevokedTokenRepository::toDomain)
+            .all();
+    }
+
+    private static RevokedToken toDomain(Readable row) {
+        return RevokedToken.of(
+            row.get("token_id", String.class),
+            row.get("expires_at", LocalDateTime.class),
+            row.get("revoked_at", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,65 @@
+package com.sssukho.infra.r2dbc.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.room.Room;
+import com.sssukho.infra.r2dbc.mapper.RoomRowMapper.JoinedRow;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class RoomRowMapperTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @DisplayName("연속된 조인 행을 방 단위로 묶어 거래를 채운다.")
+    @Test
+    void testGroupJoinedRowsByRoom() {
+        // given
+        Flux<JoinedRow> joinedRows = Flux.just(
+            row(1L, deal(10L, 1L)),
+            row(1L, deal(11L, 1L)),
+            row(2L, null),
+            row(3L, deal(12L, 3L)));
+
+        // when
+        Flux<Room> rooms = RoomRowMapper.toAggregates(joinedRows);
+
+        // then
+        StepVerifier.create(rooms)
+            .assertNext(room -> assertRoom(room, 1L, List.of(10L, 11L)))
+            .assertNext(room -> assertRoom(room, 2L, List.of()))
+            .assertNext(room -> assertRoom(room, 3L, List.of(12L)))
+            .verifyComplete();
+    }
+
+    @DisplayName("조인 행이 없으면 방도 없다.")
+    @Test
+    void testEmptyJoinedRows() {
+        StepVerifier.create(RoomRowMapper.toAggregates(Flux.empty()))
+            .verifyComplete();
+    }
+
+    private static void assertRoom(Room room, Long roomId, List<Long> dealIds) {
+        assertEquals(roomId, room.getId());
+        assertEquals(dealIds, room.getDeals().stream().map(Deal::getId).toList());
+    }
+
+    private static JoinedRow row(Long roomId, Deal deal) {
+        Room room = Room.of(roomId, "방" + roomId, null, "주소", null, RoomTypeDto.ONE_ROOM, 1L,
+            BASE_TIME, BASE_TIME);
+        return new JoinedRow(room, deal);
+    }
+
+    private static Deal deal(Long dealId, Long roomId) {
+        return Deal.of(dealId, DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(10_000_000),
+            BigDecimal.valueOf(500_000), roomId);
+    }
+}
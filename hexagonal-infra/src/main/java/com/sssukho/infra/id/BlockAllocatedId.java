@@ -0,0 +1,18 @@
+package com.sssukho.infra.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * BlockIdAllocator 로 id 를 발급받는 엔티티 식별자
+ */
+@IdGeneratorType(BlockAllocatedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface BlockAllocatedId {
+
+    IdSequence value();
+}
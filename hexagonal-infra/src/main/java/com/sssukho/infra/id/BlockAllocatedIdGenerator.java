@@ -0,0 +1,45 @@
+package com.sssukho.infra.id;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.GeneratorCreationContext;
+
+/**
+ * Hibernate 가 INSERT 전에 호출하는 id 생성기
+ * - 할당기는 IdAllocationConfig 가 Hibernate 설정(ALLOCATOR_SETTING)으로 넘겨줌
+ */
+public class BlockAllocatedIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String ALLOCATOR_SETTING = "com.sssukho.infra.id.allocator";
+
+    private final IdSequence sequence;
+    private final BlockIdAllocator allocator;
+
+    public BlockAllocatedIdGenerator(BlockAllocatedId config, Member idMember,
+        GeneratorCreationContext context) {
+        this.sequence = config.value();
+        this.allocator = (BlockIdAllocator) context.getServiceRegistry()
+            .requireService(ConfigurationService.class)
+            .getSettings()
+            .get(ALLOCATOR_SETTING);
+
+        if (allocator == null) {
+            throw new IllegalStateException(ALLOCATOR_SETTING + " 설정이 없습니다.");
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner,
+        Object currentValue, EventType eventType) {
+        return allocator.nextId(sequence);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+}
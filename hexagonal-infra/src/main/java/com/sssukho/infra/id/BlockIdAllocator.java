@@ -0,0 +1,159 @@
+package com.sssukho.infra.id;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * hi-lo 방식 id 할당기
+ * - id_sequence 테이블에서 blockSize 만큼의 구간을 한번에 가져와서 메모리에서 순서대로 발급
+ * - IDENTITY 와 달리 INSERT 전에 id 가 정해지므로 JDBC batch 를 사용할 수 있음
+ * - 구간은 증가하는 순서로 할당되므로 id 는 대략 생성 순서를 따름 (인스턴스가 여럿이면 구간 단위로 섞임)
+ * - 구간 할당은 현재 트랜잭션과 별개의 커넥션에서 바로 커밋되므로, 롤백되어도 id 는 재사용되지 않음
+ * - 할당용 커넥션은 애플리케이션 풀과 분리된 전용 DataSource 에서 가져옴
+ *   (트랜잭션이 커넥션을 쥔 채 같은 풀에서 하나 더 기다리면 풀이 고갈될 때 서로를 기다리게 됨)
+ * - 전용 DataSource 는 커넥션 하나만 두므로 구간 할당은 시퀀스와 상관없이 한번에 하나씩만 수행
+ * - 구간 할당 중에는 DB I/O 를 기다리므로 synchronized 대신 ReentrantLock 사용
+ *   (synchronized 안에서 대기하면 virtual thread 가 carrier thread 를 붙잡음)
+ */
+@Slf4j
+public class BlockIdAllocator implements AutoCloseable {
+
+    private static final String INITIALIZE_SEQUENCE_QUERY = """
+        INSERT IGNORE INTO id_sequence (name, next_val)
+        SELECT ?, COALESCE(MAX(id), 0) + 1 FROM %s
+        """;
+
+    // LAST_INSERT_ID(expr) 는 커넥션 단위로 값을 기억하므로 UPDATE 한번으로 원자적으로 구간을 가져올 수 있음
+    private static final String ALLOCATE_BLOCK_QUERY = """
+        UPDATE id_sequence SET next_val = LAST_INSERT_ID(next_val + ?) WHERE name = ?
+        """;
+
+    private final DataSource dataSource;
+    private final int blockSize;
+    private final Map<IdSequence, Block> blocks = new EnumMap<>(IdSequence.class);
+    private final ReentrantLock allocationLock = new ReentrantLock();
+
+    /**
+     * @param dataSource 구간 할당 전용 DataSource (애플리케이션 트랜잭션이 쓰는 풀과 분리)
+     */
+    public BlockIdAllocator(DataSource dataSource, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        this.dataSource = dataSource;
+        this.blockSize = blockSize;
+        for (IdSequence sequence : IdSequence.values()) {
+            blocks.put(sequence, new Block());
+        }
+    }
+
+    public long nextId(IdSequence sequence) {
+        Block block = blocks.get(sequence);
+        block.lock.lock();
+        try {
+            if (block.isExhausted()) {
+                block.reset(allocateBlock(sequence, block));
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    /**
+     * count 개의 id 를 발급 (구간 경계를 넘으면 새 구간에서 이어서 발급)
+     */
+    public List<Long> nextIds(IdSequence sequence, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        Block block = blocks.get(sequence);
+        block.lock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (block.isExhausted()) {
+                    block.reset(allocateBlock(sequence, block));
+                }
+                ids.add(block.next++);
+            }
+        } finally {
+            block.lock.unlock();
+        }
+        return ids;
+    }
+
+    private long allocateBlock(IdSequence sequence, Block block) {
+        allocationLock.lock();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            if (!block.initialized) {
+                initialize(connection, sequence);
+                block.initialized = true;
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(ALLOCATE_BLOCK_QUERY)) {
+                statement.setInt(1, blockSize);
+                statement.setString(2, sequence.tableName());
+                statement.executeUpdate();
+            }
+
+            try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                resultSet.next();
+                long blockEnd = resultSet.getLong(1);
+                log.debug("{} id 구간 할당 [{}, {})", sequence.tableName(), blockEnd - blockSize,
+                    blockEnd);
+                return blockEnd;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException(
+                sequence.tableName() + " id 구간 할당에 실패했습니다.", e);
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    /**
+     * 전용 DataSource 를 닫음 (빈 소멸 시 호출)
+     */
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void initialize(Connection connection, IdSequence sequence) throws SQLException {
+        String query = String.format(INITIALIZE_SEQUENCE_QUERY, sequence.tableName());
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, sequence.tableName());
+            statement.executeUpdate();
+        }
+    }
+
+    private class Block {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long end;
+        private boolean initialized;
+
+        boolean isExhausted() {
+            return next >= end;
+        }
+
+        void reset(long blockEnd) {
+            this.next = blockEnd - blockSize;
+            this.end = blockEnd;
+        }
+    }
+}
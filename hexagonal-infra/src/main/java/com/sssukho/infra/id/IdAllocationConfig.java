@@ -0,0 +1,41 @@
+package com.sssukho.infra.id;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdAllocationConfig {
+
+    private static final String ALLOCATOR_POOL_NAME = "id-allocator";
+
+    /**
+     * 구간 할당은 애플리케이션 풀과 분리된 커넥션 하나짜리 풀을 사용
+     * - DataSource 빈으로 등록하지 않으므로 기본 DataSource 자동 설정과 커넥션 semaphore 에 영향을 주지 않음
+     * - 풀은 할당기 빈이 소멸될 때 함께 닫힘
+     */
+    @Bean
+    public BlockIdAllocator blockIdAllocator(DataSourceProperties dataSourceProperties,
+        IdAllocationProperties properties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName(ALLOCATOR_POOL_NAME);
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setMinimumIdle(1);
+        dataSource.setAutoCommit(true);
+        return new BlockIdAllocator(dataSource, properties.blockSize());
+    }
+
+    /**
+     * 엔티티 id 생성기와 JDBC batch 저장이 같은 할당기를 쓰도록 Hibernate 설정으로 전달
+     */
+    @Bean
+    public HibernatePropertiesCustomizer blockIdAllocatorHibernateCustomizer(
+        BlockIdAllocator blockIdAllocator) {
+        return hibernateProperties -> hibernateProperties.put(
+            BlockAllocatedIdGenerator.ALLOCATOR_SETTING, blockIdAllocator);
+    }
+}
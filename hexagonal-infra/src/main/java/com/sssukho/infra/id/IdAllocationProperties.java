@@ -0,0 +1,10 @@
+package com.sssukho.infra.id;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "infra.id")
+public record IdAllocationProperties(
+    int blockSize
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.sssukho.infra.id;
+
+/**
+ * id_sequence 테이블에서 관리하는 sequence
+ * - 처음 사용할 때 대상 테이블의 MAX(id) + 1 부터 시작
+ */
+public enum IdSequence {
+    ROOM("room"),
+    DEAL("deal"),
+    MEMBER("member");
+
+    private final String tableName;
+
+    IdSequence(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+}
@@ -0,0 +1,35 @@
+package com.sssukho.infra.rdb.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * virtual thread 모드에서는 DataSource 앞에 커넥션 풀 크기만큼의 semaphore 를 둠
+ * - platform thread 모드에서는 Tomcat 스레드 수가 이미 동시 접근을 제한하므로 적용하지 않음
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionLimitConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConnections,
+        @Value("${infra.datasource.acquire-timeout-ms:5000}") long acquireTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                    && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource(dataSource, maxConnections,
+                        acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
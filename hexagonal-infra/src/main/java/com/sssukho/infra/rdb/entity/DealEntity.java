@@ -2,12 +2,12 @@ package com.sssukho.infra.rdb.entity;
 
 import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
 import com.sssukho.common.exception.CustomException;
+import com.sssukho.infra.id.BlockAllocatedId;
+import com.sssukho.infra.id.IdSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
@@ -23,7 +23,7 @@ import lombok.NoArgsConstructor;
 @Getter
 public class DealEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockAllocatedId(IdSequence.DEAL)
     private Long id;
 
     @Enumerated(EnumType.STRING)
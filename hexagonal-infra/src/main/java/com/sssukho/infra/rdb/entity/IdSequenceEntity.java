@@ -0,0 +1,25 @@
+package com.sssukho.infra.rdb.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * id_sequence 테이블 스키마 정의 (ddl-auto 용)
+ * - 실제 조회/갱신은 BlockIdAllocator 가 JDBC 로 수행
+ */
+@Entity
+@Table(name = "id_sequence")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdSequenceEntity {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "next_val", nullable = false)
+    private Long nextVal;
+}
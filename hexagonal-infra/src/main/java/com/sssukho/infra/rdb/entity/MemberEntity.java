@@ -1,9 +1,9 @@
 package com.sssukho.infra.rdb.entity;
 
+import com.sssukho.infra.id.BlockAllocatedId;
+import com.sssukho.infra.id.IdSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
@@ -18,7 +18,7 @@ import lombok.NoArgsConstructor;
 @Getter
 public class MemberEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockAllocatedId(IdSequence.MEMBER)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -0,0 +1,36 @@
+package com.sssukho.infra.rdb.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * refresh_token 테이블 스키마 정의 (ddl-auto 용)
+ * - 실제 조회/갱신은 JdbcRefreshTokenRepository 가 JDBC 로 수행
+ */
+@Entity
+@Table(name = "refresh_token", indexes = {
+    @Index(name = "idx_refresh_token_member_id", columnList = "member_id"),
+    @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshTokenEntity {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,33 @@
+package com.sssukho.infra.rdb.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * revoked_token 테이블 스키마 정의 (ddl-auto 용)
+ * - 실제 조회/갱신은 JdbcRevokedTokenRepository 가 JDBC 로 수행
+ */
+@Entity
+@Table(name = "revoked_token", indexes = {
+    @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"),
+    @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedTokenEntity {
+
+    @Id
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
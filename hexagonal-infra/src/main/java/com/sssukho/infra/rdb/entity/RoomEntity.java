@@ -4,12 +4,12 @@ package com.sssukho.infra.rdb.entity;
 import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
 import com.sssukho.common.exception.CustomException;
 import com.sssukho.domain.room.Room;
+import com.sssukho.infra.id.BlockAllocatedId;
+import com.sssukho.infra.id.IdSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -25,7 +25,7 @@ import lombok.NoArgsConstructor;
 @Getter
 public class RoomEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockAllocatedId(IdSequence.ROOM)
     private Long id;
 
     @Column(nullable = false)
@@ -72,7 +72,12 @@ public class RoomEntity {
         return new RoomEntity(title, description, address, area, roomType, ownerId);
     }
 
+    /**
+     * 거래만 바뀌는 경우에도 ETag 가 달라지도록 항상 updatedAt 을 갱신
+     */
     public void update(Room roomDomainToUpdate) {
+        this.updatedAt = LocalDateTime.now();
+
         if (roomDomainToUpdate.getTitle() != null) {
             this.title = roomDomainToUpdate.getTitle();
         }
@@ -7,6 +7,8 @@ import com.sssukho.common.dto.room.RoomUpdateRequest.DealUpdateRequest;
 import com.sssukho.domain.deal.Deal;
 import com.sssukho.infra.rdb.entity.DealEntity;
 import com.sssukho.infra.rdb.entity.DealEntity.DealType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 public class DealMapper {
@@ -38,6 +40,30 @@ public class DealMapper {
         return entities.stream().map(DealMapper::toDomain).toList();
     }
 
+    /**
+     * native query 행에서 offset 부터 deal_id, deal_type, deposit, monthly_rent 순서로 읽어 변환
+     */
+    public static Deal toDomainFromRow(Object[] row, int offset, Long roomId) {
+        Long id = ((Number) row[offset]).longValue();
+        DealTypeDto dealTypeDto = DealTypeDto.valueOf((String) row[offset + 1]);
+        BigDecimal deposit = (BigDecimal) row[offset + 2];
+        BigDecimal monthlyRent = (BigDecimal) row[offset + 3];
+        return Deal.of(id, dealTypeDto, deposit, monthlyRent, roomId);
+    }
+
+    /**
+     * 저장 후 생성된 id 를 순서대로 붙여 변환
+     */
+    public static List<Deal> toDomainsWithIds(List<Deal> domains, List<Long> ids) {
+        List<Deal> result = new ArrayList<>(domains.size());
+        for (int i = 0; i < domains.size(); i++) {
+            Deal domain = domains.get(i);
+            result.add(Deal.of(ids.get(i), domain.getDealTypeDto(), domain.getDeposit(),
+                domain.getMonthlyRent(), domain.getRoomId()));
+        }
+        return result;
+    }
+
     private static Deal toDomain(DealRegistrationRequest request, Long roomId) {
         return Deal.of(request.dealType(), request.deposit(), request.monthlyRent(), roomId);
     }
@@ -3,13 +3,22 @@ package com.sssukho.infra.rdb.mapper;
 
 import com.sssukho.common.dto.room.RoomRegistrationRequest;
 import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.deal.Deal;
 import com.sssukho.domain.room.Room;
 import com.sssukho.infra.rdb.entity.RoomEntity;
 import com.sssukho.infra.rdb.entity.RoomEntity.RoomType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class RoomMapper {
 
+    private static final int DEAL_COLUMN_OFFSET = 9;
+
     public static RoomEntity toEntity(Room domain) {
         return RoomEntity.of(domain.getTitle(), domain.getDescription(), domain.getAddress(),
             domain.getArea(), RoomType.from(domain.getRoomTypeDto().name()), domain.getOwnerId());
@@ -26,12 +35,70 @@ public class RoomMapper {
             request.area(), request.roomType(), ownerId, null, null);
     }
 
+    /**
+     * 저장 후 생성된 id 와 저장 시각을 붙여 변환
+     */
+    public static List<Room> toDomainsWithIds(List<Room> domains, List<Long> ids,
+        LocalDateTime savedAt) {
+        List<Room> result = new ArrayList<>(domains.size());
+        for (int i = 0; i < domains.size(); i++) {
+            Room domain = domains.get(i);
+            result.add(Room.of(ids.get(i), domain.getTitle(), domain.getDescription(),
+                domain.getAddress(), domain.getArea(), domain.getRoomTypeDto(),
+                domain.getOwnerId(), savedAt, savedAt));
+        }
+        return result;
+    }
+
     public static List<Room> toDomains(List<RoomEntity> foundRoomEntities) {
         return foundRoomEntities.stream().map(RoomMapper::toDomain).toList();
     }
 
-    public static List<Room> toDomainsFromNativeQueryList(List<Object[]> dataQueryResults) {
-        return dataQueryResults.stream().map(RoomMapper::toDomainFromRow).toList();
+    /**
+     * 방/거래 조인 행을 방 단위로 묶어 거래가 포함된 Room 으로 변환
+     * - 같은 방의 행은 연속되어 있어야 하며, 행의 컬럼 순서는 다음과 같음
+     *   room_id, title, description, address, area, room_type, owner_id, created_at, updated_at,
+     *   deal_id, deal_type, deposit, monthly_rent
+     */
+    public static List<Room> toAggregatesFromJoinedRows(Stream<Object[]> joinedRows) {
+        List<Room> rooms = new ArrayList<>();
+        forEachAggregateFromJoinedRows(joinedRows, rooms::add);
+        return rooms;
+    }
+
+    /**
+     * toAggregatesFromJoinedRows 와 같지만 목록을 만들지 않고 거래가 모두 채워진 방을 하나씩 전달
+     * - 다음 방의 첫 행(또는 마지막 행)을 읽은 시점에 이전 방을 전달
+     */
+    public static void forEachAggregateFromJoinedRows(Stream<Object[]> joinedRows,
+        Consumer<Room> action) {
+        Room currentRoom = null;
+        List<Deal> dealsInCurrentRoom = new ArrayList<>();
+
+        Iterator<Object[]> rowIterator = joinedRows.iterator();
+        while (rowIterator.hasNext()) {
+            Object[] row = rowIterator.next();
+            Long roomId = ((Number) row[0]).longValue();
+
+            if (currentRoom == null || !currentRoom.getId().equals(roomId)) {
+                if (currentRoom != null) {
+                    currentRoom.setDeals(dealsInCurrentRoom);
+                    action.accept(currentRoom);
+                }
+                currentRoom = toDomainFromRow(row);
+                dealsInCurrentRoom = new ArrayList<>();
+            }
+
+            // LEFT JOIN 이므로 거래가 없는 방은 거래 컬럼이 null
+            if (row[DEAL_COLUMN_OFFSET] != null) {
+                dealsInCurrentRoom.add(DealMapper.toDomainFromRow(row, DEAL_COLUMN_OFFSET, roomId));
+            }
+        }
+
+        if (currentRoom != null) {
+            currentRoom.setDeals(dealsInCurrentRoom);
+            action.accept(currentRoom);
+        }
     }
 
     private static Room toDomainFromRow(Object[] row) {
@@ -42,9 +109,19 @@ public class RoomMapper {
         Double area = row[4] != null ? ((Number) row[4]).doubleValue() : null;
         String roomTypeStr = (String) row[5];
         RoomTypeDto roomTypeDto = RoomTypeDto.valueOf(roomTypeStr);
-        Long ownerId = ((Number) row[0]).longValue();
+        Long ownerId = ((Number) row[6]).longValue();
+        LocalDateTime createdAt = toLocalDateTime(row[7]);
+        LocalDateTime updatedAt = toLocalDateTime(row[8]);
+
+        return Room.of(id, title, description, address, area, roomTypeDto, ownerId, createdAt,
+            updatedAt);
+    }
 
-        return Room.of(id, title, description, address, area, roomTypeDto, ownerId, null, null);
+    private static LocalDateTime toLocalDateTime(Object column) {
+        if (column instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) column;
     }
 
 
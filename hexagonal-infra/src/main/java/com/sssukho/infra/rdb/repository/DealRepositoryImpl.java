@@ -3,23 +3,73 @@ package com.sssukho.infra.rdb.repository;
 
 import com.sssukho.domain.deal.Deal;
 import com.sssukho.domain.deal.DealRepository;
+import com.sssukho.infra.id.BlockIdAllocator;
+import com.sssukho.infra.id.IdSequence;
 import com.sssukho.infra.rdb.entity.DealEntity;
 import com.sssukho.infra.rdb.mapper.DealMapper;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class DealRepositoryImpl implements DealRepository {
 
+    private static final String INSERT_DEAL_QUERY = """
+        INSERT INTO deal (id, deal_type, deposit, monthly_rent, room_id, created_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String UPDATE_DEAL_PRICE_QUERY = """
+        UPDATE deal SET deposit = ?, monthly_rent = ? WHERE id = ?
+        """;
+
     private final DealJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockIdAllocator idAllocator;
+
+    /**
+     * JDBC batch 로 한번에 저장
+     * - 엔티티/도메인 변환 없이 바로 multi-row INSERT
+     */
+    @Override
+    public List<Deal> saveAll(List<Deal> dealsToRegister) {
+        if (dealsToRegister.isEmpty()) {
+            return List.of();
+        }
+
+        // 쓰기 지연된 JPA 변경(기존 deal 삭제 등)을 먼저 반영해서 실행 순서를 보장
+        jpaRepository.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = JdbcBatchInserts.insertWithAllocatedIds(jdbcTemplate, idAllocator,
+            IdSequence.DEAL, INSERT_DEAL_QUERY, dealsToRegister, (statement, id, deal) -> {
+                statement.setLong(1, id);
+                statement.setString(2, deal.getDealTypeDto().name());
+                statement.setBigDecimal(3, deal.getDeposit());
+                JdbcBatchInserts.setNullableDecimal(statement, 4, deal.getMonthlyRent());
+                statement.setLong(5, deal.getRoomId());
+                statement.setObject(6, now);
+            });
+
+        return DealMapper.toDomainsWithIds(dealsToRegister, ids);
+    }
 
     @Override
-    public void saveAll(List<Deal> dealsToRegister) {
-        // TODO: bulk insert 고려
-        List<DealEntity> entitiesToSave = DealMapper.toEntities(dealsToRegister);
-        jpaRepository.saveAll(entitiesToSave);
+    public void updateAll(List<Deal> dealsToUpdate) {
+        if (dealsToUpdate.isEmpty()) {
+            return;
+        }
+
+        jpaRepository.flush();
+        jdbcTemplate.batchUpdate(UPDATE_DEAL_PRICE_QUERY, dealsToUpdate, dealsToUpdate.size(),
+            (statement, deal) -> {
+                statement.setBigDecimal(1, deal.getDeposit());
+                JdbcBatchInserts.setNullableDecimal(statement, 2, deal.getMonthlyRent());
+                statement.setLong(3, deal.getId());
+            });
     }
 
     @Override
@@ -27,6 +77,14 @@ public class DealRepositoryImpl implements DealRepository {
         jpaRepository.deleteAllByRoomId(roomIdToDelete);
     }
 
+    @Override
+    public void deleteAllByIds(List<Long> dealIdsToDelete) {
+        if (dealIdsToDelete.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteAllByIdInBatch(dealIdsToDelete);
+    }
+
     @Override
     public List<Deal> findByRoomIdIn(List<Long> roomIdsToFind) {
         List<DealEntity> foundEntities = jpaRepository.findByRoomIdIn(roomIdsToFind);
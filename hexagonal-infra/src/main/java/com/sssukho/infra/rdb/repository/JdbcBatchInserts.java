@@ -0,0 +1,63 @@
+package com.sssukho.infra.rdb.repository;
+
+import com.sssukho.infra.id.BlockIdAllocator;
+import com.sssukho.infra.id.IdSequence;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JDBC batch INSERT
+ * - id 를 BlockIdAllocator 로 미리 발급받아 INSERT 하므로 생성 키를 다시 읽을 필요가 없음
+ * - rewriteBatchedStatements=true 로 multi-row INSERT 로 전송됨
+ */
+final class JdbcBatchInserts {
+
+    private JdbcBatchInserts() {
+    }
+
+    /**
+     * 발급한 id 를 저장 순서대로 반환
+     * - setter 는 첫 번째 파라미터에 id 를 바인딩해야 함
+     */
+    static <T> List<Long> insertWithAllocatedIds(JdbcTemplate jdbcTemplate,
+        BlockIdAllocator idAllocator, IdSequence sequence, String insertQuery, List<T> rows,
+        RowWithIdSetter<T> setter) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = idAllocator.nextIds(sequence, rows.size());
+        jdbcTemplate.batchUpdate(insertQuery, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                setter.setValues(statement, ids.get(i), rows.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        return ids;
+    }
+
+    static void setNullableDecimal(PreparedStatement statement, int index, BigDecimal value)
+        throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.DECIMAL);
+        } else {
+            statement.setBigDecimal(index, value);
+        }
+    }
+
+    @FunctionalInterface
+    interface RowWithIdSetter<T> {
+
+        void setValues(PreparedStatement statement, long id, T row) throws SQLException;
+    }
+}
@@ -24,6 +24,14 @@ public class MemberRepositoryImpl implements MemberRepository {
         return MemberMapper.toDomain(foundMemberEntity);
     }
 
+    @Override
+    public Member findById(Long id) {
+        MemberEntity foundMemberEntity = jpaRepository.findById(id)
+            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
+
+        return MemberMapper.toDomain(foundMemberEntity);
+    }
+
     @Override
     public Member save(Member member) {
         MemberEntity memberEntityToSave = MemberMapper.toEntity(member);
@@ -35,13 +43,4 @@ public class MemberRepositoryImpl implements MemberRepository {
     public boolean existsByEmail(String email) {
         return jpaRepository.existsByEmail(email);
     }
-
-    @Override
-    public Member updateRefreshToken(String email, String refreshToken) {
-        MemberEntity memberEntity = jpaRepository.findByEmail(email)
-            .orElseThrow(() -> new CustomException(ErrorCode.UNAUTHORIZED));
-
-        memberEntity.updateRefreshToken(refreshToken);
-        return MemberMapper.toDomain(memberEntity);
-    }
 }
@@ -2,10 +2,34 @@ package com.sssukho.infra.rdb.repository;
 
 
 import com.sssukho.infra.rdb.entity.RoomEntity;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RoomJpaRepository extends JpaRepository<RoomEntity, Long> {
 
     List<RoomEntity> findAllByOwnerId(long ownerId);
+
+    List<RoomEntity> findAllByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @Query("SELECT r.id FROM RoomEntity r")
+    List<Long> findAllIds();
+
+    /**
+     * 소유자의 방 중 (updatedAt, id) 가 주어진 위치 이후인 방을 순서대로 조회
+     * - idx_room_owner_id_updated_at (+ PK) 순서대로 읽으므로 정렬 없이 page 크기에서 멈춤
+     */
+    @Query("""
+        SELECT r FROM RoomEntity r
+        WHERE r.ownerId = :ownerId
+          AND (r.updatedAt > :afterUpdatedAt
+               OR (r.updatedAt = :afterUpdatedAt AND r.id > :afterId))
+        ORDER BY r.updatedAt ASC, r.id ASC
+        """)
+    List<RoomEntity> findByOwnerIdUpdatedAfter(@Param("ownerId") long ownerId,
+        @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt, @Param("afterId") long afterId,
+        Pageable pageable);
 }
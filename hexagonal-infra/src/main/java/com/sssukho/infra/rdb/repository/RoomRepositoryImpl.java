@@ -3,27 +3,70 @@ package com.sssukho.infra.rdb.repository;
 
 import com.sssukho.common.dto.common.ErrorResponseMessage.ErrorCode;
 import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomCursor;
 import com.sssukho.common.dto.room.RoomSearchRequest;
 import com.sssukho.common.dto.room.RoomTypeDto;
 import com.sssukho.common.exception.CustomException;
 import com.sssukho.domain.room.Room;
+import com.sssukho.domain.room.RoomCollectionVersion;
 import com.sssukho.domain.room.RoomRepository;
+import com.sssukho.domain.room.RoomVersion;
+import com.sssukho.infra.id.BlockIdAllocator;
+import com.sssukho.infra.id.IdSequence;
 import com.sssukho.infra.rdb.entity.RoomEntity;
 import com.sssukho.infra.rdb.mapper.RoomMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.sql.Types;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class RoomRepositoryImpl implements RoomRepository {
 
+    // MySQL Connector/J 에서 결과를 모두 받지 않고 한 행씩 읽도록 하는 fetch size (streaming result set)
+    private static final int STREAM_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String ROOM_COLUMNS = """
+        r.id, r.title, r.description, r.address, r.area, r.room_type, r.owner_id,
+        r.created_at, r.updated_at
+        """;
+
+    // RoomMapper.toAggregatesFromJoinedRows 의 컬럼 순서와 일치해야 함
+    private static final String AGGREGATE_COLUMNS = """
+        r.id AS room_id, r.title, r.description, r.address, r.area, r.room_type, r.owner_id,
+        r.created_at, r.updated_at,
+        d.id AS deal_id, d.deal_type, d.deposit, d.monthly_rent
+        """;
+
+    private static final String INSERT_ROOM_QUERY = """
+        INSERT INTO room (id, title, description, address, area, room_type, owner_id,
+            created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String FIND_VERSION_QUERY = """
+        SELECT owner_id, updated_at FROM room WHERE id = ?
+        """;
+
+    // idx_room_owner_id_updated_at 만 읽음
+    private static final String FIND_COLLECTION_VERSION_QUERY = """
+        SELECT COUNT(*), MAX(updated_at) FROM room WHERE owner_id = ?
+        """;
+
     private final RoomJpaRepository roomJpaRepository;
     private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockIdAllocator idAllocator;
 
     @Override
     public Room save(Room roomDomainToSave) {
@@ -32,6 +75,35 @@ public class RoomRepositoryImpl implements RoomRepository {
         return RoomMapper.toDomain(savedRoomEntity);
     }
 
+    /**
+     * JDBC batch 로 한번에 저장
+     * - 엔티티/도메인 변환 없이 바로 multi-row INSERT
+     */
+    @Override
+    public List<Room> saveAll(List<Room> roomsToSave) {
+        if (roomsToSave.isEmpty()) {
+            return List.of();
+        }
+
+        roomJpaRepository.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = JdbcBatchInserts.insertWithAllocatedIds(jdbcTemplate, idAllocator,
+            IdSequence.ROOM, INSERT_ROOM_QUERY, roomsToSave, (statement, id, room) -> {
+                statement.setLong(1, id);
+                statement.setString(2, room.getTitle());
+                statement.setString(3, room.getDescription());
+                statement.setString(4, room.getAddress());
+                statement.setObject(5, room.getArea(), Types.DOUBLE);
+                statement.setString(6, room.getRoomTypeDto().name());
+                statement.setLong(7, room.getOwnerId());
+                statement.setObject(8, now);
+                statement.setObject(9, now);
+            });
+
+        return RoomMapper.toDomainsWithIds(roomsToSave, ids, now);
+    }
+
     @Override
     public Room findById(Long roomId) {
         RoomEntity foundRoomEntity = roomJpaRepository.findById(roomId)
@@ -52,44 +124,194 @@ public class RoomRepositoryImpl implements RoomRepository {
         return RoomMapper.toDomain(roomEntity);
     }
 
+    @Override
+    public Room findByIdWithDeals(Long roomId) {
+        String aggregateQuery = "SELECT " + AGGREGATE_COLUMNS + """
+            FROM room r
+            LEFT JOIN deal d ON d.room_id = r.id
+            WHERE r.id = :roomId
+            ORDER BY d.id
+            """;
+
+        List<Room> foundRooms = findAggregates(aggregateQuery, Map.of("roomId", roomId));
+        if (foundRooms.isEmpty()) {
+            throw new CustomException(ErrorCode.NOT_FOUND_ROOM);
+        }
+        return foundRooms.get(0);
+    }
+
+    @Override
+    public RoomVersion findVersionById(Long roomId) {
+        List<RoomVersion> versions = jdbcTemplate.query(FIND_VERSION_QUERY,
+            (resultSet, rowNum) -> new RoomVersion(roomId, resultSet.getLong(1),
+                resultSet.getObject(2, LocalDateTime.class)), roomId);
+        if (versions.isEmpty()) {
+            throw new CustomException(ErrorCode.NOT_FOUND_ROOM);
+        }
+        return versions.get(0);
+    }
+
+    @Override
+    public RoomCollectionVersion findCollectionVersionByOwnerId(Long ownerId) {
+        return jdbcTemplate.queryForObject(FIND_COLLECTION_VERSION_QUERY,
+            (resultSet, rowNum) -> new RoomCollectionVersion(resultSet.getLong(1),
+                resultSet.getObject(2, LocalDateTime.class)), ownerId);
+    }
+
     @Override
     public List<Room> findAllByOwnerId(Long ownerId) {
-        List<RoomEntity> foundRoomEntities = roomJpaRepository.findAllByOwnerId(ownerId);
-        return RoomMapper.toDomains(foundRoomEntities);
+        String aggregateQuery = "SELECT " + AGGREGATE_COLUMNS + """
+            FROM room r
+            LEFT JOIN deal d ON d.room_id = r.id
+            WHERE r.owner_id = :ownerId
+            ORDER BY r.id, d.id
+            """;
+
+        return findAggregates(aggregateQuery, Map.of("ownerId", ownerId));
+    }
+
+    @Override
+    public void forEachByOwnerId(Long ownerId, Consumer<Room> action) {
+        String aggregateQuery = "SELECT " + AGGREGATE_COLUMNS + """
+            FROM room r
+            LEFT JOIN deal d ON d.room_id = r.id
+            WHERE r.owner_id = :ownerId
+            ORDER BY r.id, d.id
+            """;
+
+        forEachAggregate(aggregateQuery, Map.of("ownerId", ownerId), action);
+    }
+
+    @Override
+    public List<Room> findAllByIds(List<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        String aggregateQuery = "SELECT " + AGGREGATE_COLUMNS + """
+            FROM room r
+            LEFT JOIN deal d ON d.room_id = r.id
+            WHERE r.id IN (:roomIds)
+            ORDER BY r.id, d.id
+            """;
+
+        return findAggregates(aggregateQuery, Map.of("roomIds", roomIds));
+    }
+
+    @Override
+    public List<Room> findAllByOwnerId(Long ownerId, RoomCursor cursor, int size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ownerId", ownerId);
+        parameters.put("limit", size);
+
+        String cursorClause = "";
+        if (cursor != null) {
+            cursorClause = """
+                 AND (r.created_at > :cursorCreatedAt
+                      OR (r.created_at = :cursorCreatedAt AND r.id > :cursorId))
+                """;
+            parameters.put("cursorCreatedAt", cursor.createdAt());
+            parameters.put("cursorId", cursor.id());
+        }
+
+        String roomOrder = "r.created_at ASC, r.id ASC";
+        String roomPageQuery = "SELECT " + ROOM_COLUMNS + " FROM room r"
+            + " WHERE r.owner_id = :ownerId " + cursorClause
+            + " ORDER BY " + roomOrder
+            + " LIMIT :limit";
+
+        return findAggregates(joinDealsToRoomPage(roomPageQuery, roomOrder), parameters);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public List<Room> searchRooms(RoomSearchRequest roomSearchRequest) {
         // 동적 쿼리 조건 구성
         Map<String, Object> parameters = new HashMap<>();
         String whereClause = createWhereClause(roomSearchRequest, parameters);
 
+        // 페이징 조건 (cursor 가 있으면 keyset, 없으면 기존 offset 방식)
+        String pagingClause = "LIMIT :limit";
+        parameters.put("limit", roomSearchRequest.size());
+        if (roomSearchRequest.hasCursor()) {
+            whereClause += """
+                 AND (r.created_at < :cursorCreatedAt
+                      OR (r.created_at = :cursorCreatedAt AND r.id < :cursorId))
+                """;
+            parameters.put("cursorCreatedAt", roomSearchRequest.cursor().createdAt());
+            parameters.put("cursorId", roomSearchRequest.cursor().id());
+        } else {
+            pagingClause += " OFFSET :offset";
+            parameters.put("offset", roomSearchRequest.page() * roomSearchRequest.size());
+        }
+
         // 데이터 조회 쿼리
-        String dataQuery = """
-            SELECT DISTINCT
-                r.id as room_id,
-                r.title,
-                r.description,
-                r.address,
-                r.area,
-                r.room_type,
-                r.owner_id,
-                r.created_at
-            FROM room r
-            INNER JOIN deal d ON r.id = d.room_id
-            """ + whereClause + """
-            ORDER BY r.created_at DESC
-            LIMIT :limit OFFSET :offset
-            """;
+        // - deal 조건은 EXISTS 로 평가하여 DISTINCT 없이 idx_room_created_at_desc 순서대로 읽고 LIMIT 에서 멈춤
+        String roomOrder = "r.created_at DESC, r.id DESC";
+        String roomPageQuery = "SELECT " + ROOM_COLUMNS + " FROM room r"
+            + whereClause
+            + " ORDER BY " + roomOrder + " "
+            + pagingClause;
+
+        return findAggregates(joinDealsToRoomPage(roomPageQuery, roomOrder), parameters);
+    }
+
+    /**
+     * 검색 조건은 searchRooms 와 같고 PK 순서로 끝까지 읽음 (OFFSET 없음)
+     */
+    @Override
+    public void forEachMatching(RoomSearchRequest roomSearchRequest, Consumer<Room> action) {
+        Map<String, Object> parameters = new HashMap<>();
+        String whereClause = createWhereClause(roomSearchRequest, parameters);
 
-        // 데이터 조회 실행
-        Query dataQueryExecution = entityManager.createNativeQuery(dataQuery);
-        parameters.forEach(dataQueryExecution::setParameter);
-        dataQueryExecution.setParameter("limit", roomSearchRequest.size());
-        dataQueryExecution.setParameter("offset", roomSearchRequest.page() * roomSearchRequest.size());
+        String aggregateQuery = "SELECT " + AGGREGATE_COLUMNS
+            + " FROM room r"
+            + " LEFT JOIN deal d ON d.room_id = r.id"
+            + whereClause
+            + " ORDER BY r.id, d.id";
 
-        return RoomMapper.toDomainsFromNativeQueryList(dataQueryExecution.getResultList());
+        forEachAggregate(aggregateQuery, parameters, action);
+    }
+
+    /**
+     * 방 한 페이지를 먼저 잘라낸 derived table 에 거래를 조인하여 한 번의 조회로 방과 거래를 함께 가져옴
+     */
+    private static String joinDealsToRoomPage(String roomPageQuery, String roomOrder) {
+        return "SELECT " + AGGREGATE_COLUMNS
+            + " FROM (" + roomPageQuery + ") r"
+            + " LEFT JOIN deal d ON d.room_id = r.id"
+            + " ORDER BY " + roomOrder + ", d.id";
+    }
+
+    /**
+     * 방/거래 조인 결과를 스트림으로 읽으며 방 단위로 거래를 묶음
+     * - 쿼리는 같은 방의 행이 연속되도록 정렬되어 있어야 함
+     */
+    @SuppressWarnings("unchecked")
+    private List<Room> findAggregates(String aggregateQuery, Map<String, Object> parameters) {
+        Query query = entityManager.createNativeQuery(aggregateQuery);
+        parameters.forEach(query::setParameter);
+
+        try (Stream<Object[]> joinedRows = query.getResultStream()) {
+            return RoomMapper.toAggregatesFromJoinedRows(joinedRows);
+        }
+    }
+
+    /**
+     * findAggregates 와 같지만 결과를 모으지 않고 방 단위로 전달
+     * - 이 조회에만 streaming result set 을 사용하고 다른 조회는 기존처럼 결과를 한번에 받음
+     *   (useCursorFetch 를 커넥션 전체에 켜면 fetch size 를 지정한 모든 조회가 서버 커서를 사용)
+     * - 결과를 다 읽거나 닫을 때까지 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 action 에서 DB 를 조회하면 안 됨
+     */
+    @SuppressWarnings("unchecked")
+    private void forEachAggregate(String aggregateQuery, Map<String, Object> parameters,
+        Consumer<Room> action) {
+        Query query = entityManager.createNativeQuery(aggregateQuery)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        parameters.forEach(query::setParameter);
+
+        try (Stream<Object[]> joinedRows = query.getResultStream()) {
+            RoomMapper.forEachAggregateFromJoinedRows(joinedRows, action);
+        }
     }
 
     private static String createWhereClause(RoomSearchRequest request, Map<String, Object> parameters) {
@@ -102,6 +324,9 @@ public class RoomRepositoryImpl implements RoomRepository {
                 request.roomTypes().stream().map(RoomTypeDto::name).toList());
         }
 
+        // 거래 조건 - 하나의 deal 이 모든 조건을 만족해야 함
+        whereClause.append(" AND EXISTS (SELECT 1 FROM deal d WHERE d.room_id = r.id ");
+
         // 거래 유형 IN 조건
         if (request.dealTypes() != null && !request.dealTypes().isEmpty()) {
             whereClause.append(" AND d.deal_type IN (:dealTypes) ");
@@ -132,6 +357,8 @@ public class RoomRepositoryImpl implements RoomRepository {
             whereClause.append(" AND d.monthly_rent <= :maxMonthlyRent ");
             parameters.put("maxMonthlyRent", request.maxMonthlyRent());
         }
+
+        whereClause.append(") ");
         return whereClause.toString();
     }
 }
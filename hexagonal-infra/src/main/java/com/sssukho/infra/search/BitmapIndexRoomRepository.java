@@ -0,0 +1,161 @@
+package com.sssukho.infra.search;
+
+import com.sssukho.common.dto.room.RoomCursor;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import com.sssukho.domain.room.Room;
+import com.sssukho.domain.room.RoomCollectionVersion;
+import com.sssukho.domain.room.RoomRepository;
+import com.sssukho.domain.room.RoomVersion;
+import com.sssukho.infra.rdb.repository.RoomRepositoryImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색은 비트맵 인덱스로 처리하고 나머지는 RDB 구현체에 위임하는 RoomRepository
+ * - 인덱스 적재 전에는 RDB 검색으로 대체
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "infra.search.bitmap", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class BitmapIndexRoomRepository implements RoomRepository {
+
+    private final RoomRepositoryImpl rdbRoomRepository;
+    private final BitmapRoomSearchIndex searchIndex;
+
+    @Override
+    public Room save(Room roomToSave) {
+        return rdbRoomRepository.save(roomToSave);
+    }
+
+    @Override
+    public List<Room> saveAll(List<Room> roomsToSave) {
+        return rdbRoomRepository.saveAll(roomsToSave);
+    }
+
+    @Override
+    public Room findById(Long roomId) {
+        return rdbRoomRepository.findById(roomId);
+    }
+
+    @Override
+    public Room findByIdWithDeals(Long roomId) {
+        return rdbRoomRepository.findByIdWithDeals(roomId);
+    }
+
+    @Override
+    public RoomVersion findVersionById(Long roomId) {
+        return rdbRoomRepository.findVersionById(roomId);
+    }
+
+    @Override
+    public RoomCollectionVersion findCollectionVersionByOwnerId(Long ownerId) {
+        return rdbRoomRepository.findCollectionVersionByOwnerId(ownerId);
+    }
+
+    @Override
+    public List<Room> findAllByIds(List<Long> roomIds) {
+        return rdbRoomRepository.findAllByIds(roomIds);
+    }
+
+    @Override
+    public void deleteById(Long roomId) {
+        rdbRoomRepository.deleteById(roomId);
+    }
+
+    @Override
+    public Room update(Room roomToUpdate) {
+        return rdbRoomRepository.update(roomToUpdate);
+    }
+
+    @Override
+    public List<Room> findAllByOwnerId(Long ownerId) {
+        return rdbRoomRepository.findAllByOwnerId(ownerId);
+    }
+
+    @Override
+    public void forEachByOwnerId(Long ownerId, Consumer<Room> action) {
+        rdbRoomRepository.forEachByOwnerId(ownerId, action);
+    }
+
+    @Override
+    public List<Room> findAllByOwnerId(Long ownerId, RoomCursor cursor, int size) {
+        return rdbRoomRepository.findAllByOwnerId(ownerId, cursor, size);
+    }
+
+    /**
+     * 인덱스로 한 페이지만큼의 방 id 를 찾고, 그 방들만 DB 에서 (거래 포함) 조회해서 인덱스 순서대로 반환
+     * - 인덱스에는 있지만 DB 에 없는 방(다른 노드에서 삭제되어 reconcile 전인 방)은 인덱스에서 제거하고,
+     *   마지막으로 찾은 방 이후부터 다시 검색해서 size 만큼 채움 (페이지가 짧으면 다음 커서가 생기지 않음)
+     * - 제거한 방은 다시 검색되지 않으므로 반복은 인덱스에 남은 방이 없으면 끝남
+     */
+    @Override
+    public List<Room> searchRooms(RoomSearchRequest roomSearchRequest) {
+        if (!searchIndex.isReady()) {
+            return rdbRoomRepository.searchRooms(roomSearchRequest);
+        }
+
+        List<Room> rooms = new ArrayList<>(roomSearchRequest.size());
+        RoomSearchRequest request = roomSearchRequest;
+        while (true) {
+            List<Long> matchedRoomIds = searchIndex.search(request);
+            if (matchedRoomIds.isEmpty()) {
+                return rooms;
+            }
+
+            // 최종 페이지만 DB 에서 (거래 포함) 조회 후 인덱스 정렬 순서대로 재배치
+            Map<Long, Room> foundRoomsById = rdbRoomRepository.findAllByIds(matchedRoomIds)
+                .stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+            List<Long> missingRoomIds = new ArrayList<>();
+            for (Long roomId : matchedRoomIds) {
+                Room foundRoom = foundRoomsById.get(roomId);
+                if (foundRoom == null) {
+                    missingRoomIds.add(roomId);
+                } else {
+                    rooms.add(foundRoom);
+                }
+            }
+
+            searchIndex.removeAll(missingRoomIds);
+            if (missingRoomIds.isEmpty() || matchedRoomIds.size() < request.size()) {
+                return rooms;
+            }
+            request = remainingPageOf(roomSearchRequest, rooms);
+        }
+    }
+
+    /**
+     * 이미 찾은 방 다음부터 남은 개수만큼 검색하는 요청
+     * - 찾은 방이 없으면 원래 요청을 그대로 다시 검색 (없는 방은 이미 인덱스에서 제거됨)
+     */
+    private static RoomSearchRequest remainingPageOf(RoomSearchRequest original,
+        List<Room> foundRooms) {
+        if (foundRooms.isEmpty()) {
+            return original;
+        }
+
+        Room last = foundRooms.get(foundRooms.size() - 1);
+        return new RoomSearchRequest(original.roomTypes(), original.dealTypes(),
+            original.minDeposit(), original.maxDeposit(), original.minMonthlyRent(),
+            original.maxMonthlyRent(), 0, original.size() - foundRooms.size(),
+            new RoomCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    /**
+     * 전체를 순서대로 읽으므로 인덱스 없이 RDB 에서 조회
+     */
+    @Override
+    public void forEachMatching(RoomSearchRequest roomSearchRequest, Consumer<Room> action) {
+        rdbRoomRepository.forEachMatching(roomSearchRequest, action);
+    }
+}
@@ -0,0 +1,277 @@
+package com.sssukho.infra.search;
+
+import com.sssukho.common.dto.room.RoomCursor;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.room.Room;
+import com.sssukho.infra.search.IndexedRoom.IndexedDeal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 검색용 in-memory 비트맵 인덱스
+ * - 검색은 불변 스냅샷 + 변경분(delta) 으로 잠금 없이 수행
+ * - 변경은 delta 에 누적하고, rebuildThreshold 를 넘으면 스냅샷을 재구성
+ * - delta 는 버전끼리 배열을 공유하는 append-only 기록이므로 쓰기마다 변경분 전체를 복사하지 않음
+ * - 이 노드의 변경만 이벤트로 반영되므로 다른 노드의 변경은 BitmapRoomSearchIndexSynchronizer 가 주기적으로 반영
+ * - 검색 결과로는 정렬된 방 id 만 반환하며, 실제 데이터는 호출측에서 DB 로 조회
+ */
+@Slf4j
+public class BitmapRoomSearchIndex {
+
+    private final int rebuildThreshold;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // writeLock 안에서만 사용 (delta 에 있는 방을 기록 전체를 훑지 않고 찾기 위함)
+    private final Map<Long, IndexedRoom> latestDelta = new HashMap<>();
+
+    private volatile State state;
+    private volatile boolean ready;
+
+    public BitmapRoomSearchIndex(int rebuildThreshold) {
+        this.rebuildThreshold = rebuildThreshold;
+        this.state = new State(RoomBitmapSnapshot.EMPTY, DeltaLog.empty(rebuildThreshold));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        State current = state;
+        return current.snapshot().roomCount() + current.delta().roomCount();
+    }
+
+    /**
+     * 전체 방 데이터로 스냅샷 적재
+     * - 적재 중 들어온 변경분은 적재 데이터보다 우선
+     */
+    public void load(Collection<Room> roomsWithDeals) {
+        Map<Long, IndexedRoom> documents = new HashMap<>();
+        for (Room room : roomsWithDeals) {
+            documents.put(room.getId(), toIndexedRoom(room, List.of()));
+        }
+
+        writeLock.lock();
+        try {
+            documents.putAll(latestDelta);
+            replaceSnapshot(RoomBitmapSnapshot.build(documents.values()));
+            ready = true;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Bitmap room search index loaded. rooms={}", documents.size());
+    }
+
+    /**
+     * 방 등록/수정 반영
+     * - room 의 deals 가 null 이면 기존에 인덱싱된 거래를 유지
+     */
+    public void upsert(Room room) {
+        upsertAll(List.of(room));
+    }
+
+    /**
+     * 여러 방의 등록/수정을 한번에 반영 (재구성 판단도 한번만 수행)
+     */
+    public void upsertAll(Collection<Room> rooms) {
+        if (rooms.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Map<Long, IndexedRoom> changes = new HashMap<>();
+            for (Room room : rooms) {
+                IndexedRoom previous = changes.containsKey(room.getId())
+                    ? changes.get(room.getId()) : findIndexedRoom(room.getId());
+                List<IndexedDeal> previousDeals = previous != null ? previous.deals() : List.of();
+                IndexedRoom changed = toIndexedRoom(room, previousDeals);
+                if (room.getCreatedAt() == null && previous != null) {
+                    changed = new IndexedRoom(changed.id(), previous.createdAtKey(),
+                        changed.roomType(), changed.deals(), false);
+                }
+                changes.put(changed.id(), changed);
+            }
+            apply(changes.values());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long roomId) {
+        removeAll(List.of(roomId));
+    }
+
+    public void removeAll(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            apply(roomIds.stream().map(IndexedRoom::deleted).toList());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 인덱스에 있는 방 id (오름차순)
+     */
+    public long[] roomIds() {
+        State current = state;
+        RoomBitmapSnapshot snapshot = current.snapshot();
+        Map<Long, IndexedRoom> delta = current.delta().latest();
+
+        long[] roomIds = new long[snapshot.roomCount() + delta.size()];
+        int count = 0;
+        for (int ordinal = 0; ordinal < snapshot.roomCount(); ordinal++) {
+            long roomId = snapshot.roomAt(ordinal).id();
+            if (!delta.containsKey(roomId)) {
+                roomIds[count++] = roomId;
+            }
+        }
+        for (IndexedRoom deltaRoom : delta.values()) {
+            if (!deltaRoom.deleted()) {
+                roomIds[count++] = deltaRoom.id();
+            }
+        }
+        roomIds = Arrays.copyOf(roomIds, count);
+        Arrays.sort(roomIds);
+        return roomIds;
+    }
+
+    /**
+     * 검색 조건에 맞는 방 id 를 (created_at, id) 내림차순으로 한 페이지만큼 반환
+     */
+    public List<Long> search(RoomSearchRequest request) {
+        State current = state;
+        RoomBitmapSnapshot snapshot = current.snapshot();
+        RoomFilter filter = RoomFilter.from(request);
+
+        BitSet matchedOrdinals = snapshot.match(filter);
+
+        // delta 에 있는 방은 스냅샷 결과에서 제외하고 개별로 평가
+        List<IndexedRoom> matchedDeltaRooms = new ArrayList<>();
+        current.delta().forEachLatest(deltaRoom -> {
+            int ordinal = snapshot.ordinalOf(deltaRoom.id());
+            if (ordinal >= 0) {
+                matchedOrdinals.clear(ordinal);
+            }
+            if (!deltaRoom.deleted() && filter.matches(deltaRoom)) {
+                matchedDeltaRooms.add(deltaRoom);
+            }
+        });
+        matchedDeltaRooms.sort(IndexedRoom.KEY_ORDER.reversed());
+
+        return collectPage(request, snapshot, matchedOrdinals, matchedDeltaRooms);
+    }
+
+    private static List<Long> collectPage(RoomSearchRequest request, RoomBitmapSnapshot snapshot,
+        BitSet matchedOrdinals, List<IndexedRoom> matchedDeltaRooms) {
+
+        int size = request.size();
+        long toSkip = request.hasCursor() ? 0 : (long) request.page() * size;
+        int ordinal = snapshot.roomCount() - 1;
+        int deltaIndex = 0;
+
+        if (request.hasCursor()) {
+            RoomCursor cursor = request.cursor();
+            long cursorCreatedAtKey = IndexedRoom.toCreatedAtKey(cursor.createdAt());
+            ordinal = snapshot.lastOrdinalBefore(cursorCreatedAtKey, cursor.id());
+            while (deltaIndex < matchedDeltaRooms.size()) {
+                IndexedRoom deltaRoom = matchedDeltaRooms.get(deltaIndex);
+                if (IndexedRoom.compareKey(deltaRoom.createdAtKey(), deltaRoom.id(),
+                    cursorCreatedAtKey, cursor.id()) < 0) {
+                    break;
+                }
+                deltaIndex++;
+            }
+        }
+        ordinal = ordinal >= 0 ? matchedOrdinals.previousSetBit(ordinal) : -1;
+
+        // 스냅샷 결과와 delta 결과를 내림차순으로 병합
+        List<Long> roomIds = new ArrayList<>(size);
+        while (roomIds.size() < size) {
+            IndexedRoom deltaRoom = deltaIndex < matchedDeltaRooms.size()
+                ? matchedDeltaRooms.get(deltaIndex) : null;
+            if (ordinal < 0 && deltaRoom == null) {
+                break;
+            }
+
+            long nextRoomId;
+            if (deltaRoom != null && (ordinal < 0
+                || IndexedRoom.KEY_ORDER.compare(deltaRoom, snapshot.roomAt(ordinal)) > 0)) {
+                nextRoomId = deltaRoom.id();
+                deltaIndex++;
+            } else {
+                nextRoomId = snapshot.roomAt(ordinal).id();
+                ordinal = matchedOrdinals.previousSetBit(ordinal - 1);
+            }
+
+            if (toSkip > 0) {
+                toSkip--;
+                continue;
+            }
+            roomIds.add(nextRoomId);
+        }
+        return roomIds;
+    }
+
+    private void apply(Collection<IndexedRoom> changes) {
+        State current = state;
+        for (IndexedRoom changed : changes) {
+            latestDelta.put(changed.id(), changed);
+        }
+
+        if (current.delta().canAppend(changes.size())) {
+            state = new State(current.snapshot(),
+                current.delta().append(changes, latestDelta.size()));
+            return;
+        }
+
+        Map<Long, IndexedRoom> documents = new HashMap<>();
+        for (IndexedRoom room : current.snapshot().rooms()) {
+            documents.put(room.id(), room);
+        }
+        documents.putAll(latestDelta);
+        replaceSnapshot(RoomBitmapSnapshot.build(documents.values()));
+        log.debug("Bitmap room search index rebuilt. rooms={}", documents.size());
+    }
+
+    private void replaceSnapshot(RoomBitmapSnapshot snapshot) {
+        latestDelta.clear();
+        state = new State(snapshot, DeltaLog.empty(rebuildThreshold));
+    }
+
+    private IndexedRoom findIndexedRoom(Long roomId) {
+        IndexedRoom deltaRoom = latestDelta.get(roomId);
+        if (deltaRoom != null) {
+            return deltaRoom.deleted() ? null : deltaRoom;
+        }
+        RoomBitmapSnapshot snapshot = state.snapshot();
+        int ordinal = snapshot.ordinalOf(roomId);
+        return ordinal >= 0 ? snapshot.roomAt(ordinal) : null;
+    }
+
+    private static IndexedRoom toIndexedRoom(Room room, List<IndexedDeal> dealsIfAbsent) {
+        List<IndexedDeal> deals = dealsIfAbsent;
+        if (room.getDeals() != null) {
+            deals = new ArrayList<>(room.getDeals().size());
+            for (Deal deal : room.getDeals()) {
+                deals.add(IndexedDeal.of(deal.getDealTypeDto(), deal.getDeposit(),
+                    deal.getMonthlyRent()));
+            }
+        }
+        return IndexedRoom.of(room.getId(), room.getCreatedAt(), room.getRoomTypeDto(), deals);
+    }
+
+    private record State(RoomBitmapSnapshot snapshot, DeltaLog delta) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.sssukho.infra.search;
+
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.room.Room;
+import com.sssukho.domain.room.RoomChangedEvent;
+import com.sssukho.domain.room.RoomsImportedEvent;
+import com.sssukho.domain.room.RoomsRegisteredEvent;
+import com.sssukho.infra.rdb.mapper.DealMapper;
+import com.sssukho.infra.rdb.mapper.RoomMapper;
+import com.sssukho.infra.rdb.repository.DealJpaRepository;
+import com.sssukho.infra.rdb.repository.RoomJpaRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 기동 시 비트맵 인덱스를 적재하고, 방 변경 이벤트를 커밋 이후에 인덱스에 반영
+ * - 파일 가져오기는 batch 마다 반영하지 않고, 끝난 뒤에 가져온 방만 DB 에서 page 단위로 읽어서 반영
+ *   (전체를 다시 적재하지 않으므로 가져온 방 수에 비례하는 비용만 가져오기 스레드에서 사용)
+ * - 이벤트는 이 노드의 변경만 전달되므로 다른 노드의 변경은 주기적으로 DB 와 맞춤 (reconcile)
+ */
+@Component
+@ConditionalOnProperty(prefix = "infra.search.bitmap", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class BitmapRoomSearchIndexSynchronizer {
+
+    private static final int DEAL_FETCH_CHUNK_SIZE = 1000;
+    private static final int IMPORTED_ROOM_PAGE_SIZE = 1000;
+
+    private final BitmapRoomSearchIndex searchIndex;
+    private final RoomJpaRepository roomJpaRepository;
+    private final DealJpaRepository dealJpaRepository;
+    private final BitmapSearchProperties properties;
+
+    // 마지막으로 DB 와 맞추기 시작한 시각 (이후에 변경된 방만 다시 읽음)
+    private volatile LocalDateTime reconciledAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Map<Long, List<Deal>> dealsByRoomId = groupByRoomId(
+            DealMapper.toDomains(dealJpaRepository.findAll()));
+
+        List<Room> rooms = RoomMapper.toDomains(roomJpaRepository.findAll());
+        for (Room room : rooms) {
+            room.setDeals(dealsByRoomId.getOrDefault(room.getId(), List.of()));
+        }
+
+        searchIndex.load(rooms);
+        reconciledAt = startedAt;
+    }
+
+    /**
+     * 다른 노드에서 커밋된 변경을 인덱스에 반영
+     * - 삭제: 인덱스의 방 id 를 먼저 읽고 DB 의 방 id 와 비교해서 없는 방만 제거
+     *   (순서를 바꾸면 그 사이 이 노드에서 등록된 방이 DB 에 없는 것으로 보일 수 있음)
+     * - 등록/수정: updated_at 이 마지막 reconcile 시작 시각 - overlap 이후인 방을 다시 반영
+     * - 이 노드의 이벤트와 겹쳐서 이전 상태로 덮어쓰더라도 다음 reconcile 에서 다시 읽으므로 한 주기 안에 맞춰짐
+     */
+    @Scheduled(fixedDelayString = "${infra.search.bitmap.reconcile-interval-ms}",
+        initialDelayString = "${infra.search.bitmap.reconcile-interval-ms}")
+    public void reconcile() {
+        LocalDateTime previousReconciledAt = reconciledAt;
+        if (!searchIndex.isReady() || previousReconciledAt == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long[] indexedRoomIds = searchIndex.roomIds();
+        long[] existingRoomIds = roomJpaRepository.findAllIds().stream()
+            .mapToLong(Long::longValue)
+            .sorted()
+            .toArray();
+        List<Long> removedRoomIds = new ArrayList<>();
+        for (long roomId : indexedRoomIds) {
+            if (Arrays.binarySearch(existingRoomIds, roomId) < 0) {
+                removedRoomIds.add(roomId);
+            }
+        }
+        searchIndex.removeAll(removedRoomIds);
+
+        List<Room> changedRooms = RoomMapper.toDomains(
+            roomJpaRepository.findAllByUpdatedAtGreaterThanEqual(
+                previousReconciledAt.minus(Duration.ofMillis(properties.reconcileOverlapMs()))));
+        Map<Long, List<Deal>> dealsByRoomId = findDealsByRoomId(
+            changedRooms.stream().map(Room::getId).toList());
+        for (Room room : changedRooms) {
+            room.setDeals(dealsByRoomId.getOrDefault(room.getId(), List.of()));
+        }
+        searchIndex.upsertAll(changedRooms);
+
+        reconciledAt = startedAt;
+        if (!removedRoomIds.isEmpty() || !changedRooms.isEmpty()) {
+            log.debug("Bitmap room search index reconciled. removed={}, upserted={}",
+                removedRoomIds.size(), changedRooms.size());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomChanged(RoomChangedEvent event) {
+        if (event.isDeleted()) {
+            searchIndex.remove(event.roomId());
+            return;
+        }
+        searchIndex.upsert(event.changedRoom());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomsRegistered(RoomsRegisteredEvent event) {
+        searchIndex.upsertAll(event.registeredRooms());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomsImported(RoomsImportedEvent event) {
+        if (event.importedCount() <= 0 || !searchIndex.isReady()) {
+            return;
+        }
+
+        LocalDateTime afterUpdatedAt = event.startedAt();
+        long afterId = 0;
+        long appliedCount = 0;
+        while (true) {
+            List<Room> rooms = RoomMapper.toDomains(roomJpaRepository.findByOwnerIdUpdatedAfter(
+                event.ownerId(), afterUpdatedAt, afterId,
+                PageRequest.of(0, IMPORTED_ROOM_PAGE_SIZE)));
+            if (rooms.isEmpty()) {
+                break;
+            }
+
+            Map<Long, List<Deal>> dealsByRoomId = findDealsByRoomId(
+                rooms.stream().map(Room::getId).toList());
+            for (Room room : rooms) {
+                room.setDeals(dealsByRoomId.getOrDefault(room.getId(), List.of()));
+            }
+            searchIndex.upsertAll(rooms);
+            appliedCount += rooms.size();
+
+            Room last = rooms.get(rooms.size() - 1);
+            afterUpdatedAt = last.getUpdatedAt();
+            afterId = last.getId();
+            if (rooms.size() < IMPORTED_ROOM_PAGE_SIZE) {
+                break;
+            }
+        }
+        log.debug("Bitmap room search index applied imported rooms. imported={}, upserted={}",
+            event.importedCount(), appliedCount);
+    }
+
+    private Map<Long, List<Deal>> findDealsByRoomId(List<Long> roomIds) {
+        List<Deal> deals = new ArrayList<>();
+        for (int from = 0; from < roomIds.size(); from += DEAL_FETCH_CHUNK_SIZE) {
+            List<Long> chunk = roomIds.subList(from,
+                Math.min(from + DEAL_FETCH_CHUNK_SIZE, roomIds.size()));
+            deals.addAll(DealMapper.toDomains(dealJpaRepository.findByRoomIdIn(chunk)));
+        }
+        return groupByRoomId(deals);
+    }
+
+    private static Map<Long, List<Deal>> groupByRoomId(List<Deal> deals) {
+        return deals.stream().collect(Collectors.groupingBy(Deal::getRoomId));
+    }
+}
@@ -0,0 +1,15 @@
+package com.sssukho.infra.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "infra.search.bitmap", name = "enabled", havingValue = "true")
+public class BitmapSearchConfig {
+
+    @Bean
+    public BitmapRoomSearchIndex bitmapRoomSearchIndex(BitmapSearchProperties properties) {
+        return new BitmapRoomSearchIndex(properties.rebuildThreshold());
+    }
+}
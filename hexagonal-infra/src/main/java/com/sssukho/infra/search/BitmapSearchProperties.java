@@ -0,0 +1,13 @@
+package com.sssukho.infra.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "infra.search.bitmap")
+public record BitmapSearchProperties(
+    boolean enabled,
+    int rebuildThreshold,
+    long reconcileIntervalMs,
+    long reconcileOverlapMs
+) {
+
+}
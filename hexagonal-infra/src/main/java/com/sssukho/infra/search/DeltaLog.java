@@ -0,0 +1,75 @@
+package com.sssukho.infra.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 스냅샷 이후 변경분의 append-only 기록
+ * - 배열은 버전끼리 공유하고 각 버전은 자기 길이까지만 읽으므로 쓰기마다 전체를 복사하지 않음
+ * - 같은 방이 여러 번 기록되면 가장 나중 기록이 유효
+ * - append 는 가장 최신 버전에서만, BitmapRoomSearchIndex 의 writeLock 안에서 호출
+ *   (새 버전은 volatile 필드로 공개되므로 읽는 쪽은 자기 길이까지의 항목을 항상 온전하게 봄)
+ */
+final class DeltaLog {
+
+    private final IndexedRoom[] entries;
+    private final int length;
+    private final int roomCount;
+
+    private DeltaLog(IndexedRoom[] entries, int length, int roomCount) {
+        this.entries = entries;
+        this.length = length;
+        this.roomCount = roomCount;
+    }
+
+    static DeltaLog empty(int capacity) {
+        return new DeltaLog(new IndexedRoom[Math.max(1, capacity)], 0, 0);
+    }
+
+    /**
+     * 기록하면 capacity(rebuildThreshold) 에 도달하는 경우 false (스냅샷을 재구성해야 함)
+     */
+    boolean canAppend(int count) {
+        return length + count < entries.length;
+    }
+
+    /**
+     * @param newRoomCount 기록 후 서로 다른 방 수
+     */
+    DeltaLog append(Collection<IndexedRoom> rooms, int newRoomCount) {
+        int next = length;
+        for (IndexedRoom room : rooms) {
+            entries[next++] = room;
+        }
+        return new DeltaLog(entries, next, newRoomCount);
+    }
+
+    int roomCount() {
+        return roomCount;
+    }
+
+    /**
+     * 방마다 가장 나중 기록만 최신 기록부터 전달
+     */
+    void forEachLatest(Consumer<IndexedRoom> action) {
+        Set<Long> seen = new HashSet<>();
+        for (int i = length - 1; i >= 0; i--) {
+            IndexedRoom room = entries[i];
+            if (seen.add(room.id())) {
+                action.accept(room);
+            }
+        }
+    }
+
+    Map<Long, IndexedRoom> latest() {
+        Map<Long, IndexedRoom> latest = new HashMap<>();
+        for (int i = 0; i < length; i++) {
+            latest.put(entries[i].id(), entries[i]);
+        }
+        return latest;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sssukho.infra.search;
+
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 비트맵 인덱스에 적재되는 방 문서 (검색 조건 평가에 필요한 컬럼만 보관)
+ */
+record IndexedRoom(
+    long id,
+    long createdAtKey,
+    RoomTypeDto roomType,
+    List<IndexedDeal> deals,
+    boolean deleted
+) {
+
+    /**
+     * (created_at, id) 오름차순
+     */
+    static final Comparator<IndexedRoom> KEY_ORDER = Comparator
+        .comparingLong(IndexedRoom::createdAtKey)
+        .thenComparingLong(IndexedRoom::id);
+
+    static IndexedRoom of(long id, LocalDateTime createdAt, RoomTypeDto roomType,
+        List<IndexedDeal> deals) {
+        return new IndexedRoom(id, toCreatedAtKey(createdAt), roomType, List.copyOf(deals), false);
+    }
+
+    static IndexedRoom deleted(long id) {
+        return new IndexedRoom(id, Long.MIN_VALUE, null, List.of(), true);
+    }
+
+    /**
+     * created_at 을 epoch microsecond 로 변환 (DATETIME(6) 정밀도)
+     */
+    static long toCreatedAtKey(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return Long.MIN_VALUE;
+        }
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+    }
+
+    static int compareKey(long createdAtKey, long id, long otherCreatedAtKey, long otherId) {
+        int compared = Long.compare(createdAtKey, otherCreatedAtKey);
+        return compared != 0 ? compared : Long.compare(id, otherId);
+    }
+
+    record IndexedDeal(
+        DealTypeDto dealType,
+        Long deposit,
+        Long monthlyRent
+    ) {
+
+        static IndexedDeal of(DealTypeDto dealType, BigDecimal deposit, BigDecimal monthlyRent) {
+            return new IndexedDeal(dealType, deposit != null ? deposit.longValue() : null,
+                monthlyRent != null ? monthlyRent.longValue() : null);
+        }
+    }
+}
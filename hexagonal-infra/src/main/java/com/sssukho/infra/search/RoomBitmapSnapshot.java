@@ -0,0 +1,238 @@
+package com.sssukho.infra.search;
+
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.infra.search.IndexedRoom.IndexedDeal;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * 비트맵 인덱스의 불변 스냅샷
+ * - 방 ordinal 은 (created_at, id) 오름차순으로 부여
+ * - 방 유형별 비트맵은 방 ordinal, 거래 유형별 비트맵은 거래 ordinal 기준
+ * - 보증금/월세는 (값, 거래 ordinal) 쌍을 값 기준으로 정렬한 primitive 배열로 범위 검색
+ */
+final class RoomBitmapSnapshot {
+
+    static final RoomBitmapSnapshot EMPTY = build(List.of());
+
+    private final IndexedRoom[] rooms;
+    private final long[] createdAtKeys;
+    private final long[] roomIds;
+    private final BitSet[] roomTypeBitmaps;
+
+    private final int dealCount;
+    private final int[] dealRoomOrdinals;
+    private final BitSet[] dealTypeBitmaps;
+    private final SortedColumn depositColumn;
+    private final SortedColumn monthlyRentColumn;
+
+    // id -> ordinal 조회용 (id 오름차순)
+    private final long[] sortedRoomIds;
+    private final int[] ordinalsBySortedRoomId;
+
+    private RoomBitmapSnapshot(IndexedRoom[] rooms) {
+        this.rooms = rooms;
+        int roomCount = rooms.length;
+        this.createdAtKeys = new long[roomCount];
+        this.roomIds = new long[roomCount];
+        this.roomTypeBitmaps = newBitmaps(RoomTypeDto.values().length, roomCount);
+
+        int totalDeals = 0;
+        for (IndexedRoom room : rooms) {
+            totalDeals += room.deals().size();
+        }
+        this.dealCount = totalDeals;
+        this.dealRoomOrdinals = new int[totalDeals];
+        this.dealTypeBitmaps = newBitmaps(DealTypeDto.values().length, totalDeals);
+        Long[] deposits = new Long[totalDeals];
+        Long[] monthlyRents = new Long[totalDeals];
+
+        int dealOrdinal = 0;
+        for (int roomOrdinal = 0; roomOrdinal < roomCount; roomOrdinal++) {
+            IndexedRoom room = rooms[roomOrdinal];
+            createdAtKeys[roomOrdinal] = room.createdAtKey();
+            roomIds[roomOrdinal] = room.id();
+            roomTypeBitmaps[room.roomType().ordinal()].set(roomOrdinal);
+
+            for (IndexedDeal deal : room.deals()) {
+                dealRoomOrdinals[dealOrdinal] = roomOrdinal;
+                dealTypeBitmaps[deal.dealType().ordinal()].set(dealOrdinal);
+                deposits[dealOrdinal] = deal.deposit();
+                monthlyRents[dealOrdinal] = deal.monthlyRent();
+                dealOrdinal++;
+            }
+        }
+        this.depositColumn = SortedColumn.of(deposits);
+        this.monthlyRentColumn = SortedColumn.of(monthlyRents);
+
+        int[] byId = IntStream.range(0, roomCount).boxed()
+            .sorted((left, right) -> Long.compare(roomIds[left], roomIds[right]))
+            .mapToInt(Integer::intValue).toArray();
+        this.sortedRoomIds = new long[roomCount];
+        this.ordinalsBySortedRoomId = byId;
+        for (int i = 0; i < roomCount; i++) {
+            sortedRoomIds[i] = roomIds[byId[i]];
+        }
+    }
+
+    static RoomBitmapSnapshot build(Collection<IndexedRoom> documents) {
+        IndexedRoom[] rooms = documents.stream()
+            .filter(room -> !room.deleted())
+            .sorted(IndexedRoom.KEY_ORDER)
+            .toArray(IndexedRoom[]::new);
+        return new RoomBitmapSnapshot(rooms);
+    }
+
+    int roomCount() {
+        return rooms.length;
+    }
+
+    IndexedRoom roomAt(int ordinal) {
+        return rooms[ordinal];
+    }
+
+    Collection<IndexedRoom> rooms() {
+        return Arrays.asList(rooms);
+    }
+
+    /**
+     * id 에 해당하는 방의 ordinal, 없으면 -1
+     */
+    int ordinalOf(long roomId) {
+        int index = Arrays.binarySearch(sortedRoomIds, roomId);
+        return index >= 0 ? ordinalsBySortedRoomId[index] : -1;
+    }
+
+    /**
+     * (created_at, id) 가 커서보다 작은 방 중 가장 큰 ordinal, 없으면 -1
+     */
+    int lastOrdinalBefore(long cursorCreatedAtKey, long cursorId) {
+        int low = 0;
+        int high = rooms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (IndexedRoom.compareKey(createdAtKeys[mid], roomIds[mid], cursorCreatedAtKey,
+                cursorId) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    /**
+     * 필터를 만족하는 방 ordinal 비트맵
+     * - 거래 조건은 하나의 거래가 모든 조건을 만족해야 하므로 거래 ordinal 단위로 교집합 후 방 ordinal 로 사상
+     */
+    BitSet match(RoomFilter filter) {
+        int roomCount = rooms.length;
+        BitSet matchedRooms = unionOf(roomTypeBitmaps, filter.roomTypes(), RoomTypeDto::ordinal,
+            roomCount);
+
+        BitSet matchedDeals = unionOf(dealTypeBitmaps, filter.dealTypes(), DealTypeDto::ordinal,
+            dealCount);
+        if (filter.hasDepositRange()) {
+            matchedDeals.and(depositColumn.select(filter.minDeposit(), filter.maxDeposit()));
+        }
+        if (filter.hasMonthlyRentRange()) {
+            matchedDeals.and(monthlyRentColumn.select(filter.minMonthlyRent(),
+                filter.maxMonthlyRent()));
+        }
+
+        BitSet roomsWithMatchedDeal = new BitSet(roomCount);
+        for (int deal = matchedDeals.nextSetBit(0); deal >= 0;
+            deal = matchedDeals.nextSetBit(deal + 1)) {
+            roomsWithMatchedDeal.set(dealRoomOrdinals[deal]);
+        }
+
+        matchedRooms.and(roomsWithMatchedDeal);
+        return matchedRooms;
+    }
+
+    private static <E extends Enum<E>> BitSet unionOf(BitSet[] bitmaps, Collection<E> selected,
+        Function<E, Integer> ordinalOf, int size) {
+        BitSet union = new BitSet(size);
+        if (selected == null) {
+            union.set(0, size);
+            return union;
+        }
+        for (E value : selected) {
+            union.or(bitmaps[ordinalOf.apply(value)]);
+        }
+        return union;
+    }
+
+    private static BitSet[] newBitmaps(int count, int size) {
+        BitSet[] bitmaps = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new BitSet(size);
+        }
+        return bitmaps;
+    }
+
+    /**
+     * 값 기준으로 정렬된 (값, 거래 ordinal) 배열 - null 값은 제외
+     */
+    private record SortedColumn(long[] values, int[] dealOrdinals) {
+
+        static SortedColumn of(Long[] valuesByDealOrdinal) {
+            int[] ordinals = IntStream.range(0, valuesByDealOrdinal.length)
+                .filter(ordinal -> valuesByDealOrdinal[ordinal] != null)
+                .boxed()
+                .sorted((left, right) -> Long.compare(valuesByDealOrdinal[left],
+                    valuesByDealOrdinal[right]))
+                .mapToInt(Integer::intValue).toArray();
+            long[] values = new long[ordinals.length];
+            for (int i = 0; i < ordinals.length; i++) {
+                values[i] = valuesByDealOrdinal[ordinals[i]];
+            }
+            return new SortedColumn(values, ordinals);
+        }
+
+        BitSet select(Long min, Long max) {
+            int from = min != null ? lowerBound(min) : 0;
+            int to = max != null ? upperBound(max) : values.length;
+            BitSet selected = new BitSet();
+            for (int i = from; i < to; i++) {
+                selected.set(dealOrdinals[i]);
+            }
+            return selected;
+        }
+
+        // value 이상인 첫 위치
+        private int lowerBound(long value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // value 초과인 첫 위치
+        private int upperBound(long value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
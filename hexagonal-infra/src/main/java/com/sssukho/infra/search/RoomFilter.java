@@ -0,0 +1,98 @@
+package com.sssukho.infra.search;
+
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.infra.search.IndexedRoom.IndexedDeal;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumSet;
+
+/**
+ * RoomSearchRequest 의 검색 조건을 정수 범위로 정규화한 필터
+ * - DECIMAL(12,0) 컬럼이므로 최소값은 올림, 최대값은 내림하여 비교
+ */
+record RoomFilter(
+    EnumSet<RoomTypeDto> roomTypes,
+    EnumSet<DealTypeDto> dealTypes,
+    Long minDeposit,
+    Long maxDeposit,
+    Long minMonthlyRent,
+    Long maxMonthlyRent
+) {
+
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    static RoomFilter from(RoomSearchRequest request) {
+        EnumSet<RoomTypeDto> roomTypes = request.roomTypes() != null && !request.roomTypes().isEmpty()
+            ? EnumSet.copyOf(request.roomTypes()) : null;
+        EnumSet<DealTypeDto> dealTypes = request.dealTypes() != null && !request.dealTypes().isEmpty()
+            ? EnumSet.copyOf(request.dealTypes()) : null;
+
+        return new RoomFilter(roomTypes, dealTypes,
+            toLowerBound(request.minDeposit()), toUpperBound(request.maxDeposit()),
+            toLowerBound(request.minMonthlyRent()), toUpperBound(request.maxMonthlyRent()));
+    }
+
+    boolean hasDepositRange() {
+        return minDeposit != null || maxDeposit != null;
+    }
+
+    boolean hasMonthlyRentRange() {
+        return minMonthlyRent != null || maxMonthlyRent != null;
+    }
+
+    boolean matches(IndexedRoom room) {
+        if (roomTypes != null && !roomTypes.contains(room.roomType())) {
+            return false;
+        }
+        for (IndexedDeal deal : room.deals()) {
+            if (matches(deal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(IndexedDeal deal) {
+        if (dealTypes != null && !dealTypes.contains(deal.dealType())) {
+            return false;
+        }
+        if (hasDepositRange() && !inRange(deal.deposit(), minDeposit, maxDeposit)) {
+            return false;
+        }
+        return !hasMonthlyRentRange() || inRange(deal.monthlyRent(), minMonthlyRent, maxMonthlyRent);
+    }
+
+    private static boolean inRange(Long value, Long min, Long max) {
+        if (value == null) {
+            return false;
+        }
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static Long toLowerBound(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        return clamp(value.setScale(0, RoundingMode.CEILING));
+    }
+
+    private static Long toUpperBound(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        return clamp(value.setScale(0, RoundingMode.FLOOR));
+    }
+
+    private static long clamp(BigDecimal value) {
+        if (value.compareTo(LONG_MAX) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (value.compareTo(LONG_MIN) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return value.longValueExact();
+    }
+}
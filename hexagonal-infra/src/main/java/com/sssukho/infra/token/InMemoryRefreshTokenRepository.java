@@ -0,0 +1,59 @@
+package com.sssukho.infra.token;
+
+import com.sssukho.domain.token.RefreshToken;
+import com.sssukho.domain.token.RefreshTokenRepository;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 저장소
+ * - 단일 인스턴스/로컬 개발용이며, 재기동하면 모든 세션이 사라짐
+ */
+public class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
+
+    private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        tokens.put(refreshToken.getTokenHash(), refreshToken);
+    }
+
+    @Override
+    public boolean rotate(String tokenHashToReplace, RefreshToken newRefreshToken,
+        LocalDateTime now) {
+        // remove 는 원자적이므로 같은 토큰으로 동시에 요청해도 한쪽만 꺼낼 수 있음
+        RefreshToken removed = tokens.remove(tokenHashToReplace);
+        if (removed == null || removed.isExpiredAt(now)) {
+            return false;
+        }
+        save(newRefreshToken);
+        return true;
+    }
+
+    @Override
+    public void delete(String tokenHash) {
+        tokens.remove(tokenHash);
+    }
+
+    @Override
+    public int deleteAllByMemberId(Long memberId) {
+        int before = tokens.size();
+        tokens.values().removeIf(token -> token.getMemberId().equals(memberId));
+        return Math.max(0, before - tokens.size());
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        int deleted = 0;
+        Iterator<RefreshToken> iterator = tokens.values().iterator();
+        while (iterator.hasNext() && deleted < limit) {
+            if (iterator.next().isExpiredAt(now)) {
+                iterator.remove();
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+}
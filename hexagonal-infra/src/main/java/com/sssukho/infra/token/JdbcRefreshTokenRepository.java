@@ -0,0 +1,69 @@
+package com.sssukho.infra.token;
+
+import com.sssukho.domain.token.RefreshToken;
+import com.sssukho.domain.token.RefreshTokenRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * refresh_token 테이블 기반 저장소
+ * - member 테이블은 갱신하지 않으므로 로그인이 잦아도 member 에 쓰기가 몰리지 않음
+ */
+@RequiredArgsConstructor
+public class JdbcRefreshTokenRepository implements RefreshTokenRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO refresh_token (token_hash, member_id, expires_at, created_at) "
+            + "VALUES (?, ?, ?, ?)";
+    private static final String DELETE_VALID_SQL =
+        "DELETE FROM refresh_token WHERE token_hash = ? AND expires_at > ?";
+    private static final String DELETE_SQL = "DELETE FROM refresh_token WHERE token_hash = ?";
+    private static final String DELETE_BY_MEMBER_ID_SQL =
+        "DELETE FROM refresh_token WHERE member_id = ?";
+    private static final String DELETE_EXPIRED_SQL =
+        "DELETE FROM refresh_token WHERE expires_at <= ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        jdbcTemplate.update(INSERT_SQL, refreshToken.getTokenHash(), refreshToken.getMemberId(),
+            Timestamp.valueOf(refreshToken.getExpiresAt()),
+            Timestamp.valueOf(refreshToken.getCreatedAt()));
+    }
+
+    /**
+     * 삭제된 행이 있을 때만 새 토큰을 저장
+     * - DELETE 가 행 잠금을 잡으므로 같은 토큰으로 동시에 요청하면 한쪽만 1건 삭제에 성공
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean rotate(String tokenHashToReplace, RefreshToken newRefreshToken,
+        LocalDateTime now) {
+        int deleted = jdbcTemplate.update(DELETE_VALID_SQL, tokenHashToReplace,
+            Timestamp.valueOf(now));
+        if (deleted == 0) {
+            return false;
+        }
+        save(newRefreshToken);
+        return true;
+    }
+
+    @Override
+    public void delete(String tokenHash) {
+        jdbcTemplate.update(DELETE_SQL, tokenHash);
+    }
+
+    @Override
+    public int deleteAllByMemberId(Long memberId) {
+        return jdbcTemplate.update(DELETE_BY_MEMBER_ID_SQL, memberId);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(now), limit);
+    }
+}
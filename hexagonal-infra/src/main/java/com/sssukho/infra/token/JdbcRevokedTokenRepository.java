@@ -0,0 +1,60 @@
+package com.sssukho.infra.token;
+
+import com.sssukho.domain.token.RevokedToken;
+import com.sssukho.domain.token.RevokedTokenRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * revoked_token 테이블 기반 저장소
+ * - 모든 노드가 같은 테이블을 주기적으로 읽어서 폐기 목록을 동기화
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcRevokedTokenRepository implements RevokedTokenRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT IGNORE INTO revoked_token (token_id, expires_at, revoked_at) VALUES (?, ?, ?)";
+    private static final String SELECT_NOT_EXPIRED_SQL =
+        "SELECT token_id, expires_at, revoked_at FROM revoked_token WHERE expires_at > ?";
+    private static final String SELECT_REVOKED_SINCE_SQL =
+        "SELECT token_id, expires_at, revoked_at FROM revoked_token "
+            + "WHERE revoked_at >= ? AND expires_at > ?";
+    private static final String DELETE_EXPIRED_SQL =
+        "DELETE FROM revoked_token WHERE expires_at <= ? LIMIT ?";
+
+    private static final RowMapper<RevokedToken> ROW_MAPPER = (rs, rowNum) -> RevokedToken.of(
+        rs.getString("token_id"),
+        rs.getTimestamp("expires_at").toLocalDateTime(),
+        rs.getTimestamp("revoked_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(RevokedToken revokedToken) {
+        jdbcTemplate.update(INSERT_SQL, revokedToken.getTokenId(),
+            Timestamp.valueOf(revokedToken.getExpiresAt()),
+            Timestamp.valueOf(revokedToken.getRevokedAt()));
+    }
+
+    @Override
+    public List<RevokedToken> findAllNotExpired(LocalDateTime now) {
+        return jdbcTemplate.query(SELECT_NOT_EXPIRED_SQL, ROW_MAPPER, Timestamp.valueOf(now));
+    }
+
+    @Override
+    public List<RevokedToken> findAllRevokedSince(LocalDateTime since, LocalDateTime now) {
+        return jdbcTemplate.query(SELECT_REVOKED_SINCE_SQL, ROW_MAPPER, Timestamp.valueOf(since),
+            Timestamp.valueOf(now));
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(now), limit);
+    }
+}
@@ -0,0 +1,27 @@
+package com.sssukho.infra.token;
+
+import com.sssukho.domain.token.RefreshTokenRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * infra.refresh-token.store 값에 따라 refresh token 저장소 선택 (jdbc | memory)
+ */
+@Configuration
+public class RefreshTokenStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "infra.refresh-token", name = "store", havingValue = "jdbc",
+        matchIfMissing = true)
+    public RefreshTokenRepository jdbcRefreshTokenRepository(JdbcTemplate jdbcTemplate) {
+        return new JdbcRefreshTokenRepository(jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "infra.refresh-token", name = "store", havingValue = "memory")
+    public RefreshTokenRepository inMemoryRefreshTokenRepository() {
+        return new InMemoryRefreshTokenRepository();
+    }
+}
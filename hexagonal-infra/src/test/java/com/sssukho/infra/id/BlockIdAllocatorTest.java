@@ -0,0 +1,134 @@
+package com.sssukho.infra.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sssukho.testcontainer.mysql.MySQLContainerBaseTest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@Tag("integration-test")
+class BlockIdAllocatorTest implements MySQLContainerBaseTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(MYSQL_CONTAINER.getJdbcUrl(), MYSQL_USERNAME,
+            MYSQL_PASSWORD);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 구간 할당에 필요한 컬럼만 있는 테이블
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_sequence");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS room");
+        jdbcTemplate.execute("""
+            CREATE TABLE id_sequence (
+              name VARCHAR(64) NOT NULL,
+              next_val BIGINT NOT NULL,
+              PRIMARY KEY (name)
+            ) engine=InnoDB
+            """);
+        jdbcTemplate.execute("CREATE TABLE room (id BIGINT NOT NULL, PRIMARY KEY (id)) engine=InnoDB");
+    }
+
+    @DisplayName("처음 사용할 때 대상 테이블의 MAX(id) + 1 부터 발급한다.")
+    @Test
+    void testSeedFromMaxId() {
+        // given
+        jdbcTemplate.update("INSERT INTO room (id) VALUES (41), (42)");
+        BlockIdAllocator idAllocator = new BlockIdAllocator(dataSource, 10);
+
+        // when
+        long firstId = idAllocator.nextId(IdSequence.ROOM);
+
+        // then
+        assertEquals(43L, firstId);
+        assertEquals(53L, nextValOf(IdSequence.ROOM));
+    }
+
+    @DisplayName("구간 경계를 넘는 개수를 요청하면 새 구간에서 이어서 발급한다.")
+    @Test
+    void testNextIdsAcrossBlockBoundary() {
+        // given
+        BlockIdAllocator idAllocator = new BlockIdAllocator(dataSource, 3);
+        idAllocator.nextId(IdSequence.ROOM);
+
+        // when - 첫 구간 [1, 4) 에 2개가 남은 상태에서 7개 요청
+        List<Long> ids = idAllocator.nextIds(IdSequence.ROOM, 7);
+
+        // then - [1, 4), [4, 7), [7, 10) 세 구간에 걸쳐 빈틈 없이 발급
+        assertEquals(LongStream.rangeClosed(2, 8).boxed().toList(), ids);
+        assertEquals(10L, nextValOf(IdSequence.ROOM));
+    }
+
+    @DisplayName("여러 스레드와 여러 인스턴스에서 동시에 발급해도 id 가 겹치지 않는다.")
+    @Test
+    void testConcurrentNextIdNeverReturnsDuplicates() throws Exception {
+        // given - 인스턴스(노드) 2개, 인스턴스마다 스레드 4개
+        int threadsPerAllocator = 4;
+        int idsPerThread = 200;
+        List<BlockIdAllocator> idAllocators = List.of(new BlockIdAllocator(dataSource, 7),
+            new BlockIdAllocator(dataSource, 7));
+        int threadCount = idAllocators.size() * threadsPerAllocator;
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<List<Long>>> tasks = new ArrayList<>();
+        for (BlockIdAllocator idAllocator : idAllocators) {
+            for (int i = 0; i < threadsPerAllocator; i++) {
+                tasks.add(() -> {
+                    start.await();
+                    List<Long> ids = new ArrayList<>(idsPerThread);
+                    for (int n = 0; n < idsPerThread; n++) {
+                        ids.add(idAllocator.nextId(IdSequence.ROOM));
+                    }
+                    return ids;
+                });
+            }
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        Set<Long> issuedIds = new HashSet<>();
+        int issuedCount = 0;
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (Callable<List<Long>> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            for (Future<List<Long>> future : futures) {
+                List<Long> ids = future.get(30, TimeUnit.SECONDS);
+                issuedIds.addAll(ids);
+                issuedCount += ids.size();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertEquals(threadCount * idsPerThread, issuedCount);
+        assertEquals(issuedCount, issuedIds.size());
+    }
+
+    private long nextValOf(IdSequence sequence) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM id_sequence WHERE name = ?",
+            Long.class, sequence.tableName());
+    }
+}
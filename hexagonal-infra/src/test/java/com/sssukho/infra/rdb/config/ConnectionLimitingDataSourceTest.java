@@ -0,0 +1,74 @@
+package com.sssukho.infra.rdb.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConnectionLimitingDataSourceTest {
+
+    private DataSource targetDataSource;
+    private Connection targetConnection;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        targetConnection = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, 2, 10);
+    }
+
+    @DisplayName("최대 커넥션 수를 넘으면 대기 후 실패하고, 반환하면 다시 얻을 수 있다.")
+    @Test
+    void testLimitConnections() throws SQLException {
+        // given
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when & then
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+
+        first.close();
+        dataSource.getConnection();
+        assertEquals(0, dataSource.availablePermits());
+    }
+
+    @DisplayName("같은 커넥션을 여러번 close 해도 한번만 반환한다.")
+    @Test
+    void testReleaseOnce() throws SQLException {
+        // given
+        Connection connection = dataSource.getConnection();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        assertEquals(2, dataSource.availablePermits());
+        verify(targetConnection, times(1)).close();
+    }
+
+    @DisplayName("커넥션을 얻지 못하면 대기열 자리를 바로 반환한다.")
+    @Test
+    void testReleaseWhenTargetFails() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // when
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        // then
+        assertEquals(2, dataSource.availablePermits());
+    }
+}
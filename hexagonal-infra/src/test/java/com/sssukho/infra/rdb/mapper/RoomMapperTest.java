@@ -0,0 +1,86 @@
+package com.sssukho.infra.rdb.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.room.Room;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomMapperTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @DisplayName("거래가 없는 방은 거래 컬럼이 null 인 행 하나로 오고, 빈 거래 목록으로 변환한다.")
+    @Test
+    void testRoomWithoutDeals() {
+        // when
+        List<Room> rooms = aggregate(Stream.<Object[]>of(roomRow(1L, null, null, null, null)));
+
+        // then
+        assertEquals(1, rooms.size());
+        assertEquals(1L, rooms.get(0).getId());
+        assertEquals(RoomTypeDto.ONE_ROOM, rooms.get(0).getRoomTypeDto());
+        assertEquals(CREATED_AT, rooms.get(0).getCreatedAt());
+        assertTrue(rooms.get(0).getDeals().isEmpty());
+    }
+
+    @DisplayName("연속된 같은 방의 행은 거래 여러 건을 가진 방 하나로 묶고, 다음 방은 따로 전달한다.")
+    @Test
+    void testMultiDealRoomFollowedByAnotherRoom() {
+        // when
+        List<Room> rooms = aggregate(Stream.of(
+            roomRow(1L, 10L, "MONTHLY_RENT", 10_000_000L, 500_000L),
+            roomRow(1L, 11L, "YEAR_RENT", 200_000_000L, null),
+            roomRow(2L, 20L, "MONTHLY_RENT", 5_000_000L, 300_000L),
+            roomRow(3L, null, null, null, null)));
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L), rooms.stream().map(Room::getId).toList());
+
+        List<Deal> firstRoomDeals = rooms.get(0).getDeals();
+        assertEquals(List.of(10L, 11L), firstRoomDeals.stream().map(Deal::getId).toList());
+        assertEquals(DealTypeDto.YEAR_RENT, firstRoomDeals.get(1).getDealTypeDto());
+        assertNull(firstRoomDeals.get(1).getMonthlyRent());
+        assertTrue(firstRoomDeals.stream().allMatch(deal -> deal.getRoomId().equals(1L)));
+
+        assertEquals(List.of(20L), rooms.get(1).getDeals().stream().map(Deal::getId).toList());
+        assertTrue(rooms.get(2).getDeals().isEmpty());
+    }
+
+    @DisplayName("행이 없으면 아무 방도 전달하지 않는다.")
+    @Test
+    void testEmptyRows() {
+        assertTrue(aggregate(Stream.empty()).isEmpty());
+    }
+
+    private static List<Room> aggregate(Stream<Object[]> joinedRows) {
+        List<Room> rooms = new ArrayList<>();
+        RoomMapper.forEachAggregateFromJoinedRows(joinedRows, rooms::add);
+        return rooms;
+    }
+
+    /**
+     * RoomMapper.forEachAggregateFromJoinedRows 의 컬럼 순서로 만든 조인 행
+     */
+    private static Object[] roomRow(long roomId, Long dealId, String dealType, Long deposit,
+        Long monthlyRent) {
+        return new Object[]{
+            roomId, "제목" + roomId, null, "주소", 33.0, "ONE_ROOM", 1L,
+            Timestamp.valueOf(CREATED_AT), Timestamp.valueOf(CREATED_AT),
+            dealId, dealType,
+            deposit != null ? BigDecimal.valueOf(deposit) : null,
+            monthlyRent != null ? BigDecimal.valueOf(monthlyRent) : null
+        };
+    }
+}
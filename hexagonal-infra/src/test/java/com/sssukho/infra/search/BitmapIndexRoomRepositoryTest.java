@@ -0,0 +1,113 @@
+package com.sssukho.infra.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.room.Room;
+import com.sssukho.infra.rdb.repository.RoomRepositoryImpl;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BitmapIndexRoomRepositoryTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private RoomRepositoryImpl rdbRoomRepository;
+
+    private BitmapRoomSearchIndex searchIndex;
+
+    private BitmapIndexRoomRepository bitmapIndexRoomRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 방 1 ~ 5 를 인덱스에 적재 (최신순: 5, 4, 3, 2, 1)
+        searchIndex = new BitmapRoomSearchIndex(16);
+        searchIndex.load(LongStream.rangeClosed(1, 5).mapToObj(BitmapIndexRoomRepositoryTest::room)
+            .toList());
+        bitmapIndexRoomRepository = new BitmapIndexRoomRepository(rdbRoomRepository, searchIndex);
+    }
+
+    @DisplayName("인덱스에만 남아있는 방은 인덱스에서 제거하고 다음 방으로 페이지를 채운다.")
+    @Test
+    void testRefillPageWhenIndexedRoomsAreMissing() {
+        // given - 방 3, 4 는 다른 노드에서 삭제되어 DB 에 없음
+        givenRoomsInDatabase(1L, 2L, 5L);
+
+        // when
+        List<Room> result = bitmapIndexRoomRepository.searchRooms(request(0, 3));
+
+        // then
+        assertEquals(List.of(5L, 2L, 1L), result.stream().map(Room::getId).toList());
+        assertArrayEquals(new long[]{1L, 2L, 5L}, searchIndex.roomIds());
+    }
+
+    @DisplayName("페이지의 방이 모두 DB 에 없으면 같은 조건으로 다시 검색한다.")
+    @Test
+    void testRefillPageWhenAllIndexedRoomsAreMissing() {
+        // given - 방 3, 4 는 다른 노드에서 삭제되어 DB 에 없음
+        givenRoomsInDatabase(1L, 2L, 5L);
+
+        // when
+        List<Room> result = bitmapIndexRoomRepository.searchRooms(request(1, 1));
+
+        // then - 방 4, 3 이 차례로 제거된 뒤의 두번째 페이지
+        assertEquals(List.of(2L), result.stream().map(Room::getId).toList());
+        assertArrayEquals(new long[]{1L, 2L, 5L}, searchIndex.roomIds());
+    }
+
+    @DisplayName("인덱스의 방을 모두 제거해서 더 찾을 방이 없으면 찾은 만큼만 반환한다.")
+    @Test
+    void testReturnShortPageWhenIndexIsExhausted() {
+        // given
+        givenRoomsInDatabase(5L);
+
+        // when
+        List<Room> result = bitmapIndexRoomRepository.searchRooms(request(0, 3));
+
+        // then
+        assertEquals(List.of(5L), result.stream().map(Room::getId).toList());
+        assertArrayEquals(new long[]{5L}, searchIndex.roomIds());
+    }
+
+    private void givenRoomsInDatabase(Long... roomIds) {
+        Map<Long, Room> roomsById = List.of(roomIds).stream()
+            .map(BitmapIndexRoomRepositoryTest::room)
+            .collect(Collectors.toMap(Room::getId, Function.identity()));
+        when(rdbRoomRepository.findAllByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> requestedIds = invocation.getArgument(0);
+            return requestedIds.stream().map(roomsById::get).filter(Objects::nonNull).toList();
+        });
+    }
+
+    private static RoomSearchRequest request(int page, int size) {
+        return new RoomSearchRequest(null, null, null, null, null, null, page, size);
+    }
+
+    private static Room room(long id) {
+        Room room = Room.of(id, "제목" + id, null, null, null, RoomTypeDto.ONE_ROOM, 1L,
+            BASE_TIME.plusSeconds(id), null);
+        room.setDeals(List.of(Deal.of(DealTypeDto.MONTHLY_RENT, BigDecimal.valueOf(1_000_000),
+            BigDecimal.valueOf(500_000), id)));
+        return room;
+    }
+}
@@ -0,0 +1,140 @@
+package com.sssukho.infra.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sssukho.common.dto.room.DealTypeDto;
+import com.sssukho.common.dto.room.RoomCursor;
+import com.sssukho.common.dto.room.RoomSearchRequest;
+import com.sssukho.common.dto.room.RoomTypeDto;
+import com.sssukho.domain.deal.Deal;
+import com.sssukho.domain.room.Room;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BitmapRoomSearchIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private BitmapRoomSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new BitmapRoomSearchIndex(4);
+        searchIndex.load(List.of(
+            room(1L, RoomTypeDto.ONE_ROOM, 1,
+                deal(1L, DealTypeDto.MONTHLY_RENT, 10_000_000, 500_000)),
+            room(2L, RoomTypeDto.TWO_ROOM, 2,
+                deal(2L, DealTypeDto.YEAR_RENT, 300_000_000, null)),
+            room(3L, RoomTypeDto.ONE_ROOM, 3,
+                deal(3L, DealTypeDto.MONTHLY_RENT, 5_000_000, 700_000),
+                deal(3L, DealTypeDto.YEAR_RENT, 200_000_000, null)),
+            room(4L, RoomTypeDto.THREE_ROOM, 4)));
+    }
+
+    @DisplayName("조건이 없으면 거래가 있는 방 전체를 최신순으로 조회한다.")
+    @Test
+    void testSearchWithoutFilter() {
+        assertEquals(List.of(3L, 2L, 1L), searchIndex.search(request(null, null, null, null, 0, 10)));
+    }
+
+    @DisplayName("방 유형과 거래 조건을 모두 만족하는 방만 조회한다.")
+    @Test
+    void testSearchWithFilter() {
+        List<Long> result = searchIndex.search(request(List.of(RoomTypeDto.ONE_ROOM),
+            List.of(DealTypeDto.MONTHLY_RENT), BigDecimal.valueOf(8_000_000), null, 0, 10));
+
+        assertEquals(List.of(1L), result);
+    }
+
+    @DisplayName("거래 조건은 하나의 거래가 모두 만족해야 한다.")
+    @Test
+    void testSearchRequiresSingleDealToMatchAllConditions() {
+        // 방3 은 월세 거래(보증금 500만) 와 전세 거래(보증금 2억) 를 가지고 있음
+        List<Long> result = searchIndex.search(request(null, List.of(DealTypeDto.MONTHLY_RENT),
+            BigDecimal.valueOf(100_000_000), null, 0, 10));
+
+        assertEquals(List.of(), result);
+    }
+
+    @DisplayName("offset 방식과 cursor 방식으로 페이지를 조회한다.")
+    @Test
+    void testSearchWithPaging() {
+        assertEquals(List.of(2L), searchIndex.search(request(null, null, null, null, 1, 1)));
+
+        RoomSearchRequest cursorRequest = new RoomSearchRequest(null, null, null, null, null, null,
+            0, 10, new RoomCursor(BASE_TIME.plusSeconds(3), 3L));
+        assertEquals(List.of(2L, 1L), searchIndex.search(cursorRequest));
+    }
+
+    @DisplayName("등록/수정/삭제 변경분이 검색 결과에 반영된다.")
+    @Test
+    void testSearchReflectsChanges() {
+        searchIndex.upsert(room(5L, RoomTypeDto.TWO_ROOM, 5,
+            deal(5L, DealTypeDto.MONTHLY_RENT, 1_000_000, 300_000)));
+        searchIndex.remove(3L);
+
+        // 거래 정보 없이 방 유형만 변경된 경우 기존 거래 유지
+        Room changedRoom = Room.of(1L, "제목", null, null, null, RoomTypeDto.TWO_ROOM, 1L,
+            BASE_TIME.plusSeconds(1), null);
+        searchIndex.upsert(changedRoom);
+
+        assertEquals(List.of(5L, 1L), searchIndex.search(request(List.of(RoomTypeDto.TWO_ROOM),
+            List.of(DealTypeDto.MONTHLY_RENT), null, null, 0, 10)));
+
+        // 임계치를 넘겨 스냅샷을 재구성한 뒤에도 동일한 결과
+        searchIndex.upsert(room(6L, RoomTypeDto.THREE_ROOM, 6));
+        assertEquals(List.of(5L, 1L), searchIndex.search(request(List.of(RoomTypeDto.TWO_ROOM),
+            List.of(DealTypeDto.MONTHLY_RENT), null, null, 0, 10)));
+    }
+
+    @DisplayName("인덱스에 있는 방 id 를 변경분까지 반영해서 오름차순으로 반환한다.")
+    @Test
+    void testRoomIdsReflectChanges() {
+        searchIndex.upsert(room(5L, RoomTypeDto.TWO_ROOM, 5));
+        searchIndex.removeAll(List.of(2L, 4L));
+
+        assertArrayEquals(new long[]{1L, 3L, 5L}, searchIndex.roomIds());
+    }
+
+    @DisplayName("같은 방을 여러 번 변경하면 마지막 변경만 검색 결과에 반영된다.")
+    @Test
+    void testSearchUsesLatestChangeOfSameRoom() {
+        searchIndex = new BitmapRoomSearchIndex(16);
+        searchIndex.load(List.of(room(1L, RoomTypeDto.ONE_ROOM, 1,
+            deal(1L, DealTypeDto.MONTHLY_RENT, 10_000_000, 500_000))));
+
+        searchIndex.upsert(room(1L, RoomTypeDto.TWO_ROOM, 1,
+            deal(1L, DealTypeDto.MONTHLY_RENT, 10_000_000, 500_000)));
+        searchIndex.upsert(room(1L, RoomTypeDto.THREE_ROOM, 1,
+            deal(1L, DealTypeDto.MONTHLY_RENT, 10_000_000, 500_000)));
+
+        assertEquals(List.of(), searchIndex.search(request(List.of(RoomTypeDto.TWO_ROOM), null,
+            null, null, 0, 10)));
+        assertEquals(List.of(1L), searchIndex.search(request(List.of(RoomTypeDto.THREE_ROOM),
+            null, null, null, 0, 10)));
+    }
+
+    private static RoomSearchRequest request(List<RoomTypeDto> roomTypes,
+        List<DealTypeDto> dealTypes, BigDecimal minDeposit, BigDecimal maxMonthlyRent, int page,
+        int size) {
+        return new RoomSearchRequest(roomTypes, dealTypes, minDeposit, null, null, maxMonthlyRent,
+            page, size);
+    }
+
+    private static Room room(long id, RoomTypeDto roomType, int createdAtSeconds, Deal... deals) {
+        Room room = Room.of(id, "제목" + id, null, null, null, roomType, 1L,
+            BASE_TIME.plusSeconds(createdAtSeconds), null);
+        room.setDeals(List.of(deals));
+        return room;
+    }
+
+    private static Deal deal(long roomId, DealTypeDto dealType, long deposit, Integer monthlyRent) {
+        return Deal.of(dealType, BigDecimal.valueOf(deposit),
+            monthlyRent != null ? BigDecimal.valueOf(monthlyRent) : null, roomId);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sssukho.infra.token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sssukho.domain.token.RefreshToken;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private InMemoryRefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = new InMemoryRefreshTokenRepository();
+    }
+
+    @DisplayName("교체된 토큰으로는 다시 교체할 수 없다.")
+    @Test
+    void testRotatedTokenCannotBeReused() {
+        // given
+        refreshTokenRepository.save(token("old", 1L, NOW.plusDays(1)));
+
+        // when
+        boolean first = refreshTokenRepository.rotate("old", token("new", 1L, NOW.plusDays(1)),
+            NOW);
+        boolean reused = refreshTokenRepository.rotate("old",
+            token("another", 1L, NOW.plusDays(1)), NOW);
+
+        // then
+        assertTrue(first);
+        assertFalse(reused);
+        assertTrue(refreshTokenRepository.rotate("new", token("next", 1L, NOW.plusDays(1)), NOW));
+    }
+
+    @DisplayName("만료된 토큰은 교체할 수 없고 batch 크기만큼 정리된다.")
+    @Test
+    void testExpiredTokens() {
+        // given
+        refreshTokenRepository.save(token("expired1", 1L, NOW.minusSeconds(1)));
+        refreshTokenRepository.save(token("expired2", 2L, NOW.minusSeconds(1)));
+        refreshTokenRepository.save(token("valid", 1L, NOW.plusDays(1)));
+
+        // when & then
+        assertFalse(refreshTokenRepository.rotate("expired1",
+            token("new", 1L, NOW.plusDays(1)), NOW));
+        assertEquals(1, refreshTokenRepository.deleteExpired(NOW, 1));
+        assertEquals(0, refreshTokenRepository.deleteExpired(NOW, 1));
+        assertEquals(1, refreshTokenRepository.deleteAllByMemberId(1L));
+    }
+
+    private static RefreshToken token(String tokenHash, Long memberId, LocalDateTime expiresAt) {
+        return RefreshToken.of(tokenHash, memberId, expiresAt, NOW);
+    }
+}
@@ -21,8 +21,11 @@ CREATE TABLE IF NOT EXISTS room (
   primary key (id)
 ) engine=InnoDB;
 CREATE INDEX idx_room_owner_id ON room(owner_id);
+CREATE INDEX idx_room_owner_id_created_at ON room(owner_id, created_at, id); -- 내 방 목록 커서 조회시
+CREATE INDEX idx_room_owner_id_updated_at ON room(owner_id, updated_at); -- 내 방 목록 ETag 확인시
 CREATE INDEX idx_room_room_type ON room(room_type); -- 조건 검색시
-CREATE INDEX idx_room_created_at_desc ON room (created_at DESC); -- 정렬 조건
+CREATE INDEX idx_room_created_at_desc ON room (created_at DESC, id DESC); -- 정렬 조건 및 커서 조회시
+CREATE INDEX idx_room_updated_at ON room(updated_at); -- 비트맵 검색 인덱스를 다른 노드의 변경과 맞출 때
 
 CREATE TABLE IF NOT EXISTS deal (
   id BIGINT NOT NULL AUTO_INCREMENT,
@@ -50,3 +53,31 @@ CREATE TABLE IF NOT EXISTS member (
   PRIMARY KEY (id)
 ) engine=InnoDB;
 CREATE UNIQUE INDEX idx_member_email ON member(email);
+
+-- refresh token 은 원문 대신 SHA-256 해시만 저장. 회원당 세션 수만큼 존재
+CREATE TABLE IF NOT EXISTS refresh_token (
+  token_hash CHAR(64) NOT NULL,
+  member_id BIGINT NOT NULL,
+  expires_at DATETIME(6) NOT NULL,
+  created_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (token_hash)
+) engine=InnoDB;
+CREATE INDEX idx_refresh_token_member_id ON refresh_token(member_id); -- 재사용 감지 시 회원 세션 전체 폐기
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token(expires_at); -- 만료 토큰 정리
+
+-- 만료 전에 폐기된 액세스 토큰의 jti. 각 노드가 주기적으로 읽어서 메모리의 폐기 목록과 동기화
+CREATE TABLE IF NOT EXISTS revoked_token (
+  token_id VARCHAR(64) NOT NULL,
+  expires_at DATETIME(6) NOT NULL,
+  revoked_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (token_id)
+) engine=InnoDB;
+CREATE INDEX idx_revoked_token_revoked_at ON revoked_token(revoked_at); -- 노드 간 동기화
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token(expires_at); -- 만료 토큰 정리
+
+-- room/deal/member id 구간 할당 (hi-lo). 처음 사용할 때 각 테이블의 MAX(id) + 1 부터 시작
+CREATE TABLE IF NOT EXISTS id_sequence (
+  name VARCHAR(64) NOT NULL,
+  next_val BIGINT NOT NULL,
+  PRIMARY KEY (name)
+) engine=InnoDB;